@@ -3,54 +3,72 @@ package com.spring.toyproject.api;
 import com.spring.toyproject.domain.dto.common.ApiResponse;
 import com.spring.toyproject.domain.dto.request.LoginRequest;
 import com.spring.toyproject.domain.dto.request.SignUpRequest;
-import com.spring.toyproject.domain.dto.response.AuthResponse;
-import com.spring.toyproject.domain.dto.response.UserResponse;
+import com.spring.toyproject.service.PasswordHashService;
 import com.spring.toyproject.service.UserService;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @RestController
 @RequestMapping("/api/auth")
 @Slf4j
-@RequiredArgsConstructor
 public class AuthController {
 
     private final UserService userService;
+    private final PasswordHashService passwordHashService;
+
+    // 해시가 끝난 가입 요청의 INSERT를 처리 (해시 스레드에서 DB 작업을 하지 않도록)
+    private final Executor signupExecutor;
+
+    public AuthController(UserService userService,
+                          PasswordHashService passwordHashService,
+                          @Qualifier("signupExecutor") Executor signupExecutor) {
+        this.userService = userService;
+        this.passwordHashService = passwordHashService;
+        this.signupExecutor = signupExecutor;
+    }
 
     /**
      * 회원가입 API
      * POST : /api/auth/signup
+     * 비밀번호 해시는 전용 스레드풀에서 처리하고 응답은 비동기로 전송 (해시 대기열이 가득 차면 503)
      */
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@Valid @RequestBody SignUpRequest requestDto) {
+    public CompletableFuture<ResponseEntity<?>> signup(@Valid @RequestBody SignUpRequest requestDto) {
         log.info("회원가입 요청: {}", requestDto.getUsername());
 
-        UserResponse response = userService.signup(requestDto);
+        // 중복이면 해시 계산 없이 바로 실패
+        userService.checkSignupAvailable(requestDto);
 
-        return ResponseEntity
-                .ok()
-                .body(
-                        ApiResponse.success("회원가입이 성공적으로 완료되었습니다.", response)
-                );
+        // 해시가 끝나면 가입 전용 스레드에서 이어서 저장 (짧은 INSERT 트랜잭션 하나)
+        return passwordHashService.encode(requestDto.getPassword())
+                .thenApplyAsync(encodedPassword -> userService.signup(requestDto, encodedPassword), signupExecutor)
+                .thenApply(response -> ResponseEntity
+                        .ok()
+                        .body(
+                                ApiResponse.success("회원가입이 성공적으로 완료되었습니다.", response)
+                        ));
 
     }
 
     /**
      * 로그인 API - GET 방식은 URL에 파라미터가 노출될 가능성이 높음
      * POST /api/auth/login
+     * 비밀번호 검증은 전용 스레드풀에서 처리하고 응답은 비동기로 전송 (해시 대기열이 가득 차면 503)
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest requestDto) {
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest requestDto) {
         log.info("로그인 요청: {}", requestDto.getUsernameOrEmail());
 
-        AuthResponse response = userService.authenticate(requestDto);
-
-        return ResponseEntity.ok().body(
-                ApiResponse.success("로그인이 완료되었습니다.", response)
-        );
+        return userService.authenticate(requestDto)
+                .thenApply(response -> ResponseEntity.ok().body(
+                        ApiResponse.success("로그인이 완료되었습니다.", response)
+                ));
     }
 
     /**
@@ -76,7 +94,7 @@ public class AuthController {
     @GetMapping("/check-email")
     public ResponseEntity<?> checkEmail(@RequestParam String email) {
 
-        boolean exists = userService.checkDuplicateUsername(email);
+        boolean exists = userService.checkDuplicateEmail(email);
 
         return ResponseEntity.ok()
                 .body(ApiResponse.success(
@@ -0,0 +1,34 @@
+package com.spring.toyproject.api;
+
+import com.spring.toyproject.domain.dto.common.ApiResponse;
+import com.spring.toyproject.domain.dto.response.DashboardStatsDto;
+import com.spring.toyproject.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 대시보드 여행 통계 API (여행 수, 여행일지 수, 평균 평점, 총 지출)
+     * GET /api/dashboard/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats(
+            @AuthenticationPrincipal(expression = "userId") Long userId
+    ) {
+        DashboardStatsDto stats = dashboardService.getStats(userId);
+
+        return ResponseEntity.ok(ApiResponse.success("여행 통계가 조회되었습니다.", stats));
+    }
+}
@@ -1,15 +1,19 @@
 package com.spring.toyproject.api;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.spring.toyproject.domain.dto.common.ApiResponse;
 import com.spring.toyproject.domain.dto.request.TagRequestDto;
 import com.spring.toyproject.domain.dto.response.TagResponseDto;
 import com.spring.toyproject.domain.entity.TagCategory;
+import com.spring.toyproject.service.TagCatalogCache;
 import com.spring.toyproject.service.TagService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -42,11 +46,21 @@ public class TagController {
      * GET /api/tags?category={category}
      */
     @GetMapping
-    public ResponseEntity<?> getTagsByCategory(@RequestParam(name = "category") TagCategory category) {
-        List<TagResponseDto> list = tagService.getTagsByCategory(category);
-        return ResponseEntity.ok(
-                ApiResponse.success("해시태그 목록이 조회됨", list)
-        );
+    public ResponseEntity<ApiResponse<RawValue>> getTagsByCategory(
+            @RequestParam(name = "category") TagCategory category,
+            WebRequest webRequest
+    ) {
+        TagCatalogCache.TagCatalog catalog = tagService.getTagCatalog(category);
+
+        // If-None-Match가 같으면 본문 없이 304 응답
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("해시태그 목록이 조회됨", catalog.getTags()));
     }
 
     /**
@@ -54,8 +68,10 @@ public class TagController {
      * GET /api/tags/search?keyword={tagName}
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<TagResponseDto>>> searchTags(@RequestParam(name = "keyword") String keyword) {
-        List<TagResponseDto> list = tagService.searchTags(keyword);
+    public ResponseEntity<ApiResponse<List<TagResponseDto>>> searchTags(
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "category", required = false) TagCategory category) {
+        List<TagResponseDto> list = tagService.searchTags(keyword, category);
         return ResponseEntity.ok(ApiResponse.success("[%s] 검색어를 통한 조회 성공!".formatted(keyword), list));
     }
 }
@@ -1,11 +1,14 @@
 package com.spring.toyproject.api;
 
 import com.spring.toyproject.domain.dto.common.ApiResponse;
+import com.spring.toyproject.domain.dto.common.CursorPage;
 import com.spring.toyproject.domain.dto.request.TravelLogRequestDto;
 import com.spring.toyproject.domain.dto.response.TagResponseDto;
 import com.spring.toyproject.domain.dto.response.TravelLogResponseDto;
 import com.spring.toyproject.repository.custom.TravelLogRepositoryCustom;
 import com.spring.toyproject.service.TravelLogService;
+import com.spring.toyproject.storage.PhotoStorage;
+import com.spring.toyproject.storage.StagedPhoto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,7 +31,11 @@ import java.util.List;
 @RequestMapping("/api/travel-logs")
 public class TravelLogController {
 
+    // 여행일지 하나에 첨부할 수 있는 최대 사진 수
+    private static final int MAX_PHOTOS_PER_LOG = 5;
+
     private final TravelLogService travelLogService;
+    private final PhotoStorage photoStorage;
 
     /**
      * 여행일지 생성 API
@@ -42,14 +49,17 @@ public class TravelLogController {
             @RequestParam Long tripId
             , @RequestPart(name = "data") @Valid TravelLogRequestDto requestDto
             , @RequestPart(name = "files") List<MultipartFile> files
-            , @AuthenticationPrincipal String username
+            , @AuthenticationPrincipal(expression = "userId") Long userId
     ) {
-        log.info("여행 일지 생성 API 호출 - 사용자: {}, 여행ID: {}", username, tripId);
+        log.info("여행 일지 생성 API 호출 - 사용자ID: {}, 여행ID: {}", userId, tripId);
         for (MultipartFile file : files) {
             log.info("첨부된 파일명: {}", file.getOriginalFilename());
         }
 
-        travelLogService.createTravelLog(requestDto, tripId, username, files);
+        // 사진 파일은 DB 트랜잭션 밖에서 임시 영역에 먼저 병렬 저장
+        List<StagedPhoto> stagedPhotos = photoStorage.stage(files, MAX_PHOTOS_PER_LOG);
+
+        travelLogService.createTravelLog(requestDto, tripId, userId, stagedPhotos);
 
         return ResponseEntity.ok()
                 .body(ApiResponse.success("여행일지가 성공적으로 생성되었습니다.", null));
@@ -58,18 +68,24 @@ public class TravelLogController {
     /**
      * 여행일지 목록조회 API
      * GET /api/travel-logs
+     *
+     * cursor 파라미터가 있으면 커서 페이징 모드로 동작 (첫 페이지는 cursor= 빈값)
+     * 응답의 nextCursor를 다음 요청의 cursor로 그대로 전달
      */
     @GetMapping
     public ResponseEntity<?> getTravelLogs(
-            @AuthenticationPrincipal String username,
+            @AuthenticationPrincipal(expression = "userId") Long userId,
             @RequestParam(name = "tripId", required = false) Long tripId,
             @RequestParam(name = "location", required = false) String location,
             @RequestParam(name = "logDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate logDate,
+            @RequestParam(name = "sortBy", defaultValue = "logDate") String sortBy,
+            @RequestParam(name = "sortDirection", defaultValue = "ASC") String sortDirection,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "10") int size) {
 
-        log.info("여행일지 목록 조회 API 호출 - 사용자: {}, 여행 ID: {}, 페이지: {}, 크기: {}",
-                username, tripId, page, size);
+        log.info("여행일지 목록 조회 API 호출 - 사용자ID: {}, 여행 ID: {}, 페이지: {}, 크기: {}",
+                userId, tripId, page, size);
 
 
         // 검색 조건 구성
@@ -77,40 +93,101 @@ public class TravelLogController {
                 TravelLogRepositoryCustom.TravelLogSearchCondition.builder()
                         .location(location)
                         .logDate(logDate)
+                        .sortBy(sortBy)
+                        .sortDirection(sortDirection)
                         .build();
 
+        // 커서 페이징 모드
+        if (cursor != null) {
+            CursorPage<TravelLogResponseDto> travelLogs
+                    = travelLogService.getTravelLogsByCursor(userId, tripId, condition, cursor, Math.max(size, 1));
+            return ResponseEntity.ok(ApiResponse.success("", travelLogs));
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        Page<TravelLogResponseDto> travelLogs = travelLogService.getTravelLogsByTrip(username, tripId, condition, pageable);
+        Page<TravelLogResponseDto> travelLogs = travelLogService.getTravelLogsByTrip(userId, tripId, condition, pageable);
 
         return ResponseEntity.ok(ApiResponse.success("", travelLogs));
     }
 
+    /**
+     * 여행일지 통합 검색 API (제목/내용/위치/태그명)
+     * GET /api/travel-logs/search?keyword={keyword}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTravelLogs(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+
+        log.info("여행일지 검색 API 호출 - 사용자ID: {}, 검색어: {}", userId, keyword);
+
+        Page<TravelLogResponseDto> result
+                = travelLogService.searchTravelLogs(userId, keyword, PageRequest.of(page, size));
+
+        return ResponseEntity.ok(ApiResponse.success("[%s] 검색어를 통한 조회 성공!".formatted(keyword), result));
+    }
+
     /**
      * 여행일지 상세 조회 API
      * GET /api/travel-logs/{travelLogId}
      */
     @GetMapping("/{travelLogId}")
     public ResponseEntity<?> getTravelLogDetail(
-            @AuthenticationPrincipal String username,
+            @AuthenticationPrincipal(expression = "userId") Long userId,
             @PathVariable(name = "travelLogId") Long travelLogId) {
 
-        log.info("여행일지 상세 조회 API 호출 - 사용자: {}, 여행일지 ID: {}", username, travelLogId);
+        log.info("여행일지 상세 조회 API 호출 - 사용자ID: {}, 여행일지 ID: {}", userId, travelLogId);
 
-        TravelLogResponseDto travelLogDetail = travelLogService.getTravelLogDetail(username, travelLogId);
+        TravelLogResponseDto travelLogDetail = travelLogService.getTravelLogDetail(userId, travelLogId);
 
         return ResponseEntity.ok(ApiResponse.success("", travelLogDetail));
     }
 
+    /**
+     * 여행일지 수정 API (사진 제외)
+     * PUT /api/travel-logs/{travelLogId}
+     */
+    @PutMapping("/{travelLogId}")
+    public ResponseEntity<?> updateTravelLog(
+            @PathVariable Long travelLogId
+            , @RequestBody @Valid TravelLogRequestDto requestDto
+            , @AuthenticationPrincipal(expression = "userId") Long userId
+    ) {
+        log.info("여행일지 수정 API 호출 - 사용자ID: {}, 여행일지 ID: {}", userId, travelLogId);
+
+        TravelLogResponseDto response = travelLogService.updateTravelLog(userId, travelLogId, requestDto);
+
+        return ResponseEntity.ok(ApiResponse.success("여행일지가 수정되었습니다.", response));
+    }
+
+    /**
+     * 여행일지 삭제 API
+     * DELETE /api/travel-logs/{travelLogId}
+     */
+    @DeleteMapping("/{travelLogId}")
+    public ResponseEntity<?> deleteTravelLog(
+            @PathVariable Long travelLogId
+            , @AuthenticationPrincipal(expression = "userId") Long userId
+    ) {
+        log.info("여행일지 삭제 API 호출 - 사용자ID: {}, 여행일지 ID: {}", userId, travelLogId);
+
+        travelLogService.deleteTravelLog(userId, travelLogId);
+
+        return ResponseEntity.ok(ApiResponse.success("여행일지가 삭제되었습니다.", null));
+    }
+
     /**
      * 여행 일지 단건 조회시 해시태그 목록 조회 API
      * GET /api/travel-logs/{id}/tags
      */
     @GetMapping("/{travelLogId}/tags")
     public ResponseEntity<?> getTags(
-            @AuthenticationPrincipal String username
+            @AuthenticationPrincipal(expression = "userId") Long userId
             , @PathVariable Long travelLogId
     ) {
-        List<TagResponseDto> responses = travelLogService.getTagsByTravelLog(username, travelLogId);
+        List<TagResponseDto> responses = travelLogService.getTagsByTravelLog(userId, travelLogId);
         return ResponseEntity.ok(ApiResponse.success("", responses));
     }
 }
\ No newline at end of file
@@ -10,9 +10,11 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @RestController
@@ -22,12 +24,28 @@ public class TravelPhotoController {
 
     private final TravelLogService travelLogService;
 
+    /**
+     * 여러 여행일지의 사진 일괄 조회 API
+     * GET /api/photos?travelLogIds=1,2,3
+     *
+     * 응답은 여행일지 ID별 사진 목록 (다른 사용자의 여행일지는 빈 목록)
+     */
+    @GetMapping
+    public ResponseEntity<?> getPhotosByTravelLogs(
+            @AuthenticationPrincipal(expression = "userId") Long userId
+            , @RequestParam List<Long> travelLogIds
+    ) {
+        Map<Long, List<TravelPhotoResponseDto>> photos = travelLogService.getPhotos(travelLogIds, userId);
+
+        return ResponseEntity.ok(ApiResponse.success("", photos));
+    }
+
     @GetMapping("/{travelLogId}")
     public ResponseEntity<?> getPhotos(
-            @AuthenticationPrincipal String username
+            @AuthenticationPrincipal(expression = "userId") Long userId
             , @PathVariable Long travelLogId
     ) {
-        List<TravelPhotoResponseDto> photos = travelLogService.getPhotos(travelLogId, username);
+        List<TravelPhotoResponseDto> photos = travelLogService.getPhotos(travelLogId, userId);
 
         return ResponseEntity.ok(ApiResponse.success("", photos));
     }
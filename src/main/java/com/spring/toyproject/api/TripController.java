@@ -1,14 +1,20 @@
 package com.spring.toyproject.api;
 
 import com.spring.toyproject.domain.dto.common.ApiResponse;
+import com.spring.toyproject.domain.dto.common.CursorPage;
 import com.spring.toyproject.domain.dto.request.TripRequest;
 import com.spring.toyproject.domain.dto.request.TripSearchRequestDto;
 import com.spring.toyproject.domain.dto.response.TagResponseDto;
+import com.spring.toyproject.domain.dto.response.TravelLogImportResultDto;
 import com.spring.toyproject.domain.dto.response.TripDetailDto;
 import com.spring.toyproject.domain.dto.response.TripListItemDto;
+import com.spring.toyproject.domain.entity.TagCategory;
 import com.spring.toyproject.domain.entity.Trip;
+import com.spring.toyproject.importer.ImportFormat;
 import com.spring.toyproject.repository.custom.TripRepositoryCustom;
 import com.spring.toyproject.service.TagService;
+import com.spring.toyproject.service.TravelLogImportService;
+import com.spring.toyproject.service.TripExportService;
 import com.spring.toyproject.service.TripService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,11 +22,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -31,6 +42,8 @@ public class TripController {
 
     private final TripService tripService;
     private final TagService tagService;
+    private final TravelLogImportService travelLogImportService;
+    private final TripExportService tripExportService;
 
     /**
      * 여행 생성 API
@@ -40,11 +53,14 @@ public class TripController {
     public ResponseEntity<?> createTrip(
             @RequestBody @Valid TripRequest request
             // 스프링 시큐리티 컨텍스트에서 인증된 사용자의 정보를 가져옴
-            , @AuthenticationPrincipal String username
+            , @AuthenticationPrincipal(expression = "userId") Long userId
     ) {
-        log.info("여행 생성 API 호출 - 사용자: {}", username);
+        log.info("여행 생성 API 호출 - 사용자ID: {}", userId);
 
-        Trip response = tripService.createTrip(request, username);
+        Trip trip = tripService.createTrip(request, userId);
+
+        // 엔터티 대신 DTO로 응답 (사용자는 ID 참조만 있는 프록시라 직렬화하지 않음, 새 여행이므로 집계는 0)
+        TripDetailDto response = TripDetailDto.from(trip, null);
 
         return ResponseEntity.ok()
                 .body(
@@ -58,19 +74,29 @@ public class TripController {
     /**
      * 사용자별 여행 목록 조회 API (동적 쿼리)
      * GET /api/trips
+     *
+     * cursor 파라미터가 있으면 커서 페이징 모드로 동작 (첫 페이지는 cursor= 빈값)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<TripListItemDto>>> getUserTrips(
-            @AuthenticationPrincipal String username,
+    public ResponseEntity<?> getUserTrips(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
             TripSearchRequestDto request) {
 
-        log.info("사용자별 여행 목록 조회 API 호출 - 사용자: {}, 페이지: {}, 크기: {}",
-                username, request.getPage(), request.getSize());
+        log.info("사용자별 여행 목록 조회 API 호출 - 사용자ID: {}, 페이지: {}, 크기: {}",
+                userId, request.getPage(), request.getSize());
 
 
         TripRepositoryCustom.TripSearchCondition condition = request.toCondition();
+
+        // 커서 페이징 모드
+        if (request.getCursor() != null) {
+            CursorPage<TripListItemDto> trips = tripService.getUserTripsByCursor(
+                    userId, condition, request.getCursor(), Math.max(request.getSize(), 1));
+            return ResponseEntity.ok(ApiResponse.success("여행 정보 목록이 조회되었습니다.", trips));
+        }
+
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<TripListItemDto> trips = tripService.getUserTripsList(username, condition, pageable);
+        Page<TripListItemDto> trips = tripService.getUserTripsList(userId, condition, pageable);
 
         return ResponseEntity.ok(ApiResponse.success("여행 정보 목록이 조회되었습니다.", trips));
     }
@@ -82,25 +108,79 @@ public class TripController {
     @GetMapping("/{tripId}")
     public ResponseEntity<?> getTrip(
             @PathVariable Long tripId
-            , @AuthenticationPrincipal String username
+            , @AuthenticationPrincipal(expression = "userId") Long userId
     ) {
 
-        log.info("여행 단건 조회 API 호출 - 사용자: {}, 여행 ID: {}", username, tripId);
+        log.info("여행 단건 조회 API 호출 - 사용자ID: {}, 여행 ID: {}", userId, tripId);
 
-        TripDetailDto trip = tripService.getTrip(username, tripId);
+        TripDetailDto trip = tripService.getTrip(userId, tripId);
 
         return ResponseEntity.ok().body(
                 ApiResponse.success("여행(id: $s) 단일 조회 되었습니다.".formatted(tripId), trip)
         );
     }
 
+    /**
+     * 여행일지 일괄 가져오기 API
+     * POST /api/trips/{tripId}/travel-logs:import
+     *
+     * Content-Type: application/x-ndjson 또는 text/csv
+     * 요청 본문을 스트림으로 읽으며 실패한 행은 결과의 errors에 행 번호와 함께 담긴다.
+     */
+    @PostMapping("/{tripId}/travel-logs:import")
+    public ResponseEntity<?> importTravelLogs(
+            @PathVariable Long tripId
+            , @RequestHeader(name = HttpHeaders.CONTENT_TYPE, required = false) String contentType
+            , InputStream body
+            , @AuthenticationPrincipal(expression = "userId") Long userId
+    ) {
+        log.info("여행일지 가져오기 API 호출 - 사용자ID: {}, 여행 ID: {}, Content-Type: {}", userId, tripId, contentType);
+
+        TravelLogImportResultDto result = travelLogImportService.importTravelLogs(
+                userId, tripId, body, ImportFormat.fromContentType(contentType));
+
+        return ResponseEntity.ok().body(
+                ApiResponse.success("%d건 중 %d건의 여행일지를 가져왔습니다."
+                        .formatted(result.getTotalRows(), result.getImportedRows()), result)
+        );
+    }
+
+    /**
+     * 여행 내보내기 API (trip.json + 사진 ZIP)
+     * GET /api/trips/{tripId}/export
+     *
+     * 여행일지와 사진을 읽는 대로 응답에 써서 여행 크기와 상관없이 메모리를 일정하게 사용한다.
+     */
+    @GetMapping("/{tripId}/export")
+    public ResponseEntity<StreamingResponseBody> exportTrip(
+            @PathVariable Long tripId
+            , @AuthenticationPrincipal(expression = "userId") Long userId
+    ) {
+        log.info("여행 내보내기 API 호출 - 사용자ID: {}, 여행 ID: {}", userId, tripId);
+
+        // 소유권 확인은 응답을 쓰기 전에 (실패하면 일반 에러 응답)
+        Trip trip = tripExportService.getExportableTrip(userId, tripId);
+
+        StreamingResponseBody body = out -> tripExportService.exportTrip(trip, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("trip-%d.zip".formatted(tripId))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * 검색어가 포함된 해시태그 목록 가져오는 API
      * GET /api/tags/search?keyword={tagName}
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<TagResponseDto>>> searchTags(@RequestParam(name = "keyword") String keyword) {
-        List<TagResponseDto> list = tagService.searchTags(keyword);
+    public ResponseEntity<ApiResponse<List<TagResponseDto>>> searchTags(
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "category", required = false) TagCategory category) {
+        List<TagResponseDto> list = tagService.searchTags(keyword, category);
         return ResponseEntity.ok(ApiResponse.success("[%s] 검색어를 통한 조회 성공!".formatted(keyword),list));
     }
 
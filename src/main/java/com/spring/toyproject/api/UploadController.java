@@ -0,0 +1,110 @@
+package com.spring.toyproject.api;
+
+import com.spring.toyproject.domain.dto.common.ApiResponse;
+import com.spring.toyproject.domain.dto.request.UploadSessionRequestDto;
+import com.spring.toyproject.domain.dto.response.TravelPhotoResponseDto;
+import com.spring.toyproject.domain.dto.response.UploadSessionResponseDto;
+import com.spring.toyproject.service.ResumableUploadService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * 이어받기(청크) 사진 업로드 API
+ *
+ * 1. POST   /api/uploads                    세션 생성 (여행일지 ID, 파일명, 전체 크기)
+ * 2. PUT    /api/uploads/{uploadId}?offset=  청크 전송 (본문: 바이너리)
+ * 3. GET    /api/uploads/{uploadId}          받은 구간 조회 (끊긴 뒤 이어 보낼 위치 확인)
+ * 4. POST   /api/uploads/{uploadId}/complete 완료 -> 여행일지 사진으로 등록
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/uploads")
+public class UploadController {
+
+    private final ResumableUploadService resumableUploadService;
+
+    /**
+     * 업로드 세션 생성 API
+     * POST /api/uploads
+     */
+    @PostMapping
+    public ResponseEntity<?> createSession(
+            @RequestBody @Valid UploadSessionRequestDto request
+            , @AuthenticationPrincipal(expression = "username") String username
+    ) {
+        log.info("업로드 세션 생성 API 호출 - 사용자: {}, 여행일지 ID: {}", username, request.getTravelLogId());
+
+        UploadSessionResponseDto session = resumableUploadService.createSession(username, request);
+
+        return ResponseEntity.ok(ApiResponse.success("업로드 세션이 생성되었습니다.", session));
+    }
+
+    /**
+     * 받은 구간 조회 API
+     * GET /api/uploads/{uploadId}
+     */
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<?> getSession(
+            @PathVariable String uploadId
+            , @AuthenticationPrincipal(expression = "username") String username
+    ) {
+        UploadSessionResponseDto session = resumableUploadService.getSession(username, uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success("", session));
+    }
+
+    /**
+     * 청크 전송 API
+     * PUT /api/uploads/{uploadId}?offset={offset}
+     */
+    @PutMapping("/{uploadId}")
+    public ResponseEntity<?> writeChunk(
+            @PathVariable String uploadId
+            , @RequestParam(name = "offset") long offset
+            , InputStream body
+            , @AuthenticationPrincipal(expression = "username") String username
+    ) {
+        log.debug("청크 전송 API 호출 - 사용자: {}, 세션: {}, 오프셋: {}", username, uploadId, offset);
+
+        UploadSessionResponseDto session = resumableUploadService.writeChunk(username, uploadId, offset, body);
+
+        return ResponseEntity.ok(ApiResponse.success("", session));
+    }
+
+    /**
+     * 업로드 완료 API
+     * POST /api/uploads/{uploadId}/complete
+     */
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<?> complete(
+            @PathVariable String uploadId
+            , @AuthenticationPrincipal(expression = "username") String username
+    ) {
+        log.info("업로드 완료 API 호출 - 사용자: {}, 세션: {}", username, uploadId);
+
+        TravelPhotoResponseDto photo = resumableUploadService.complete(username, uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success("사진이 여행일지에 추가되었습니다.", photo));
+    }
+
+    /**
+     * 업로드 취소 API
+     * DELETE /api/uploads/{uploadId}
+     */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<?> cancel(
+            @PathVariable String uploadId
+            , @AuthenticationPrincipal(expression = "username") String username
+    ) {
+        resumableUploadService.cancel(username, uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success("업로드가 취소되었습니다.", null));
+    }
+}
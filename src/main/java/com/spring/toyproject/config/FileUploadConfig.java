@@ -7,12 +7,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 @Configuration
 @Getter
 @Setter
 public class FileUploadConfig {
 
+    // 업로드 파일이 노출되는 URL 경로 접두사
+    public static final String URL_PREFIX = "/uploads/";
+
     @Value("${file.upload.location}")
     private String location;
 
@@ -23,4 +28,13 @@ public class FileUploadConfig {
             directory.mkdirs();
         }
     }
+
+    /**
+     * DB에 저장된 URL 경로(/uploads/...)를 실제 저장 경로로 변환
+     * ex) /uploads/kuromi/uuid.jpg -> {location}/kuromi/uuid.jpg
+     */
+    public Path toStoragePath(String filePath) {
+        String relative = filePath.startsWith(URL_PREFIX) ? filePath.substring(URL_PREFIX.length()) : filePath;
+        return Paths.get(location).resolve(relative).normalize();
+    }
 }
@@ -0,0 +1,89 @@
+package com.spring.toyproject.config;
+
+import com.spring.toyproject.domain.entity.id.PooledSequenceIdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+
+/**
+ * ID 시퀀스 보정
+ *
+ * IDENTITY(AUTO_INCREMENT)로 쌓인 기존 데이터가 있는 DB에서 시퀀스 전략으로 바꾸면
+ * 시퀀스가 1부터 시작해서 기존 ID와 충돌한다.
+ * EntityManagerFactory가 만들어지기 전에(= 요청을 받거나 Hibernate가 ID 블록을 받기 전에)
+ * 시퀀스를 테이블의 최대 ID 다음 블록 이후로 옮긴다.
+ *
+ * - 시퀀스가 없으면 최대 ID 이후에서 시작하도록 직접 만든다 (ddl-auto가 1부터 만들지 않도록)
+ * - 이미 있으면 SETVAL로 앞으로만 옮긴다 (다른 인스턴스가 더 앞으로 옮겨 두었다면 아무것도 하지 않음)
+ * - 테이블이 아직 없는 새 DB는 ddl-auto가 테이블과 시퀀스를 함께 만들므로 보정할 필요 없음
+ * - SETVAL은 MariaDB 전용이라 다른 DB(테스트용 H2)에서는 건너뜀
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements InitializingBean {
+
+    // key: 시퀀스 이름, value: 최대 ID 조회 쿼리
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "travel_logs_seq", "SELECT MAX(travel_log_id) FROM travel_logs",
+            "travel_photos_seq", "SELECT MAX(id) FROM travel_photos",
+            "travel_log_tags_seq", "SELECT MAX(id) FROM travel_log_tags"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.toyproject.id.allocation-size:" + PooledSequenceIdGenerator.DEFAULT_ALLOCATION_SIZE + "}")
+    private int allocationSize;
+
+    // EntityManagerFactory가 이 빈의 초기화(시퀀스 보정)가 끝난 뒤에 만들어지도록 의존 관계 추가
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor idSequenceInitializerDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(IdSequenceInitializer.class);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                DatabaseMetaData::getDatabaseProductName);
+        if (!"MariaDB".equalsIgnoreCase(product)) {
+            log.debug("ID 시퀀스 보정 생략 - DB: {}", product);
+            return;
+        }
+        SEQUENCES.forEach(this::adjust);
+    }
+
+    private void adjust(String sequenceName, String maxIdQuery) {
+        Long maxId;
+        try {
+            maxId = jdbcTemplate.queryForObject(maxIdQuery, Long.class);
+        } catch (BadSqlGrammarException e) {
+            return; // 테이블이 아직 없음
+        }
+        if (maxId == null) {
+            return;
+        }
+
+        // pooled 옵티마이저는 다음에 받는 시퀀스 값(hi)에서 (hi - 블록크기 + 1)부터 ID를 쓴다.
+        // 시작 값/현재 값을 최대 ID + 블록크기로 두면 다음 블록은 항상 최대 ID 이후가 된다.
+        long target = maxId + allocationSize;
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequenceName
+                + " START WITH " + target + " INCREMENT BY " + allocationSize);
+
+        // 현재 값보다 작은 값이면 무시되고 NULL을 돌려줌 (뒤로 옮겨지지 않음)
+        Long moved = jdbcTemplate.queryForObject("SELECT SETVAL(" + sequenceName + ", " + target + ")", Long.class);
+        if (moved != null) {
+            log.info("ID 시퀀스 보정 - 시퀀스: {}, 최대 ID: {}, 현재 값: {}", sequenceName, maxId, moved);
+        }
+    }
+}
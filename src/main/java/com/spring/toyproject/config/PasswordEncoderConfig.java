@@ -1,10 +1,18 @@
 package com.spring.toyproject.config;
 
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 비밀번호나 민감정보 해시 암호화를 위한 빈 등록
  */
@@ -15,4 +23,47 @@ public class PasswordEncoderConfig {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
+
+    /**
+     * 비밀번호 해시(BCrypt) 전용 스레드풀
+     * 로그인/회원가입이 몰려도 해시 계산은 이 스레드 수만큼만 CPU를 쓰고, 요청 스레드는 다른 API를 처리할 수 있음
+     * 대기열이 가득 차면 작업을 거절 -> 503으로 바로 응답
+     */
+    @Bean(name = "passwordHashExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashExecutor(
+            @Value("${auth.password-hash.threads:0}") int threads,
+            @Value("${auth.password-hash.queue-capacity:64}") int queueCapacity) {
+
+        // 0이면 CPU 코어 수만큼
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        return new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 해시가 끝난 회원가입의 INSERT 전용 스레드풀
+     * 해시 스레드는 CPU 작업만 하도록 DB 작업은 여기로 넘기고, 동시에 잡는 DB 커넥션도 이 스레드 수로 제한
+     * 대기열이 가득 차면 SERVICE_BUSY(503)로 실패
+     */
+    @Bean(name = "signupExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor signupExecutor(
+            @Value("${auth.signup.threads:4}") int threads,
+            @Value("${auth.signup.queue-capacity:64}") int queueCapacity) {
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("signup-"),
+                (task, executor) -> {
+                    throw new BusinessException(ErrorCode.SERVICE_BUSY);
+                }
+        );
+    }
 }
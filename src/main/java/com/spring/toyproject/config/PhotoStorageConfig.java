@@ -0,0 +1,76 @@
+package com.spring.toyproject.config;
+
+import com.spring.toyproject.storage.PhotoStorage;
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사진 업로드(멀티파트 스풀)/리사이즈 스레드풀 설정
+ * 스레드 수와 대기열을 제한해서 업로드가 몰려도 디스크 I/O와 CPU 사용량이 일정 수준을 넘지 않도록 함
+ */
+@Configuration
+public class PhotoStorageConfig {
+
+    /**
+     * 멀티파트 스풀 폴더를 업로드 파일시스템의 임시 영역으로 지정
+     * 파트는 요청을 읽는 동안 바로 디스크에 기록되고(file-size-threshold 0 -> 힙에 버퍼링하지 않음),
+     * 저장 시에는 복사 없이 이름 변경만으로 옮겨진다.
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties multipartProperties,
+                                                         FileUploadConfig fileUploadConfig) throws IOException {
+        Path spoolDir = Paths.get(fileUploadConfig.getLocation(), PhotoStorage.STAGING_DIRECTORY).toAbsolutePath();
+        Files.createDirectories(spoolDir);
+
+        multipartProperties.setLocation(spoolDir.toString());
+        multipartProperties.setFileSizeThreshold(DataSize.ofBytes(0));
+        return multipartProperties.createMultipartConfig();
+    }
+
+    @Bean(name = "photoUploadExecutor", destroyMethod = "shutdown")
+    public ExecutorService photoUploadExecutor(
+            @Value("${file.upload.stage-threads:4}") int threads,
+            @Value("${file.upload.stage-queue-capacity:100}") int queueCapacity) {
+
+        // 대기열까지 가득 차면 요청 스레드가 직접 저장 (자연스러운 역압)
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("photo-upload-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * 리사이즈 이미지 생성용 스레드풀
+     * 대기열이 가득 차면 작업을 거절 -> 사진은 대기 상태로 남고 주기 점검 때 다시 등록됨
+     */
+    @Bean(name = "photoVariantExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor photoVariantExecutor(
+            @Value("${file.upload.variant.threads:2}") int threads,
+            @Value("${file.upload.variant.queue-capacity:500}") int queueCapacity) {
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("photo-variant-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
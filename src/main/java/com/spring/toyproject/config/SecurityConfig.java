@@ -1,11 +1,13 @@
 package com.spring.toyproject.config;
 
 import com.spring.toyproject.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
@@ -43,6 +45,8 @@ public class SecurityConfig {
                 // 인가 설정
                 .authorizeHttpRequests(
                         auth -> auth
+                                // 스트리밍 응답의 비동기 디스패치 (원래 요청에서 이미 인가됨)
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 // 공개 접근 가능한 경로 (로그인 불필요)
                                 .requestMatchers(
                                         "/"
@@ -52,7 +56,7 @@ public class SecurityConfig {
                                         , "/dashboard"
                                         , "travel-logs/**"
                                 ).permitAll()
-                                .requestMatchers("/css/**", "/js/**", "/images/**", "/favicon.ico", "/uploads/**").permitAll()
+                                .requestMatchers("/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
                                 .requestMatchers("/api/auth/**").permitAll()
 
                                 // 인증 및 권한이 필요한 경로
@@ -71,4 +75,10 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    // 업로드 사진은 공개 파일이므로 시큐리티 필터 체인을 아예 거치지 않음 (이미지 요청마다 드는 비용 제거)
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers(FileUploadConfig.URL_PREFIX + "**");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.spring.toyproject.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정
+ *
+ * OSIV(요청 동안 EntityManager 유지)를 직접 등록해서 오래 걸리는 스트리밍 응답 경로만 제외한다.
+ * OSIV가 걸려 있으면 요청에서 한 번 DB를 사용한 커넥션을 응답이 끝날 때까지 붙잡으므로
+ * 여행 내보내기(ZIP 전송)나 여행일지 가져오기(요청 본문 스트리밍)처럼 느린 클라이언트에 맞춰
+ * 오래 걸리는 요청에서는 커넥션 풀이 고갈될 수 있다.
+ * (spring.jpa.open-in-view: false로 자동 등록은 끔)
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // OSIV를 적용하지 않는 경로
+    private static final String[] NO_OPEN_IN_VIEW_PATHS = {
+            "/api/trips/*/export",
+            "/api/trips/*/travel-logs:import"
+    };
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(NO_OPEN_IN_VIEW_PATHS);
+    }
+}
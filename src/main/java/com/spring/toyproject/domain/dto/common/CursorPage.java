@@ -0,0 +1,41 @@
+package com.spring.toyproject.domain.dto.common;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서(키셋) 페이징 응답 객체
+ * 전체 건수(count 쿼리) 없이 다음 페이지 존재 여부와 다음 커서만 전달
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    // 현재 페이지 데이터
+    private List<T> content;
+
+    // 요청한 페이지 크기
+    private int size;
+
+    // 다음 페이지 존재 여부
+    private boolean hasNext;
+
+    // 다음 페이지 요청 시 그대로 전달할 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    // 내용물만 변환 (페이징 정보는 유지)
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return CursorPage.<R>builder()
+                .content(content.stream().map(mapper).collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -28,6 +28,9 @@ public class TripSearchRequestDto {
     private int page = 0;
     private int size = 10;
 
+    // 커서 페이징 (값이 있으면 page 대신 커서 모드로 조회, 첫 페이지는 빈 문자열)
+    private String cursor;
+
     /**
      * Repository 검색 조건으로 변환
      * - status는 Enum 변환 시 오류가 나면 무시(null)
@@ -0,0 +1,31 @@
+package com.spring.toyproject.domain.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이어받기 업로드 세션 생성 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionRequestDto {
+
+    @NotNull(message = "여행일지 ID는 필수입니다.")
+    private Long travelLogId;
+
+    @NotBlank(message = "파일명은 필수입니다.")
+    @Size(max = 255, message = "파일명은 255자를 초과할 수 없습니다.")
+    private String fileName;
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long totalSize;
+}
@@ -0,0 +1,40 @@
+package com.spring.toyproject.domain.dto.response;
+
+import com.spring.toyproject.domain.entity.UserTravelStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 대시보드 여행 통계 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStatsDto {
+
+    private long totalTrips;
+    private long totalTravelLogs;
+    private Double averageRating; // 평점이 있는 여행일지가 없으면 null
+    private long totalExpenses;
+    private LocalDate lastLogDate;
+
+    public static DashboardStatsDto from(UserTravelStats stats) {
+        return DashboardStatsDto.builder()
+                .totalTrips(stats.getTripCount())
+                .totalTravelLogs(stats.getLogCount())
+                .averageRating(stats.getAverageRating())
+                .totalExpenses(stats.getExpenseSum())
+                .lastLogDate(stats.getLastLogDate())
+                .build();
+    }
+
+    // 집계 행이 아직 없는 사용자
+    public static DashboardStatsDto empty() {
+        return DashboardStatsDto.builder().build();
+    }
+}
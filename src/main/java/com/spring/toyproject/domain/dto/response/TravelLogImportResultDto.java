@@ -0,0 +1,62 @@
+package com.spring.toyproject.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여행일지 일괄 가져오기 결과
+ * 실패한 행은 행 번호와 원인을 함께 알려준다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelLogImportResultDto {
+
+    // 응답에 담는 최대 에러 수 (잘못된 대용량 파일에서도 응답 크기를 제한)
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+
+    // 에러가 MAX_REPORTED_ERRORS개를 넘어서 일부만 담겼는지
+    private boolean errorsTruncated;
+
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addImported(long count) {
+        importedRows += count;
+    }
+
+    public void addError(long rowNumber, String field, String message) {
+        failedRows++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(rowNumber, field, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    public void countRow() {
+        totalRows++;
+    }
+
+    // 실패한 행 1개의 정보
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        // 데이터 행 번호 (헤더 제외, 1부터)
+        private long row;
+        // 에러가 난 필드명 (행 전체 문제면 null)
+        private String field;
+        private String message;
+    }
+}
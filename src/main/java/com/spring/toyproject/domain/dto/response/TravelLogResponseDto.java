@@ -1,6 +1,8 @@
 package com.spring.toyproject.domain.dto.response;
 
 import com.spring.toyproject.domain.entity.TravelLog;
+import com.spring.toyproject.repository.custom.CoverPhotoRow;
+import com.spring.toyproject.repository.custom.TravelLogListRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,6 +10,8 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * 여행일지 조회 응답 DTO
@@ -32,6 +36,8 @@ public class TravelLogResponseDto {
     // 목록/그룹용으로 필요한 최소 Trip 정보만 포함
     private TripListItemDto trip;
     private String coverImageUrl;
+    // 대표 사진의 리사이즈 이미지 URL (key: 가로폭, 생성 전이면 비어 있음)
+    private Map<Integer, String> coverImageVariants;
 
     // TravelLog 엔티티로부터 DTO 생성
     public static TravelLogResponseDto from(TravelLog travelLog) {
@@ -48,10 +54,11 @@ public class TravelLogResponseDto {
                 .updatedAt(travelLog.getUpdatedAt())
                 .trip(TripListItemDto.from(travelLog.getTrip()))
                 .coverImageUrl(null)
+                .coverImageVariants(Collections.emptyMap())
                 .build();
     }
 
-    public static TravelLogResponseDto from(TravelLog travelLog, String coverImageUrl) {
+    public static TravelLogResponseDto from(TravelLog travelLog, CoverPhotoRow cover) {
         return TravelLogResponseDto.builder()
                 .id(travelLog.getId())
                 .title(travelLog.getTitle())
@@ -64,7 +71,27 @@ public class TravelLogResponseDto {
                 .createdAt(travelLog.getCreatedAt())
                 .updatedAt(travelLog.getUpdatedAt())
                 .trip(TripListItemDto.from(travelLog.getTrip()))
-                .coverImageUrl(coverImageUrl)
+                .coverImageUrl(cover != null ? cover.getFilePath() : null)
+                .coverImageVariants(cover != null ? cover.getVariantUrls() : Collections.emptyMap())
+                .build();
+    }
+
+    // 목록 화면용 프로젝션 조회 결과로부터 DTO 생성 (content는 미리보기)
+    public static TravelLogResponseDto from(TravelLogListRow row, CoverPhotoRow cover) {
+        return TravelLogResponseDto.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .content(row.getContentPreview())
+                .logDate(row.getLogDate())
+                .location(row.getLocation())
+                .mood(row.getMood())
+                .expenses(row.getExpenses())
+                .rating(row.getRating())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .trip(TripListItemDto.from(row.getTrip()))
+                .coverImageUrl(cover != null ? cover.getFilePath() : null)
+                .coverImageVariants(cover != null ? cover.getVariantUrls() : Collections.emptyMap())
                 .build();
     }
 
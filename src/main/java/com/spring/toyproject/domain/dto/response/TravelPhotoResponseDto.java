@@ -1,11 +1,15 @@
 package com.spring.toyproject.domain.dto.response;
 
 import com.spring.toyproject.domain.entity.TravelPhoto;
+import com.spring.toyproject.repository.custom.TravelPhotoRow;
+import com.spring.toyproject.storage.PhotoVariants;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -13,12 +17,23 @@ import lombok.NoArgsConstructor;
 public class TravelPhotoResponseDto {
     private Long id;
     private String url;
+    // 리사이즈 이미지 URL (key: 가로폭, 생성 전이면 비어 있음 -> url 사용)
+    private Map<Integer, String> variants;
     // 렌더링에 불필요한 메타는 제외 (필요시 확장)
 
     public static TravelPhotoResponseDto from(TravelPhoto photo) {
         return TravelPhotoResponseDto.builder()
                 .id(photo.getId())
                 .url(photo.getFilePath())
+                .variants(PhotoVariants.urls(photo.getFilePath(), photo.getVariantWidths()))
+                .build();
+    }
+
+    public static TravelPhotoResponseDto from(TravelPhotoRow row) {
+        return TravelPhotoResponseDto.builder()
+                .id(row.getId())
+                .url(row.getFilePath())
+                .variants(PhotoVariants.urls(row.getFilePath(), row.getVariantWidths()))
                 .build();
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.spring.toyproject.domain.dto.response;
 
 import com.spring.toyproject.domain.entity.Trip;
 import com.spring.toyproject.domain.entity.TripStatus;
+import com.spring.toyproject.domain.entity.TripTravelStats;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -33,7 +34,13 @@ public class TripDetailDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static TripDetailDto from(Trip trip) {
+    // 여행일지 요약 (여행 집계 테이블 기준)
+    private long travelLogCount;
+    private long totalExpenses;
+    private Double averageRating;
+    private LocalDate lastLogDate;
+
+    public static TripDetailDto from(Trip trip, TripTravelStats stats) {
         return TripDetailDto.builder()
                 .id(trip.getId())
                 .title(trip.getTitle())
@@ -47,6 +54,10 @@ public class TripDetailDto {
                 .budget(trip.getBudget())
                 .createdAt(trip.getCreatedAt())
                 .updatedAt(trip.getUpdatedAt())
+                .travelLogCount(stats != null ? stats.getLogCount() : 0L)
+                .totalExpenses(stats != null ? stats.getExpenseSum() : 0L)
+                .averageRating(stats != null ? stats.getAverageRating() : null)
+                .lastLogDate(stats != null ? stats.getLastLogDate() : null)
                 .build();
     }
 }
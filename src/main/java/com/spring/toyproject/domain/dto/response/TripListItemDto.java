@@ -2,12 +2,17 @@ package com.spring.toyproject.domain.dto.response;
 
 import com.spring.toyproject.domain.entity.Trip;
 import com.spring.toyproject.domain.entity.TripStatus;
+import com.spring.toyproject.domain.entity.TripTravelStats;
+import com.spring.toyproject.repository.custom.CoverPhotoRow;
+import com.spring.toyproject.repository.custom.TripListRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * 여행 목록 전용 응답 DTO
@@ -30,6 +35,14 @@ public class TripListItemDto {
     private Long budget;
     private int duration;
 
+    // 여행일지 요약 (목록 조회 시에만 채움, 여행 집계 테이블 기준)
+    private Long travelLogCount;
+    private Long totalExpenses;
+    private Double averageRating;
+    // 대표 사진 (여행에 처음 등록된 사진) 원본 URL과 리사이즈 이미지 URL (key: 가로폭)
+    private String coverImageUrl;
+    private Map<Integer, String> coverImageVariants;
+
     public static TripListItemDto from(Trip trip) {
         return TripListItemDto.builder()
                 .id(trip.getId())
@@ -44,6 +57,34 @@ public class TripListItemDto {
                 .duration(trip.getDuration())
                 .build();
     }
-}
 
+    // 목록 화면용 프로젝션 조회 결과로부터 DTO 생성 (description은 미리보기)
+    public static TripListItemDto from(TripListRow row) {
+        return rowBuilder(row).build();
+    }
 
+    // 여행 목록 응답용 - 페이지 단위로 미리 조회한 집계/대표 사진을 함께 담음
+    public static TripListItemDto from(TripListRow row, TripTravelStats stats, CoverPhotoRow cover) {
+        return rowBuilder(row)
+                .travelLogCount(stats != null ? stats.getLogCount() : 0L)
+                .totalExpenses(stats != null ? stats.getExpenseSum() : 0L)
+                .averageRating(stats != null ? stats.getAverageRating() : null)
+                .coverImageUrl(cover != null ? cover.getFilePath() : null)
+                .coverImageVariants(cover != null ? cover.getVariantUrls() : Collections.emptyMap())
+                .build();
+    }
+
+    private static TripListItemDtoBuilder rowBuilder(TripListRow row) {
+        return TripListItemDto.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .description(row.getDescriptionPreview())
+                .startDate(row.getStartDate())
+                .status(row.getStatus())
+                .statusDescription(row.getStatus().getDescription())
+                .statusInfo(TripStatusInfo.from(row.getStatus()))
+                .destination(row.getDestination())
+                .budget(row.getBudget())
+                .duration(row.getDuration());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.spring.toyproject.domain.dto.response;
+
+import com.spring.toyproject.domain.entity.UploadSession;
+import com.spring.toyproject.storage.ByteRanges;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 이어받기 업로드 세션 응답 DTO
+ * 클라이언트는 receivedRanges에 없는 구간만 다시 보내면 된다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionResponseDto {
+
+    private String uploadId;
+    private Long travelLogId;
+    private Long totalSize;
+    private Long receivedBytes;
+    // 받은 구간 (끝 포함, ex. "0-1048575")
+    private List<String> receivedRanges;
+    private boolean complete;
+    // 이 시각까지 청크가 오지 않으면 세션 만료
+    private LocalDateTime expiresAt;
+
+    public static UploadSessionResponseDto from(UploadSession session, Duration ttl) {
+        return UploadSessionResponseDto.builder()
+                .uploadId(session.getId())
+                .travelLogId(session.getTravelLogId())
+                .totalSize(session.getTotalSize())
+                .receivedBytes(session.getReceivedBytes())
+                .receivedRanges(ByteRanges.parse(session.getReceivedRanges()).toList().stream()
+                        .map(range -> range[0] + "-" + range[1])
+                        .collect(Collectors.toList()))
+                .complete(session.isComplete())
+                .expiresAt(session.getUpdatedAt() != null ? session.getUpdatedAt().plus(ttl) : null)
+                .build();
+    }
+}
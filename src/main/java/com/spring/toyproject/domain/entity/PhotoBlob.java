@@ -0,0 +1,72 @@
+package com.spring.toyproject.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사진 원본 파일(내용 주소 저장소) 엔티티
+ * 같은 내용(SHA-256)의 사진은 파일 하나만 저장하고 참조하는 TravelPhoto 수를 센다.
+ * (사진을 등록/삭제하는 트랜잭션에서 함께 증가/감소)
+ */
+@Entity
+@Table(name = "photo_blobs", indexes = {
+        // GC 대상(참조 0 + 유예시간 경과) 조회용 인덱스
+        @Index(name = "idx_photo_blobs_ref_count_released_at", columnList = "ref_count, released_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PhotoBlob {
+
+    // 파일 내용의 SHA-256 (16진수 64자)
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "file_path", nullable = false)
+    private String filePath; // 파일이 실제 저장된 경로 (/uploads/blobs/ab/cd/{hash}.jpg)
+
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    // 이 파일을 참조하는 TravelPhoto 수
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;
+
+    // 참조가 0이 된 시각 (GC 유예시간 기준, 참조 중이면 null)
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PhotoBlob(String contentHash, String filePath, Long size) {
+        this.contentHash = contentHash;
+        this.filePath = filePath;
+        this.size = size;
+        this.refCount = 1L;
+    }
+
+    // 비즈니스 메서드
+    // 참조 수는 PhotoBlobRepository#acquire/release로 원자적으로 변경하고, 여기서는 점검 시 실제 값으로 보정만 한다
+    public void repairRefCount(long actualCount, LocalDateTime now) {
+        this.refCount = actualCount;
+        if (actualCount > 0) {
+            this.releasedAt = null;
+        } else if (this.releasedAt == null) {
+            this.releasedAt = now;
+        }
+    }
+
+    // 저장된 파일명 ({hash}.ext)
+    public String getStoredFilename() {
+        return filePath.substring(filePath.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,10 @@
+package com.spring.toyproject.domain.entity;
+
+/**
+ * 사진 리사이즈 이미지(썸네일 등) 생성 상태
+ */
+public enum PhotoVariantStatus {
+    PENDING,    // 생성 대기
+    READY,      // 생성 완료
+    FAILED      // 생성 불가 (원본 손상, 지원하지 않는 형식 등)
+}
@@ -1,5 +1,6 @@
 package com.spring.toyproject.domain.entity;
 
+import com.spring.toyproject.domain.entity.id.PooledSequenceId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -9,19 +10,23 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 여행일지 엔티티
  * 여행과 1:N 관계를 가지며, 여행일지의 상세 정보를 관리
  */
 @Entity
-@Table(name = "travel_logs")
+// 커서 페이징(여행별 + 날짜순) 조회용 인덱스
+@Table(name = "travel_logs", indexes = {
+        @Index(name = "idx_travel_logs_trip_log_date", columnList = "trip_id, log_date, travel_log_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TravelLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequenceId(sequenceName = "travel_logs_seq")
     @Column(name = "travel_log_id")
     private Long id;
 
@@ -101,5 +106,10 @@ public class TravelLog {
         travelLogTags.add(travelLogTag);
     }
 
+    // 주어진 태그 ID 외의 태그 연결 제거 (orphanRemoval로 중간테이블 행 삭제)
+    public void retainTags(Set<Long> tagIds) {
+        travelLogTags.removeIf(travelLogTag -> !tagIds.contains(travelLogTag.getTag().getId()));
+    }
+
 
 }
\ No newline at end of file
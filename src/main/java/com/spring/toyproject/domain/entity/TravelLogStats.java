@@ -0,0 +1,83 @@
+package com.spring.toyproject.domain.entity;
+
+import com.spring.toyproject.stats.TravelLogStatsDelta;
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 여행일지 집계 (사용자별/여행별 통계 테이블의 공통 컬럼)
+ * 여행일지가 생성/수정/삭제될 때 같은 트랜잭션에서 증감분을 반영해 둔다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class TravelLogStats {
+
+    @Column(name = "log_count", nullable = false)
+    private long logCount;
+
+    // 평균 평점 = rating_sum / rating_count (평점 없는 여행일지는 제외)
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "expense_sum", nullable = false)
+    private long expenseSum;
+
+    @Column(name = "last_log_date")
+    private LocalDate lastLogDate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 증감분 반영 (삭제로 최근 날짜가 빠지면 호출한 쪽에서 다시 계산해 updateLastLogDate)
+    public void apply(TravelLogStatsDelta delta) {
+        this.logCount += delta.getCount();
+        this.ratingSum += delta.getRatingSum();
+        this.ratingCount += delta.getRatingCount();
+        this.expenseSum += delta.getExpenseSum();
+        if (delta.getAddedLogDate() != null
+                && (lastLogDate == null || delta.getAddedLogDate().isAfter(lastLogDate))) {
+            this.lastLogDate = delta.getAddedLogDate();
+        }
+    }
+
+    // 원본 데이터로 다시 계산한 값으로 덮어쓰기 (정합성 복구)
+    public void reset(TravelLogStatsDelta totals) {
+        this.logCount = totals.getCount();
+        this.ratingSum = totals.getRatingSum();
+        this.ratingCount = totals.getRatingCount();
+        this.expenseSum = totals.getExpenseSum();
+        this.lastLogDate = totals.getAddedLogDate();
+    }
+
+    public void updateLastLogDate(LocalDate lastLogDate) {
+        this.lastLogDate = lastLogDate;
+    }
+
+    // 최근 날짜 여행일지가 빠져서 다시 계산해야 하는지
+    public boolean needsLastLogDateRecount(TravelLogStatsDelta delta) {
+        return delta.getRemovedLogDate() != null && lastLogDate != null
+                && !delta.getRemovedLogDate().isBefore(lastLogDate);
+    }
+
+    public boolean matches(TravelLogStatsDelta totals) {
+        return logCount == totals.getCount()
+                && ratingSum == totals.getRatingSum()
+                && ratingCount == totals.getRatingCount()
+                && expenseSum == totals.getExpenseSum()
+                && Objects.equals(lastLogDate, totals.getAddedLogDate());
+    }
+
+    public Double getAverageRating() {
+        return ratingCount == 0 ? null : (double) ratingSum / ratingCount;
+    }
+}
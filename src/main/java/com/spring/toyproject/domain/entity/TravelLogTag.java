@@ -1,5 +1,6 @@
 package com.spring.toyproject.domain.entity;
 
+import com.spring.toyproject.domain.entity.id.PooledSequenceId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -38,7 +39,7 @@ import java.time.LocalDateTime;
 public class TravelLogTag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequenceId(sequenceName = "travel_log_tags_seq")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
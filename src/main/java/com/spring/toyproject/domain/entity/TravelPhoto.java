@@ -1,5 +1,6 @@
 package com.spring.toyproject.domain.entity;
 
+import com.spring.toyproject.domain.entity.id.PooledSequenceId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,13 +17,18 @@ import java.time.LocalDateTime;
     DB에는 해당 파일을 찾기 쉽게 파일의 메타데이터(실제저장경로, 파일명)만 저장
  */
 @Entity
-@Table(name = "travel_photos")
+@Table(name = "travel_photos", indexes = {
+        // 내용 주소 저장소 참조 수 계산용 인덱스
+        @Index(name = "idx_travel_photos_content_hash", columnList = "content_hash"),
+        // 업로드 폴더 정리(고아 파일 확인)용 인덱스
+        @Index(name = "idx_travel_photos_stored_filename", columnList = "stored_filename")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TravelPhoto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequenceId(sequenceName = "travel_photos_seq")
     @Column(name = "id")
     private Long id;
 
@@ -35,10 +41,23 @@ public class TravelPhoto {
     @Column(name = "file_path", nullable = false)
     private String filePath; // 파일이 실제 저장된 경로
 
+    // 파일 내용의 SHA-256 (photo_blobs 참조, 내용 주소 저장소 도입 전 사진은 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     // 정렬 순서(대표 사진 선정을 위해 1부터 시작 권장)
     @Column(name = "display_order")
     private Integer displayOrder;
 
+    // 리사이즈 이미지 생성 상태 (기존 데이터는 null -> 대기로 취급)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant_status", length = 20)
+    private PhotoVariantStatus variantStatus;
+
+    // 생성된 리사이즈 이미지의 가로폭 목록 (ex. "160,480,1280")
+    @Column(name = "variant_widths", length = 100)
+    private String variantWidths;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -48,11 +67,14 @@ public class TravelPhoto {
     private TravelLog travelLog;
 
     @Builder
-    public TravelPhoto(TravelLog travelLog, String storedFilename, String originalFilename, String filePath, Integer displayOrder) {
+    public TravelPhoto(TravelLog travelLog, String storedFilename, String originalFilename, String filePath,
+                       String contentHash, Integer displayOrder) {
         this.travelLog = travelLog;
         this.storedFilename = storedFilename;
         this.originalFilename = originalFilename;
         this.filePath = filePath;
+        this.contentHash = contentHash;
         this.displayOrder = displayOrder;
+        this.variantStatus = PhotoVariantStatus.PENDING;
     }
 }
\ No newline at end of file
@@ -18,7 +18,10 @@ import java.util.List;
  * 사용자와 1:N 관계를 가지며, 여행의 기본정보를 관리
  */
 @Entity
-@Table(name = "trips")
+// 커서 페이징(사용자별 + 생성일순) 조회용 인덱스
+@Table(name = "trips", indexes = {
+        @Index(name = "idx_trips_user_created_at", columnList = "user_id, created_at, trip_id")
+})
 @Getter
 @ToString(exclude = {"user"})
 @NoArgsConstructor
@@ -0,0 +1,31 @@
+package com.spring.toyproject.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여행별 여행일지 집계 테이블
+ */
+@Entity
+// 사용자 집계 재계산용 인덱스
+@Table(name = "trip_travel_stats", indexes = {
+        @Index(name = "idx_trip_travel_stats_user", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TripTravelStats extends TravelLogStats {
+
+    @Id
+    @Column(name = "trip_id")
+    private Long tripId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    public TripTravelStats(Long tripId, Long userId) {
+        this.tripId = tripId;
+        this.userId = userId;
+    }
+}
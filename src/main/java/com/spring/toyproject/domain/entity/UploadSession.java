@@ -0,0 +1,80 @@
+package com.spring.toyproject.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이어받기(청크) 사진 업로드 세션 엔티티
+ * 받은 바이트 구간을 기록해 두고, 연결이 끊겨도 빠진 구간만 다시 보낼 수 있게 한다.
+ */
+@Entity
+// 만료 세션 정리용 인덱스
+@Table(name = "upload_sessions", indexes = {
+        @Index(name = "idx_upload_sessions_updated_at", columnList = "updated_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadSession {
+
+    // 업로드 ID (UUID)
+    @Id
+    @Column(name = "upload_id", length = 36)
+    private String id;
+
+    @Column(name = "username", nullable = false, length = 50)
+    private String username;
+
+    // 완료 시 사진이 첨부될 여행일지
+    @Column(name = "travel_log_id", nullable = false)
+    private Long travelLogId;
+
+    @Column(name = "original_filename", nullable = false)
+    private String originalFilename;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    // 받은 바이트 구간 (ex. "0-1048575,2097152-3145727")
+    @Column(name = "received_ranges", columnDefinition = "TEXT")
+    private String receivedRanges;
+
+    @Column(name = "received_bytes", nullable = false)
+    private Long receivedBytes;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막으로 청크를 받은 시각 (만료 기준)
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public UploadSession(String id, String username, Long travelLogId, String originalFilename, Long totalSize) {
+        this.id = id;
+        this.username = username;
+        this.travelLogId = travelLogId;
+        this.originalFilename = originalFilename;
+        this.totalSize = totalSize;
+        this.receivedRanges = "";
+        this.receivedBytes = 0L;
+    }
+
+    // 비즈니스 메서드
+    public void updateReceived(String receivedRanges, long receivedBytes) {
+        this.receivedRanges = receivedRanges;
+        this.receivedBytes = receivedBytes;
+    }
+
+    public boolean isComplete() {
+        return receivedBytes.equals(totalSize);
+    }
+}
@@ -0,0 +1,36 @@
+package com.spring.toyproject.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 여행일지 집계 테이블 (대시보드 통계)
+ * 여행일지 집계는 여행별 집계의 합과 같다.
+ */
+@Entity
+@Table(name = "user_travel_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserTravelStats extends TravelLogStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "trip_count", nullable = false)
+    private long tripCount;
+
+    public UserTravelStats(Long userId) {
+        this.userId = userId;
+    }
+
+    public void addTrip() {
+        this.tripCount++;
+    }
+
+    public void resetTripCount(long tripCount) {
+        this.tripCount = tripCount;
+    }
+}
@@ -0,0 +1,26 @@
+package com.spring.toyproject.domain.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 시퀀스 + pooled 옵티마이저로 ID를 미리 할당받는 식별자 전략
+ *
+ * IDENTITY 전략은 INSERT를 실행해야 ID를 알 수 있어서 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * 시퀀스에서 ID를 블록 단위(allocation size)로 받아두면 INSERT를 모아서 한 번에 보낼 수 있다.
+ *
+ * 블록 크기는 spring.jpa.properties.toyproject.id.allocation-size 로 설정한다.
+ */
+@IdGeneratorType(PooledSequenceIdGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface PooledSequenceId {
+
+    // 시퀀스 이름
+    String sequenceName();
+}
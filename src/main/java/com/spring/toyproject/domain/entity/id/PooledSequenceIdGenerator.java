@@ -0,0 +1,46 @@
+package com.spring.toyproject.domain.entity.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * {@link PooledSequenceId} 전략의 ID 생성기
+ * 시퀀스 이름은 애너테이션에서, 블록 크기는 설정값에서 읽어 pooled 옵티마이저로 동작한다.
+ */
+public class PooledSequenceIdGenerator extends SequenceStyleGenerator
+        implements AnnotationBasedGenerator<PooledSequenceId> {
+
+    // 블록 크기 설정 키 (spring.jpa.properties 하위)
+    public static final String ALLOCATION_SIZE_SETTING = "toyproject.id.allocation-size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private String sequenceName;
+
+    @Override
+    public void initialize(PooledSequenceId config, Member member, GeneratorCreationContext context) {
+        this.sequenceName = config.sequenceName();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize(serviceRegistry)));
+        parameters.setProperty(OPT_PARAM, "pooled");
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    public static int allocationSize(ServiceRegistry serviceRegistry) {
+        Object configured = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .get(ALLOCATION_SIZE_SETTING);
+        return configured == null ? DEFAULT_ALLOCATION_SIZE : Integer.parseInt(configured.toString());
+    }
+}
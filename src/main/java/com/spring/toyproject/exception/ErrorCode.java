@@ -14,9 +14,11 @@ public enum ErrorCode {
     // 기본 에러 코드
     INTERNAL_SERVER_ERROR("INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다.", 500),
     INVALID_INPUT("INVALID_INPUT", "입력값이 올바르지 않습니다.", 400),
+    INVALID_CURSOR("INVALID_CURSOR", "유효하지 않은 페이지 커서입니다.", 400),
     RESOURCE_NOT_FOUND("RESOURCE_NOT_FOUND", "요청한 리소스를 찾을 수 없습니다.", 404),
     UNAUTHORIZED("UNAUTHORIZED", "인증이 필요합니다.", 401),
     FORBIDDEN("FORBIDDEN", "접근 권한이 없습니다.", 403),
+    SERVICE_BUSY("SERVICE_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 503),
 
     // 비즈니스 에러 코드
     BUSINESS_ERROR("BUSINESS_ERROR", "비즈니스 로직 오류가 발생했습니다.", 400),
@@ -31,6 +33,14 @@ public enum ErrorCode {
 
     // 파일 관련 에러 코드
     FILE_SIZE_EXCEEDED("FILE_SIZE_EXCEEDED", "파일 크기가 제한을 초과했습니다.", 400),
+    FILE_UPLOAD_FAILED("FILE_UPLOAD_FAILED", "파일 업로드 중 오류가 발생했습니다.", 500),
+    TOO_MANY_UPLOADS("TOO_MANY_UPLOADS", "업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.", 429),
+    INVALID_IMAGE_FILE("INVALID_IMAGE_FILE", "지원하지 않는 이미지 파일입니다. (jpg, png, gif, webp)", 400),
+    PHOTO_LIMIT_EXCEEDED("PHOTO_LIMIT_EXCEEDED", "여행일지에 첨부할 수 있는 사진 수를 초과했습니다.", 400),
+    UPLOAD_SESSION_NOT_FOUND("UPLOAD_SESSION_NOT_FOUND", "업로드 세션을 찾을 수 없습니다.", 404),
+    INVALID_UPLOAD_RANGE("INVALID_UPLOAD_RANGE", "업로드 구간이 파일 크기를 벗어났습니다.", 416),
+    UPLOAD_INCOMPLETE("UPLOAD_INCOMPLETE", "아직 받지 못한 구간이 있습니다.", 409),
+    UNSUPPORTED_IMPORT_FORMAT("UNSUPPORTED_IMPORT_FORMAT", "지원하지 않는 파일 형식입니다. (application/x-ndjson, text/csv)", 415),
 
     // 데이터베이스 관련 에러 코드
     DATA_INTEGRITY_VIOLATION("DATA_INTEGRITY_VIOLATION", "데이터 무결성 제약 조건을 위반했습니다.", 400),
@@ -46,7 +56,8 @@ public enum ErrorCode {
     TRAVEL_LOG_TITLE_ALREADY_EXISTS("TRAVEL_LOG_TITLE_ALREADY_EXISTS", "이미 존재하는 여행일지 제목입니다.", 409),
 
     // 태그 관련 에러 코드
-    HASHTAG_EXISTS("HASHTAG_EXISTS", "이미 존재하는 해시태그입니다.", 409)
+    HASHTAG_EXISTS("HASHTAG_EXISTS", "이미 존재하는 해시태그입니다.", 409),
+    HASHTAG_NOT_FOUND("HASHTAG_NOT_FOUND", "존재하지 않는 해시태그가 포함되어 있습니다.", 400)
 
 
     ;
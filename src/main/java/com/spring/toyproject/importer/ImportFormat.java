@@ -0,0 +1,32 @@
+package com.spring.toyproject.importer;
+
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import org.springframework.http.MediaType;
+
+/**
+ * 여행일지 가져오기 파일 형식
+ */
+public enum ImportFormat {
+
+    // 한 줄에 JSON 객체 하나 (application/x-ndjson)
+    NDJSON,
+    // 첫 줄은 헤더 (text/csv)
+    CSV;
+
+    /**
+     * 요청의 Content-Type으로 형식 판별
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return NDJSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+                return CSV;
+            }
+        }
+        throw new BusinessException(ErrorCode.UNSUPPORTED_IMPORT_FORMAT);
+    }
+}
@@ -0,0 +1,278 @@
+package com.spring.toyproject.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.toyproject.domain.dto.request.TravelLogRequestDto;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 여행일지 가져오기 파일을 한 행씩 읽는 스트리밍 리더
+ * 파일 전체를 메모리에 올리지 않고 요청 본문 스트림에서 바로 읽는다.
+ *
+ * NDJSON: 한 줄에 TravelLogRequestDto 형태의 JSON 객체 하나
+ * CSV: 첫 줄은 헤더 (title,content,logDate,location,mood,expenses,rating,tagIds)
+ *      tagIds는 ';'로 구분, 값에 ',' / '"' / 줄바꿈이 있으면 큰따옴표로 감싼다.
+ *
+ * 한 행(레코드)은 최대 길이까지만 버퍼에 담고, 넘으면 행 끝까지 버리면서 실패 행으로 돌려준다.
+ * (닫히지 않은 따옴표나 아주 긴 한 줄이 요청 본문 전체를 메모리에 올리지 않도록)
+ */
+public class TravelLogImportReader implements Closeable {
+
+    private static final String TAG_ID_DELIMITER = ";";
+
+    // 한 행의 최대 길이 (문자 수) - 가장 긴 유효 행(내용 2000자 + 나머지 필드)의 몇 배
+    public static final int DEFAULT_MAX_RECORD_LENGTH = 16 * 1024;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordLength;
+
+    // 파일 맨 앞의 BOM 확인 여부
+    private boolean started;
+    // 마지막으로 읽은 행이 최대 길이를 넘었는지
+    private boolean oversized;
+
+    // CSV 헤더 (컬럼명 -> 인덱스)
+    private Map<String, Integer> header;
+    private long rowNumber;
+
+    public TravelLogImportReader(InputStream in, ImportFormat format, ObjectMapper objectMapper) {
+        this(in, format, objectMapper, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    public TravelLogImportReader(InputStream in, ImportFormat format, ObjectMapper objectMapper, int maxRecordLength) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * 다음 행 읽기
+     *
+     * @return 더 이상 행이 없으면 null
+     */
+    public TravelLogImportRow next() throws IOException {
+        if (!started) {
+            skipByteOrderMark();
+            started = true;
+        }
+        return format == ImportFormat.NDJSON ? nextJson() : nextCsv();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private TravelLogImportRow nextJson() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (!oversized && line.isBlank());
+
+        rowNumber++;
+        if (oversized) {
+            return tooLong();
+        }
+        try {
+            return TravelLogImportRow.parsed(rowNumber, objectMapper.readValue(line, TravelLogRequestDto.class));
+        } catch (JsonProcessingException e) {
+            return TravelLogImportRow.failed(rowNumber, null, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private TravelLogImportRow nextCsv() throws IOException {
+        if (header == null) {
+            List<String> columns = readRecord();
+            if (columns == null) {
+                return null;
+            }
+            if (oversized) {
+                throw new IOException("CSV 헤더가 최대 길이를 초과했습니다.");
+            }
+            header = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                header.put(columns.get(i).trim(), i);
+            }
+        }
+
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (!oversized && values.size() == 1 && values.get(0).isBlank());
+
+        rowNumber++;
+        if (oversized) {
+            return tooLong();
+        }
+        String field = null;
+        try {
+            field = "logDate";
+            LocalDate logDate = parseDate(value(values, field));
+            field = "expenses";
+            Long expenses = parseLong(value(values, field));
+            field = "rating";
+            Integer rating = parseInteger(value(values, field));
+            field = "tagIds";
+            List<Long> tagIds = parseTagIds(value(values, field));
+
+            TravelLogRequestDto request = TravelLogRequestDto.builder()
+                    .title(blankToNull(value(values, "title")))
+                    .content(blankToNull(value(values, "content")))
+                    .logDate(logDate)
+                    .location(blankToNull(value(values, "location")))
+                    .mood(blankToNull(value(values, "mood")))
+                    .expenses(expenses)
+                    .rating(rating)
+                    .tagIds(tagIds)
+                    .build();
+            return TravelLogImportRow.parsed(rowNumber, request);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return TravelLogImportRow.failed(rowNumber, field, "값의 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * NDJSON 한 줄 읽기 (최대 길이를 넘으면 줄 끝까지 버리고 oversized 표시)
+     *
+     * @return 스트림 끝이면 null
+     */
+    private String readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        oversized = false;
+        StringBuilder line = new StringBuilder();
+        while (c != -1 && c != '\n') {
+            if (c != '\r' && !oversized) {
+                line.append((char) c);
+                if (line.length() > maxRecordLength) {
+                    oversized = true;
+                    line.setLength(0);
+                }
+            }
+            c = reader.read();
+        }
+        return line.toString();
+    }
+
+    /**
+     * CSV 레코드 하나 읽기 (RFC 4180 - 따옴표 안의 쉼표/줄바꿈 허용, "" 는 " 로 해석)
+     * 최대 길이를 넘으면 레코드 끝까지 따옴표 상태만 따라가며 버리고 oversized 표시
+     *
+     * @return 스트림 끝이면 null
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        oversized = false;
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int nextChar = reader.read();
+                    if (nextChar == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+
+            if (!oversized && ++length > maxRecordLength) {
+                oversized = true;
+            }
+            if (oversized) {
+                values.clear();
+                value.setLength(0);
+            }
+            c = reader.read();
+        }
+
+        values.add(value.toString());
+        return values;
+    }
+
+    // 파일 맨 앞의 UTF-8 BOM은 건너뜀 (첫 헤더명/첫 JSON이 깨지지 않도록)
+    private void skipByteOrderMark() throws IOException {
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+    }
+
+    private TravelLogImportRow tooLong() {
+        return TravelLogImportRow.failed(rowNumber, null, "행 길이가 최대 %d자를 초과했습니다.".formatted(maxRecordLength));
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = header.get(column);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static LocalDate parseDate(String value) {
+        return blankToNull(value) == null ? null : LocalDate.parse(value.trim());
+    }
+
+    private static Integer parseInteger(String value) {
+        return blankToNull(value) == null ? null : Integer.parseInt(value.trim());
+    }
+
+    private static Long parseLong(String value) {
+        return blankToNull(value) == null ? null : Long.parseLong(value.trim());
+    }
+
+    private static List<Long> parseTagIds(String value) {
+        if (blankToNull(value) == null) {
+            return List.of();
+        }
+        List<Long> tagIds = new ArrayList<>();
+        for (String tagId : value.split(TAG_ID_DELIMITER)) {
+            if (!tagId.isBlank()) {
+                tagIds.add(Long.parseLong(tagId.trim()));
+            }
+        }
+        return tagIds;
+    }
+}
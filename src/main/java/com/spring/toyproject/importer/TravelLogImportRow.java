@@ -0,0 +1,34 @@
+package com.spring.toyproject.importer;
+
+import com.spring.toyproject.domain.dto.request.TravelLogRequestDto;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가져오기 파일에서 읽은 한 행
+ * 파싱에 실패하면 request 대신 에러 정보를 담는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TravelLogImportRow {
+
+    // 데이터 행 번호 (헤더 제외, 1부터)
+    private final long rowNumber;
+    private final TravelLogRequestDto request;
+
+    private final String errorField;
+    private final String errorMessage;
+
+    public static TravelLogImportRow parsed(long rowNumber, TravelLogRequestDto request) {
+        return new TravelLogImportRow(rowNumber, request, null, null);
+    }
+
+    public static TravelLogImportRow failed(long rowNumber, String field, String message) {
+        return new TravelLogImportRow(rowNumber, null, field, message);
+    }
+
+    public boolean isFailed() {
+        return request == null;
+    }
+}
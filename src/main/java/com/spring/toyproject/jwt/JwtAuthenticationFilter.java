@@ -1,60 +1,62 @@
 package com.spring.toyproject.jwt;
 
+import com.spring.toyproject.config.FileUploadConfig;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 인증 필터
  * 클라이언트 모든 요청에 대해 토큰을 검사하는 자동화된 필터
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    // 요청당 토큰 검증 비용 측정 (result: authenticated | invalid)
+    private final Timer authenticatedTimer;
+    private final Timer invalidTimer;
+
+    public JwtAuthenticationFilter(JwtProvider jwtProvider,
+                                   VerifiedTokenCache verifiedTokenCache,
+                                   MeterRegistry meterRegistry) {
+        this.jwtProvider = jwtProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.authenticatedTimer = Timer.builder("jwt.authentication")
+                .tag("result", "authenticated")
+                .register(meterRegistry);
+        this.invalidTimer = Timer.builder("jwt.authentication")
+                .tag("result", "invalid")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        try {
-            // 클라이언트의 요청에서 들어온 토큰을 뜯어와야함.
-            String token = extractTokenFromHeader(request);
-
-            // 서명, 토큰 위조 검사
-            if (jwtProvider.validateToken(token)) {
-                // 토큰에서 사용자명을 추출
-                String username = jwtProvider.getUsernameFromToken(token);
-
-                // 시큐리티에게 알려줄 인증정보(사용자명, 권한) 생성
-                UsernamePasswordAuthenticationToken auth
-                        = new UsernamePasswordAuthenticationToken(
-                        username   // Principal: 컨트롤러가 사용할 인증된 유저의 식별자
-                        , null // 비밀번호 저장: 일반적으로 저장 안함
-                        , new ArrayList<>()
-                );
-
-
-                // 스프링 시큐리티에게 인증 성공을 알려줌
-                SecurityContextHolder.getContext().setAuthentication(auth);
-                log.debug("JWT 인증 성공: {}", username);
-            }
+        // 클라이언트의 요청에서 들어온 토큰을 뜯어와야함.
+        String token = extractTokenFromHeader(request);
 
-        } catch (Exception e) {
-            log.error("JWT 인증 오류 발생: {}", e.getMessage());
+        if (token != null) {
+            try {
+                authenticate(token);
+            } catch (Exception e) {
+                log.error("JWT 인증 오류 발생: {}", e.getMessage());
+            }
         }
 
         // 다음 필터로 요청 전달
@@ -62,6 +64,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
+    private void authenticate(String token) {
+        long start = System.nanoTime();
+
+        // 이미 검증한 토큰이면 파싱 생략 (만료 시각이 지나면 캐시에서 나오지 않음)
+        JwtPrincipal principal = verifiedTokenCache.get(token);
+
+        if (principal == null) {
+            // 서명, 토큰 위조, 만료 검사 - 토큰은 한 번만 파싱
+            Claims claims = jwtProvider.parseVerifiedClaims(token);
+            if (claims == null) {
+                invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            // 토큰에서 사용자 정보를 추출
+            principal = jwtProvider.toPrincipal(claims);
+            if (principal == null) {
+                invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return;
+            }
+            verifiedTokenCache.put(token, principal, claims.getExpiration());
+        }
+
+        // 시큐리티에게 알려줄 인증정보(사용자 정보, 권한) 생성
+        UsernamePasswordAuthenticationToken auth
+                = new UsernamePasswordAuthenticationToken(
+                principal   // Principal: 컨트롤러가 사용할 인증된 유저 정보
+                , null // 비밀번호 저장: 일반적으로 저장 안함
+                , Collections.emptyList()
+        );
+
+        // 스프링 시큐리티에게 인증 성공을 알려줌
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        authenticatedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.debug("JWT 인증 성공: {}", principal.getUsername());
+    }
+
+    // 업로드 사진 요청은 인증이 필요 없으므로 토큰 검사 생략
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + FileUploadConfig.URL_PREFIX);
+    }
+
     private String extractTokenFromHeader(HttpServletRequest request) {
         // 1. 요청 헤더에서 Authorization 키를 파싱
         String bearerToken = request.getHeader("Authorization");
@@ -0,0 +1,27 @@
+package com.spring.toyproject.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * JWT 인증에 성공한 사용자 정보 - 시큐리티 컨텍스트의 Principal로 저장됨
+ * 컨트롤러에서는 @AuthenticationPrincipal(expression = "userId") 처럼 필요한 값만 꺼내 씀
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtPrincipal implements AuthenticatedPrincipal {
+
+    private final Long userId;
+    private final String username;
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
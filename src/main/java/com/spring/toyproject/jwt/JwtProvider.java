@@ -2,9 +2,10 @@ package com.spring.toyproject.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -21,46 +22,69 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtProvider {
 
+    // 사용자 ID 클레임 이름 - 요청마다 사용자명으로 DB를 조회하지 않도록 토큰에 함께 담음
+    public static final String USER_ID_CLAIM = "uid";
+
     private final JwtProperties jwtProperties;
 
+    // 서명 키와 파서는 시작 시 한 번만 만들어 재사용 (둘 다 불변 객체라 여러 스레드에서 공유 가능)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey) // 이 서버가 발급한 토큰이 아님
+                .build();
+    }
+
     /**
      * JWT 토큰을 발급하는 메서드
+     * @param userId - 발급대상의 사용자 ID
      * @param username - 발급대상의 사용자 이름 (유일하게 사용자를 식별할 값)
      * @return - JWT 토큰 문자열 (암호화됨)
      */
-    public String generateToken(String username) {
+    public String generateToken(Long userId, String username) {
 
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
 
         return Jwts.builder()
-                .setSubject(username) // 이 토큰을 유일하게 식별할 키
+                .subject(username) // 이 토큰을 유일하게 식별할 키
+                .claim(USER_ID_CLAIM, userId) // 사용자 ID
                 .issuedAt(now) // 언제 발급했는지
                 .expiration(expiryDate) // 언제 만료되는지
                 .issuer("Toy Project By SDJ") // 발급자 정보
-                .signWith(getSigningKey()) // 서명
+                .signWith(signingKey) // 서명
                 .compact();
     }
 
     /**
-     * JWT 토큰 유효성 검증
+     * JWT 토큰을 한 번만 파싱해서 서명/만료를 검증하고 검증된 내용을 돌려줌
+     * @param token - 클라이언트가 보낸 토큰
+     * @return - 검증된 토큰 내용, 유효하지 않은 토큰이면 null
      */
-    public boolean validateToken(String token) {
+    public Claims parseVerifiedClaims(String token) {
         try {
-            // 토큰 파싱 - Claims: 토큰의 내용
-            Claims claims = getClaimsFromToken(token);
-            return true;
-        } catch (JwtException e) {
+            return getClaimsFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
     /**
-     * 파싱된 JWT에서 사용자 이름을 추출하는 함수
+     * 검증된 토큰 내용으로 인증 사용자 정보 생성
+     * @return - 사용자 ID 클레임이 없는 이전 형식의 토큰이면 null (다시 로그인 필요)
      */
-    public String getUsernameFromToken(String token) {
-        return getClaimsFromToken(token).getSubject();
+    public JwtPrincipal toPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        if (userId == null) {
+            log.warn("JWT token without user id claim: {}", claims.getSubject());
+            return null;
+        }
+        return new JwtPrincipal(userId, claims.getSubject());
     }
 
     /**
@@ -68,19 +92,9 @@ public class JwtProvider {
      * @param token
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey()) // 이 서버가 발급한 토큰이 아님
-                .build()
+        return jwtParser
                 .parseSignedClaims(token) // 클라이언트가 보낸 토큰이 위조됨
                 .getPayload()
                 ;
     }
-
-    /**
-     * JWT 토큰 발급에 필요한 서명 만들기
-     * @return - 서명 키 객체
-     */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
-    }
 }
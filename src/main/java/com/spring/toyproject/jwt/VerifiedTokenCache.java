@@ -0,0 +1,180 @@
+package com.spring.toyproject.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증을 마친 토큰 캐시
+ * SPA는 한 세션 동안 같은 토큰을 계속 보내므로, 한 번 검증한 토큰은 만료 시각까지 파싱/HMAC 검증 없이 재사용한다.
+ *
+ * - 키는 토큰 원문 대신 SHA-256 다이제스트 (메모리에 토큰 원문을 남기지 않음)
+ * - 조회는 ConcurrentHashMap 읽기만 하므로 락이 없음
+ * - 만료 시각(exp)이 지난 항목은 조회 시 바로 버리고, 주기적으로도 정리함
+ * - 가득 차면 일부 항목만 표본으로 훑어서 만료된 항목을, 없으면 그중 가장 먼저 만료될 항목을 비우고 새 토큰을 넣음
+ *   (요청 스레드에서 전체를 훑지 않도록 표본 크기로 제한)
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    // 가득 찼을 때 한 번에 훑어보는 항목 수
+    private static final int EVICTION_SAMPLE_SIZE = 16;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    // MessageDigest는 스레드 안전하지 않으므로 스레드마다 하나씩 사용
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter evictionCounter;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+
+        FunctionCounter.builder("jwt.token.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.token.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.token.cache.hit.ratio", this, VerifiedTokenCache::hitRatio)
+                .description("캐시 적중률 (시작 이후 누적)")
+                .register(meterRegistry);
+        Gauge.builder("jwt.token.cache.size", entries, Map::size)
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("jwt.token.cache.evictions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 인증 사용자 정보 조회
+     * @return - 아직 만료되지 않은 검증된 토큰이면 사용자 정보, 아니면 null
+     */
+    public JwtPrincipal get(String token) {
+        String key = digest(token);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            // 만료된 토큰은 절대 재사용하지 않음 - 다시 파싱하면 만료 예외로 거절됨
+            if (entries.remove(key, entry)) {
+                evictionCounter.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.principal;
+    }
+
+    /**
+     * 서명 검증을 마친 토큰을 만료 시각까지 캐시
+     */
+    public void put(String token, JwtPrincipal principal, Date expiration) {
+        if (expiration == null) {
+            return; // 만료 시각이 없는 토큰은 캐시하지 않음
+        }
+        long now = System.currentTimeMillis();
+        if (expiration.getTime() <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evictSample(now);
+        }
+        entries.put(digest(token), new Entry(principal, expiration.getTime()));
+    }
+
+    // 주기적으로 만료된 항목 정리 (다시 조회되지 않는 토큰도 메모리에 남지 않도록)
+    @Scheduled(fixedDelayString = "${jwt.cache.sweep-interval:1m}", initialDelayString = "${jwt.cache.sweep-interval:1m}")
+    public void evictExpired() {
+        evictExpired(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        entries.forEach((key, entry) -> {
+            if (entry.isExpired(now) && entries.remove(key, entry)) {
+                evictionCounter.increment();
+            }
+        });
+    }
+
+    // 앞쪽 일부 항목 중 만료된 항목을 비우고, 하나도 없으면 그중 가장 먼저 만료될 항목을 비움
+    private void evictSample(long now) {
+        Map.Entry<String, Entry> soonest = null;
+        boolean evicted = false;
+        int sampled = 0;
+        for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+            if (sampled++ >= EVICTION_SAMPLE_SIZE) {
+                break;
+            }
+            Entry entry = candidate.getValue();
+            if (entry.isExpired(now)) {
+                if (entries.remove(candidate.getKey(), entry)) {
+                    evictionCounter.increment();
+                    evicted = true;
+                }
+            } else if (soonest == null || entry.expiresAtMillis < soonest.getValue().expiresAtMillis) {
+                soonest = candidate;
+            }
+        }
+        if (!evicted && soonest != null && entries.remove(soonest.getKey(), soonest.getValue())) {
+            evictionCounter.increment();
+        }
+    }
+
+    private double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    private static final class Entry {
+        private final JwtPrincipal principal;
+        private final long expiresAtMillis;
+
+        private Entry(JwtPrincipal principal, long expiresAtMillis) {
+            this.principal = principal;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
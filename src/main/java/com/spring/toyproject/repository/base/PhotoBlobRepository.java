@@ -0,0 +1,64 @@
+package com.spring.toyproject.repository.base;
+
+import com.spring.toyproject.domain.entity.PhotoBlob;
+import com.spring.toyproject.repository.custom.PhotoBlobRefCountRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PhotoBlobRepository extends JpaRepository<PhotoBlob, String> {
+
+    // 참조 수 보정/삭제 전 행 잠금 (업로드와 GC가 같은 파일을 동시에 다루지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM PhotoBlob b WHERE b.contentHash = :contentHash")
+    Optional<PhotoBlob> findWithLockByContentHash(@Param("contentHash") String contentHash);
+
+    // 주어진 해시 중 등록된 것만 조회 (고아 파일 확인용)
+    @Query("SELECT b.contentHash FROM PhotoBlob b WHERE b.contentHash IN :contentHashes")
+    List<String> findExistingHashes(@Param("contentHashes") Collection<String> contentHashes);
+
+    /**
+     * 파일 등록 또는 참조 수 증가 (한 문장으로 원자적 처리)
+     * 같은 새 내용을 동시에 올려도 한쪽은 INSERT, 다른 쪽은 행 잠금을 기다렸다가 참조 수만 올린다.
+     * (MariaDB 전용 구문)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO photo_blobs (content_hash, file_path, size, ref_count, created_at) " +
+            "VALUES (:contentHash, :filePath, :size, 1, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, released_at = NULL", nativeQuery = true)
+    int acquire(@Param("contentHash") String contentHash,
+                @Param("filePath") String filePath,
+                @Param("size") Long size);
+
+    /**
+     * 참조 수 감소 (사진 삭제와 같은 트랜잭션에서 호출)
+     * 0이 되면 참조가 없어진 시각을 기록한다. (MariaDB는 SET을 왼쪽부터 적용하므로 released_at을 먼저 계산)
+     */
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET " +
+            "b.releasedAt = CASE WHEN b.refCount <= :count THEN :now ELSE b.releasedAt END, " +
+            "b.refCount = CASE WHEN b.refCount > :count THEN b.refCount - :count ELSE 0 END " +
+            "WHERE b.contentHash IN :contentHashes")
+    int release(@Param("contentHashes") Collection<String> contentHashes,
+                @Param("count") long count,
+                @Param("now") LocalDateTime now);
+
+    // 참조 수 점검용: 해시가 afterHash보다 큰 파일의 기록된 참조 수와 실제 travel_photos 행 수를 해시 순으로 조회
+    @Query("SELECT new com.spring.toyproject.repository.custom.PhotoBlobRefCountRow(b.contentHash, b.refCount, " +
+            "(SELECT COUNT(p) FROM TravelPhoto p WHERE p.contentHash = b.contentHash)) " +
+            "FROM PhotoBlob b WHERE b.contentHash > :afterHash ORDER BY b.contentHash")
+    List<PhotoBlobRefCountRow> findRefCountRowsAfter(@Param("afterHash") String afterHash, Limit limit);
+
+    // 유예시간이 지난 미참조 파일 조회
+    @Query("SELECT b.contentHash FROM PhotoBlob b WHERE b.refCount = 0 AND b.releasedAt < :cutoff ORDER BY b.releasedAt")
+    List<String> findCollectableHashes(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
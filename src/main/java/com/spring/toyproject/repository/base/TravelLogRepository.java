@@ -3,9 +3,25 @@ package com.spring.toyproject.repository.base;
 import com.spring.toyproject.domain.entity.TravelLog;
 import com.spring.toyproject.domain.entity.Trip;
 import com.spring.toyproject.repository.custom.TravelLogRepositoryCustom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
 
 public interface TravelLogRepository extends JpaRepository<TravelLog, Long>, TravelLogRepositoryCustom {
     // 여행별 여행일지 존재 여부 확인
     boolean existsByTripAndTitle(Trip trip, String title);
+
+    // 사진 추가 전 행 잠금 (동시에 완료되는 업로드가 최대 사진 수를 넘지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM TravelLog l WHERE l.id = :id")
+    Optional<TravelLog> findWithLockById(@Param("id") Long id);
+
+    // 여행의 가장 최근 여행일지 날짜 (여행일지 삭제로 집계의 최근 날짜가 빠졌을 때 다시 계산)
+    @Query("SELECT MAX(l.logDate) FROM TravelLog l WHERE l.trip.id = :tripId")
+    LocalDate findLastLogDateByTripId(@Param("tripId") Long tripId);
 }
\ No newline at end of file
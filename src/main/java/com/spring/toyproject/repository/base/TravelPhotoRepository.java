@@ -1,12 +1,20 @@
 package com.spring.toyproject.repository.base;
 
+import com.spring.toyproject.domain.entity.PhotoVariantStatus;
 import com.spring.toyproject.domain.entity.TravelLog;
 import com.spring.toyproject.domain.entity.TravelPhoto;
+import com.spring.toyproject.repository.custom.TravelPhotoRepositoryCustom;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface TravelPhotoRepository extends JpaRepository<TravelPhoto, Long> {
+public interface TravelPhotoRepository extends JpaRepository<TravelPhoto, Long>, TravelPhotoRepositoryCustom {
 
     // 여행일지에 첨부된 모든 이미지 목록 가져오기
     /*
@@ -20,4 +28,32 @@ public interface TravelPhotoRepository extends JpaRepository<TravelPhoto, Long>
     // 여행일지에 첨부된 메인 썸네일 가져오기
     TravelPhoto findFirstByTravelLogOrderByDisplayOrderAsc(TravelLog travelLog);
 
-}
\ No newline at end of file
+    // 여행일지에 첨부된 사진 수
+    long countByTravelLogId(Long travelLogId);
+
+    // 같은 저장소 파일을 참조하는 사진 수 (참조 수 보정용)
+    long countByContentHash(String contentHash);
+
+    // 여행일지 사진의 마지막 순번 (사진이 없으면 0)
+    @Query("SELECT COALESCE(MAX(p.displayOrder), 0) FROM TravelPhoto p WHERE p.travelLog.id = :travelLogId")
+    int findMaxDisplayOrder(@Param("travelLogId") Long travelLogId);
+
+    // 주어진 저장 파일명 중 DB에 존재하는 것만 조회 (고아 파일 확인용)
+    @Query("SELECT p.storedFilename FROM TravelPhoto p WHERE p.storedFilename IN :storedFilenames")
+    List<String> findExistingStoredFilenames(@Param("storedFilenames") Collection<String> storedFilenames);
+
+    // 리사이즈 이미지 생성 대기 중인 사진 ID를 ID 순으로 조회 (기존 데이터의 null 상태 포함)
+    @Query("SELECT p.id FROM TravelPhoto p " +
+            "WHERE (p.variantStatus IS NULL OR p.variantStatus = com.spring.toyproject.domain.entity.PhotoVariantStatus.PENDING) " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<Long> findVariantPendingIds(@Param("afterId") Long afterId, Limit limit);
+
+    // 리사이즈 이미지 생성 결과 기록
+    @Transactional
+    @Modifying
+    @Query("UPDATE TravelPhoto p SET p.variantStatus = :status, p.variantWidths = :widths WHERE p.id = :id")
+    int updateVariants(@Param("id") Long id,
+                       @Param("status") PhotoVariantStatus status,
+                       @Param("widths") String widths);
+
+}
@@ -4,11 +4,14 @@ import com.spring.toyproject.domain.entity.Trip;
 import com.spring.toyproject.domain.entity.User;
 import com.spring.toyproject.repository.custom.TripRepositoryCustom;
 import com.spring.toyproject.repository.custom.TripSearchCondition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TripRepository extends JpaRepository<Trip, Long>, TripRepositoryCustom {
@@ -20,6 +23,10 @@ public interface TripRepository extends JpaRepository<Trip, Long>, TripRepositor
     // 사용자별 여행 존재 여부 확인
     boolean existsByUserAndTitle(User user, String title);
 
-    // 사용자별 여행 ID로 조회 (보안을 위해 사용자 정보도 함께 확인)
-    Optional<Trip> findByIdAndUser(Long id, User user);
+    // 사용자별 여행 ID로 조회 (보안을 위해 사용자 ID도 함께 확인, 사용자 테이블은 조회하지 않음)
+    Optional<Trip> findByIdAndUserId(Long id, Long userId);
+
+    // 집계 정합성 복구용: ID가 afterId보다 큰 여행 ID를 순서대로 조회
+    @Query("SELECT t.id FROM Trip t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
 }
\ No newline at end of file
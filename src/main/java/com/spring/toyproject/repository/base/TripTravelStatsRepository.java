@@ -0,0 +1,39 @@
+package com.spring.toyproject.repository.base;
+
+import com.spring.toyproject.domain.entity.TripTravelStats;
+import com.spring.toyproject.repository.custom.TravelLogStatsRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TripTravelStatsRepository extends JpaRepository<TripTravelStats, Long> {
+
+    // 집계 갱신용 (같은 여행의 동시 갱신은 순서대로 처리)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TripTravelStats s WHERE s.tripId = :tripId")
+    Optional<TripTravelStats> findWithLockByTripId(@Param("tripId") Long tripId);
+
+    List<TripTravelStats> findByTripIdIn(Collection<Long> tripIds);
+
+    // 사용자의 여행 중 가장 최근 여행일지 날짜
+    @Query("SELECT MAX(s.lastLogDate) FROM TripTravelStats s WHERE s.userId = :userId")
+    LocalDate findLastLogDateByUserId(@Param("userId") Long userId);
+
+    // 여행 집계를 사용자별로 합산 (정합성 복구용)
+    @Query("""
+            SELECT new com.spring.toyproject.repository.custom.TravelLogStatsRow(
+                s.userId, COUNT(s), SUM(s.logCount), SUM(s.ratingSum), SUM(s.ratingCount),
+                SUM(s.expenseSum), MAX(s.lastLogDate))
+            FROM TripTravelStats s
+            WHERE s.userId IN :userIds
+            GROUP BY s.userId
+            """)
+    List<TravelLogStatsRow> sumByUserIds(@Param("userIds") Collection<Long> userIds);
+}
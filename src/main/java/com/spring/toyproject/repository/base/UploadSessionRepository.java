@@ -0,0 +1,32 @@
+package com.spring.toyproject.repository.base;
+
+import com.spring.toyproject.domain.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    Optional<UploadSession> findByIdAndUsername(String id, String username);
+
+    // 받은 구간 갱신/완료 처리 전 행 잠금 (같은 세션의 청크가 동시에 도착해도 구간이 유실되지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UploadSession s WHERE s.id = :id AND s.username = :username")
+    Optional<UploadSession> findWithLockByIdAndUsername(@Param("id") String id, @Param("username") String username);
+
+    // 주어진 ID 중 진행 중인 세션만 조회 (고아 파일 확인용)
+    @Query("SELECT s.id FROM UploadSession s WHERE s.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    // 마지막 청크 이후 오래된 세션 ID
+    @Query("SELECT s.id FROM UploadSession s WHERE s.updatedAt < :cutoff ORDER BY s.updatedAt")
+    List<String> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
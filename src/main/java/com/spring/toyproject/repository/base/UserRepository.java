@@ -1,9 +1,18 @@
 package com.spring.toyproject.repository.base;
 
 import com.spring.toyproject.domain.entity.User;
+import com.spring.toyproject.repository.custom.UserAccountRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -14,7 +23,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
 
+    // 로그인용: 사용자명 또는 이메일로 한 번에 조회 (다른 사용자의 이메일이 사용자명과 같으면 두 행이 나올 수 있음)
+    @Query("SELECT u FROM User u WHERE u.username = :account OR u.email = :account")
+    List<User> findByUsernameOrEmail(@Param("account") String account);
+
     // 중복확인
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // 가입 중복 확인 필터 적재용: 사용자명/이메일만 스트리밍 조회 (트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.spring.toyproject.repository.custom.UserAccountRow(u.username, u.email) FROM User u")
+    Stream<UserAccountRow> streamAccounts();
+
+    // 집계 정합성 복구용: ID가 afterId보다 큰 사용자 ID를 순서대로 조회
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
 }
@@ -0,0 +1,22 @@
+package com.spring.toyproject.repository.base;
+
+import com.spring.toyproject.domain.entity.UserTravelStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserTravelStatsRepository extends JpaRepository<UserTravelStats, Long> {
+
+    // 집계 갱신용 (여행 집계 행을 먼저 잠근 뒤 잠금 -> 잠금 순서 고정)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserTravelStats s WHERE s.userId = :userId")
+    Optional<UserTravelStats> findWithLockByUserId(@Param("userId") Long userId);
+
+    List<UserTravelStats> findByUserIdIn(Collection<Long> userIds);
+}
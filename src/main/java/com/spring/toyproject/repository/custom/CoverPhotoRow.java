@@ -0,0 +1,22 @@
+package com.spring.toyproject.repository.custom;
+
+import com.spring.toyproject.storage.PhotoVariants;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 여행일지 대표 사진 조회 결과 (원본 경로 + 생성된 리사이즈 이미지 가로폭)
+ */
+@Getter
+@AllArgsConstructor
+public class CoverPhotoRow {
+
+    private String filePath;
+    private String variantWidths;
+
+    public Map<Integer, String> getVariantUrls() {
+        return PhotoVariants.urls(filePath, variantWidths);
+    }
+}
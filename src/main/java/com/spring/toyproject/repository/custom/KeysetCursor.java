@@ -0,0 +1,107 @@
+package com.spring.toyproject.repository.custom;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(키셋) 페이징에서 사용하는 커서 토큰
+ * 마지막으로 읽은 행의 정렬값과 ID를 담아 다음 페이지의 시작점으로 사용한다.
+ *
+ * 토큰 원문: {정렬기준}:{정렬방향}:{ID}:{~ | =정렬값}  -> Base64(URL-safe)로 인코딩해 클라이언트에 전달
+ * 정렬값이 NULL인 행은 항상 맨 뒤에 정렬된다 (NULLS LAST).
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    private static final String NULL_MARK = "~";
+    private static final String VALUE_MARK = "=";
+
+    private final Long id;          // 마지막 행의 ID (동일 정렬값 사이의 tiebreaker)
+    private final String sortValue; // 마지막 행의 정렬값 (NULL이면 null)
+
+    /**
+     * 정렬 기준과 방향을 커서에 기록할 키로 변환
+     */
+    public static String sortKeyOf(String sortBy, boolean desc) {
+        return sortBy.toLowerCase() + ":" + (desc ? "DESC" : "ASC");
+    }
+
+    /**
+     * 마지막 행의 정보로 다음 페이지 커서 토큰 생성
+     */
+    public static String encode(String sortKey, Long id, Object sortValue) {
+        String raw = sortKey + ":" + id + ":"
+                + (sortValue == null ? NULL_MARK : VALUE_MARK + sortValue);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석 - 첫 페이지 요청(빈 토큰)이면 null 반환
+     * 다른 정렬 조건으로 발급된 토큰이거나 변조된 토큰이면 예외
+     */
+    public static KeysetCursor decode(String token, String sortKey) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            // {정렬기준}:{정렬방향}:{ID}:{값}  (값 안에 ':'이 있을 수 있으므로 4개까지만 분리)
+            String[] parts = raw.split(":", 4);
+            if (parts.length != 4 || !sortKey.equals(parts[0] + ":" + parts[1])) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            Long id = Long.valueOf(parts[2]);
+            String value = parts[3];
+            if (NULL_MARK.equals(value)) {
+                return new KeysetCursor(id, null);
+            }
+            if (!value.startsWith(VALUE_MARK)) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(id, value.substring(VALUE_MARK.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 이후의 행만 남기는 WHERE 조건 생성 (ORDER BY 정렬값 NULLS LAST, id 기준)
+     *
+     * 정렬값이 있는 경우 (ASC 기준)
+     *   sort > ? OR (sort = ? AND id > ?) OR sort IS NULL
+     * 정렬값이 NULL인 경우
+     *   sort IS NULL AND id > ?
+     *
+     * @param sortPath   - 정렬 컬럼
+     * @param sortValue  - 커서의 정렬값을 컬럼 타입으로 변환한 값
+     * @param idPath     - ID 컬럼
+     * @param desc       - 내림차순 여부
+     */
+    public Predicate after(Expression<?> sortPath, Object sortValue, NumberPath<Long> idPath, boolean desc) {
+        BooleanExpression idAfter = desc ? idPath.lt(id) : idPath.gt(id);
+        BooleanExpression sortIsNull = Expressions.booleanOperation(Ops.IS_NULL, sortPath);
+
+        if (sortValue == null) {
+            return sortIsNull.and(idAfter);
+        }
+
+        Expression<?> value = Expressions.constant(sortValue);
+        return Expressions.booleanOperation(desc ? Ops.LT : Ops.GT, sortPath, value)
+                .or(Expressions.booleanOperation(Ops.EQ, sortPath, value).and(idAfter))
+                .or(sortIsNull);
+    }
+}
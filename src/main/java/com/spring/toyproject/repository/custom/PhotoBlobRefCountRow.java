@@ -0,0 +1,20 @@
+package com.spring.toyproject.repository.custom;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 참조 수 점검용 - 저장소 파일의 기록된 참조 수와 실제 참조하는 사진 수
+ */
+@Getter
+@AllArgsConstructor
+public class PhotoBlobRefCountRow {
+
+    private final String contentHash;
+    private final Long refCount;
+    private final Long actualCount;
+
+    public boolean matches() {
+        return refCount.equals(actualCount);
+    }
+}
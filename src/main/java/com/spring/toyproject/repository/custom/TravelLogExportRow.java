@@ -0,0 +1,35 @@
+package com.spring.toyproject.repository.custom;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여행 내보내기용 여행일지 프로젝션
+ * 영속성 컨텍스트에 올라가지 않으므로 스트림으로 읽어도 메모리에 쌓이지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+public class TravelLogExportRow {
+
+    private Long id;
+    private String title;
+    private String content;
+    private LocalDate logDate;
+    private String location;
+    private String mood;
+    private Long expenses;
+    private Integer rating;
+    private LocalDateTime createdAt;
+
+    // 배치 조회로 채우는 값
+    @Setter
+    private List<String> tags = new ArrayList<>();
+    @Setter
+    private List<TravelPhotoExportRow> photos = new ArrayList<>();
+}
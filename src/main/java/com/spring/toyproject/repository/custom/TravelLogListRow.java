@@ -0,0 +1,33 @@
+package com.spring.toyproject.repository.custom;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 여행일지 목록 화면 전용 조회 결과 (QueryDSL DTO 프로젝션)
+ * content(TEXT)는 SQL에서 잘라낸 미리보기만 가져오고, 여행은 요약 컬럼만 함께 조회한다.
+ */
+@Getter
+@NoArgsConstructor
+public class TravelLogListRow {
+
+    // 목록 카드에 노출할 내용 미리보기 최대 길이
+    public static final int CONTENT_PREVIEW_LENGTH = 200;
+
+    private Long id;
+    private String title;
+    private String contentPreview;
+    private LocalDate logDate;
+    private String location;
+    private String mood;
+    private Long expenses;
+    private Integer rating;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 여행 요약 정보
+    private TripListRow trip;
+}
@@ -1,14 +1,17 @@
 package com.spring.toyproject.repository.custom;
 
 
+import com.spring.toyproject.domain.dto.common.CursorPage;
 import com.spring.toyproject.domain.entity.TravelLog;
 import com.spring.toyproject.domain.entity.Trip;
+import com.spring.toyproject.search.TravelLogSearchDocument;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,15 +20,30 @@ import java.util.List;
  */
 public interface TravelLogRepositoryCustom {
 
-    // 여행별 여행일지 조회 메서드 (페이징 포함)
-    Page<TravelLog> findTravelLogsByTrip(Trip trip, TravelLogSearchCondition condition, Pageable pageable);
+    // 여행별 여행일지 목록 조회 메서드 (페이징 포함, 목록 화면용 프로젝션)
+    Page<TravelLogListRow> findTravelLogsByTrip(Trip trip, TravelLogSearchCondition condition, Pageable pageable);
 
-    // 사용자 기준(모든 여행 포함) 여행일지 조회 메서드 (페이징 포함)
-    Page<TravelLog> findTravelLogsByUserId(Long userId, TravelLogSearchCondition condition, Pageable pageable);
+    // 사용자 기준(모든 여행 포함) 여행일지 목록 조회 메서드 (페이징 포함, 목록 화면용 프로젝션)
+    Page<TravelLogListRow> findTravelLogsByUserId(Long userId, TravelLogSearchCondition condition, Pageable pageable);
+
+    // 여행별 여행일지 커서 페이징 조회 (count 쿼리 없음)
+    CursorPage<TravelLogListRow> findTravelLogsByTripAfter(Trip trip, TravelLogSearchCondition condition, String cursor, int size);
+
+    // 사용자 기준 여행일지 커서 페이징 조회 (count 쿼리 없음)
+    CursorPage<TravelLogListRow> findTravelLogsByUserIdAfter(Long userId, TravelLogSearchCondition condition, String cursor, int size);
 
     // 통합 검색: 사용자 기준 키워드로 여행일지 검색 (제목/내용/위치/태그명)
     Page<TravelLog> searchUserTravelLogs(Long userId, String keyword, Pageable pageable);
 
+    // 여행일지 ID 목록으로 목록 화면용 행 조회 (사용자 소유 확인 포함, 순서 보장 안 함)
+    List<TravelLogListRow> findListRowsByUserIdAndIds(Long userId, Collection<Long> travelLogIds);
+
+    // 검색 색인 재구축용: ID가 afterId보다 큰 여행일지를 ID 순으로 limit개 조회 (태그명 제외)
+    List<TravelLogSearchDocument> findSearchDocuments(Long afterId, int limit);
+
+    // 여행 내보내기용: 여행의 여행일지 중 ID가 afterId보다 큰 것을 ID 순으로 limit개 조회
+    List<TravelLogExportRow> findExportRows(Long tripId, Long afterId, int limit);
+
     // 여행별 여행일지 통계 조회
     long countByTrip(Trip trip);
 
@@ -44,6 +62,9 @@ public interface TravelLogRepositoryCustom {
     // 사용자별 총 지출
     Long getTotalExpensesByUserId(Long userId);
 
+    // 여행 ID 목록으로 여행별 집계(개수, 평점 합/개수, 지출 합, 최근 날짜)를 한 번에 계산 (여행일지가 없는 여행은 빠짐)
+    List<TravelLogStatsRow> aggregateStatsByTripIds(Collection<Long> tripIds);
+
     // 사용자별 모든 여행일지 조회 (여행을 통해)
     List<TravelLog> findByUserIdOrderByLogDateDesc(Long userId);
 
@@ -0,0 +1,39 @@
+package com.spring.toyproject.repository.custom;
+
+import com.spring.toyproject.stats.TravelLogStatsDelta;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 여행일지 집계 재계산 결과 (정합성 복구용)
+ * 여행별로 travel_logs를 집계하거나, 사용자별로 여행 집계를 합산한 한 행
+ */
+@Getter
+public class TravelLogStatsRow {
+
+    // 여행 ID 또는 사용자 ID
+    private final Long id;
+    private final long tripCount;
+    private final long logCount;
+    private final long ratingSum;
+    private final long ratingCount;
+    private final long expenseSum;
+    private final LocalDate lastLogDate;
+
+    // 집계 함수 결과는 행이 없으면 null
+    public TravelLogStatsRow(Long id, Long tripCount, Long logCount, Long ratingSum, Long ratingCount,
+                             Long expenseSum, LocalDate lastLogDate) {
+        this.id = id;
+        this.tripCount = tripCount == null ? 0 : tripCount;
+        this.logCount = logCount == null ? 0 : logCount;
+        this.ratingSum = ratingSum == null ? 0 : ratingSum;
+        this.ratingCount = ratingCount == null ? 0 : ratingCount;
+        this.expenseSum = expenseSum == null ? 0 : expenseSum;
+        this.lastLogDate = lastLogDate;
+    }
+
+    public TravelLogStatsDelta toTotals() {
+        return TravelLogStatsDelta.totals(logCount, ratingSum, ratingCount, expenseSum, lastLogDate);
+    }
+}
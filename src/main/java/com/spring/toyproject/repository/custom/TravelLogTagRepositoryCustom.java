@@ -2,10 +2,18 @@ package com.spring.toyproject.repository.custom;
 
 import com.spring.toyproject.domain.entity.Tag;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface TravelLogTagRepositoryCustom {
 
     // 여행일지 ID로 해시태그 목록 조회
     List<Tag> findTagsByTravelLogId(Long travelLogId);
+
+    // 여행일지 ID 목록으로 해시태그 이름 일괄 조회 (key: 여행일지 ID)
+    Map<Long, List<String>> findTagNamesByTravelLogIds(Collection<Long> travelLogIds);
+
+    // 해시태그별 사용 횟수 (key: 태그 ID)
+    Map<Long, Long> countUsageByTagId();
 }
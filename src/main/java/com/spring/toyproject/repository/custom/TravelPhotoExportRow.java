@@ -0,0 +1,31 @@
+package com.spring.toyproject.repository.custom;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여행 내보내기용 사진 프로젝션
+ */
+@Getter
+@NoArgsConstructor
+public class TravelPhotoExportRow {
+
+    // ZIP 안에서 사진 파일이 들어가는 폴더
+    public static final String ZIP_PHOTO_DIRECTORY = "photos/";
+
+    private Long id;
+    @JsonIgnore
+    private Long travelLogId;
+    @JsonIgnore
+    private String filePath;
+    private String storedFilename;
+    private String originalFilename;
+    private Integer displayOrder;
+
+    // ZIP 안의 사진 파일 경로 ex) photos/12/345-{hash}.jpg
+    // 같은 사진을 한 여행일지에 여러 번 올려도 저장 파일명이 같으므로 사진 ID로 구분
+    public String getZipEntryName() {
+        return ZIP_PHOTO_DIRECTORY + travelLogId + "/" + id + "-" + storedFilename;
+    }
+}
@@ -0,0 +1,28 @@
+package com.spring.toyproject.repository.custom;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TravelPhotoRepository 커스텀 인터페이스
+ * 목록 화면용 집합 조회 메서드들을 정의
+ */
+public interface TravelPhotoRepositoryCustom {
+
+    // 여행일지 ID 목록으로 대표 사진(display_order 최소) 경로와 리사이즈 정보를 한 번에 조회 (key: 여행일지 ID)
+    Map<Long, CoverPhotoRow> findCoverPhotosByTravelLogIds(Collection<Long> travelLogIds);
+
+    // 여행 ID 목록으로 여행 대표 사진(여행에 처음 등록된 사진)을 한 번에 조회 (key: 여행 ID)
+    Map<Long, CoverPhotoRow> findCoverPhotosByTripIds(Collection<Long> tripIds);
+
+    // 사용자 소유 여행일지의 사진을 한 번에 조회 (key: 여행일지 ID, display_order 순)
+    // 다른 사용자의 여행일지 ID는 조건에서 걸러짐
+    Map<Long, List<TravelPhotoRow>> findPhotosByTravelLogIdsAndUserId(Collection<Long> travelLogIds, Long userId);
+
+    // 여행일지 ID 목록으로 사진 메타데이터 일괄 조회 (key: 여행일지 ID, display_order 순)
+    Map<Long, List<TravelPhotoExportRow>> findExportRowsByTravelLogIds(Collection<Long> travelLogIds);
+
+    // 여행의 사진 중 ID가 afterId보다 큰 것을 ID 순으로 limit개 조회
+    List<TravelPhotoExportRow> findExportRowsByTripId(Long tripId, Long afterId, int limit);
+}
@@ -0,0 +1,17 @@
+package com.spring.toyproject.repository.custom;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사진 목록 응답용 프로젝션 (여행일지/사진 엔터티를 로딩하지 않음)
+ */
+@Getter
+@NoArgsConstructor
+public class TravelPhotoRow {
+
+    private Long id;
+    private Long travelLogId;
+    private String filePath;
+    private String variantWidths;
+}
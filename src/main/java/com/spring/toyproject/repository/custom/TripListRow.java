@@ -0,0 +1,39 @@
+package com.spring.toyproject.repository.custom;
+
+import com.spring.toyproject.domain.entity.TripStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 여행 목록 화면 전용 조회 결과 (QueryDSL DTO 프로젝션)
+ * 엔터티를 영속성 컨텍스트에 올리지 않고 목록에 필요한 컬럼만 조회한다.
+ * description(TEXT)은 SQL에서 잘라낸 미리보기만 가져온다.
+ */
+@Getter
+@NoArgsConstructor
+public class TripListRow {
+
+    // 목록 화면에 노출할 설명 미리보기 최대 길이
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+
+    private Long id;
+    private String title;
+    private String descriptionPreview;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private TripStatus status;
+    private String destination;
+    private Long budget;
+    private LocalDateTime createdAt;
+
+    // 여행 기간 계산 (Trip.getDuration과 동일)
+    public int getDuration() {
+        if (startDate != null && endDate != null) {
+            return (int) startDate.until(endDate).getDays() + 1;
+        }
+        return 0;
+    }
+}
@@ -1,8 +1,8 @@
 package com.spring.toyproject.repository.custom;
 
+import com.spring.toyproject.domain.dto.common.CursorPage;
 import com.spring.toyproject.domain.entity.Trip;
 import com.spring.toyproject.domain.entity.TripStatus;
-import com.spring.toyproject.domain.entity.User;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -13,8 +13,11 @@ import org.springframework.data.domain.Pageable;
  */
 public interface TripRepositoryCustom {
 
-    // 동적 쿼리로 조건별 여행 목록 조회 메서드 (페이징 포함)
-    Page<Trip> findTripsByUser(User user, TripSearchCondition condition, Pageable pageable);
+    // 동적 쿼리로 조건별 여행 목록 조회 메서드 (페이징 포함, 목록 화면용 프로젝션)
+    Page<TripListRow> findTripsByUserId(Long userId, TripSearchCondition condition, Pageable pageable);
+
+    // 조건별 여행 목록 커서 페이징 조회 (count 쿼리 없음)
+    CursorPage<TripListRow> findTripsByUserIdAfter(Long userId, TripSearchCondition condition, String cursor, int size);
 
 
     /**
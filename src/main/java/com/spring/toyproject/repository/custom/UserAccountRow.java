@@ -0,0 +1,15 @@
+package com.spring.toyproject.repository.custom;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가입 중복 확인 필터 적재용 - 사용자명과 이메일만 담은 한 행
+ */
+@Getter
+@AllArgsConstructor
+public class UserAccountRow {
+
+    private final String username;
+    private final String email;
+}
@@ -3,9 +3,19 @@ package com.spring.toyproject.repository.impl;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spring.toyproject.domain.dto.common.CursorPage;
 import com.spring.toyproject.domain.entity.*;
+import com.spring.toyproject.repository.custom.KeysetCursor;
+import com.spring.toyproject.repository.custom.TravelLogExportRow;
+import com.spring.toyproject.repository.custom.TravelLogListRow;
 import com.spring.toyproject.repository.custom.TravelLogRepositoryCustom;
+import com.spring.toyproject.repository.custom.TravelLogStatsRow;
+import com.spring.toyproject.repository.custom.TripListRow;
+import com.spring.toyproject.search.TravelLogSearchDocument;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -13,7 +23,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * TravelLogRepository 커스텀 구현체
@@ -69,7 +83,7 @@ public class TravelLogRepositoryImpl implements TravelLogRepositoryCustom {
     }
 
     @Override
-    public Page<TravelLog> findTravelLogsByTrip(Trip trip, TravelLogSearchCondition condition, Pageable pageable) {
+    public Page<TravelLogListRow> findTravelLogsByTrip(Trip trip, TravelLogSearchCondition condition, Pageable pageable) {
         QTravelLog travelLog = QTravelLog.travelLog;
 
         BooleanBuilder whereClause = new BooleanBuilder();
@@ -78,34 +92,11 @@ public class TravelLogRepositoryImpl implements TravelLogRepositoryCustom {
         // 동적 조건 추가
         addSearchConditions(whereClause, travelLog, condition);
 
-        List<TravelLog> content;
-        if (pageable.isUnpaged()) {
-            content = queryFactory
-                    .selectFrom(travelLog)
-                    .where(whereClause)
-                    .orderBy(getOrderSpecifier(travelLog, condition))
-                    .fetch();
-        } else {
-            content = queryFactory
-                    .selectFrom(travelLog)
-                    .where(whereClause)
-                    .orderBy(getOrderSpecifier(travelLog, condition))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-        }
-
-        Long total = queryFactory
-                .select(travelLog.count())
-                .from(travelLog)
-                .where(whereClause)
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return fetchListPage(whereClause, condition, pageable);
     }
 
     @Override
-    public Page<TravelLog> findTravelLogsByUserId(Long userId, TravelLogSearchCondition condition, Pageable pageable) {
+    public Page<TravelLogListRow> findTravelLogsByUserId(Long userId, TravelLogSearchCondition condition, Pageable pageable) {
         QTravelLog travelLog = QTravelLog.travelLog;
         QTrip trip = QTrip.trip;
 
@@ -115,24 +106,148 @@ public class TravelLogRepositoryImpl implements TravelLogRepositoryCustom {
         // 동적 조건 추가 (여행 조건 대신 사용자 조건으로 시작)
         addSearchConditions(whereClause, travelLog, condition);
 
-        List<TravelLog> content;
-        if (pageable.isUnpaged()) {
-            content = queryFactory
-                    .selectFrom(travelLog)
-                    .innerJoin(travelLog.trip, trip)
-                    .where(whereClause)
-                    .orderBy(getOrderSpecifier(travelLog, condition))
-                    .fetch();
-        } else {
-            content = queryFactory
-                    .selectFrom(travelLog)
-                    .innerJoin(travelLog.trip, trip)
-                    .where(whereClause)
-                    .orderBy(getOrderSpecifier(travelLog, condition))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
+        return fetchListPage(whereClause, condition, pageable);
+    }
+
+    @Override
+    public CursorPage<TravelLogListRow> findTravelLogsByTripAfter(Trip trip, TravelLogSearchCondition condition, String cursor, int size) {
+        QTravelLog travelLog = QTravelLog.travelLog;
+
+        BooleanBuilder whereClause = new BooleanBuilder();
+        whereClause.and(travelLog.trip.eq(trip));
+        addSearchConditions(whereClause, travelLog, condition);
+
+        return fetchCursorPage(whereClause, condition, cursor, size);
+    }
+
+    @Override
+    public CursorPage<TravelLogListRow> findTravelLogsByUserIdAfter(Long userId, TravelLogSearchCondition condition, String cursor, int size) {
+        QTravelLog travelLog = QTravelLog.travelLog;
+        QTrip trip = QTrip.trip;
+
+        BooleanBuilder whereClause = new BooleanBuilder();
+        whereClause.and(trip.user.id.eq(userId));
+        addSearchConditions(whereClause, travelLog, condition);
+
+        return fetchCursorPage(whereClause, condition, cursor, size);
+    }
+
+    @Override
+    public List<TravelLogListRow> findListRowsByUserIdAndIds(Long userId, Collection<Long> travelLogIds) {
+        if (travelLogIds == null || travelLogIds.isEmpty()) {
+            return new ArrayList<>();
         }
+        QTravelLog travelLog = QTravelLog.travelLog;
+        QTrip trip = QTrip.trip;
+
+        return selectListRows()
+                .where(trip.user.id.eq(userId)
+                        .and(travelLog.id.in(travelLogIds)))
+                .fetch();
+    }
+
+    @Override
+    public List<TravelLogSearchDocument> findSearchDocuments(Long afterId, int limit) {
+        QTravelLog travelLog = QTravelLog.travelLog;
+        QTrip trip = QTrip.trip;
+
+        return queryFactory
+                .select(Projections.fields(TravelLogSearchDocument.class,
+                        travelLog.id,
+                        trip.user.id.as("userId"),
+                        travelLog.title,
+                        travelLog.content,
+                        travelLog.location,
+                        travelLog.logDate
+                ))
+                .from(travelLog)
+                .innerJoin(travelLog.trip, trip)
+                .where(travelLog.id.gt(afterId))
+                .orderBy(travelLog.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<TravelLogExportRow> findExportRows(Long tripId, Long afterId, int limit) {
+        QTravelLog travelLog = QTravelLog.travelLog;
+
+        return queryFactory
+                .select(Projections.fields(TravelLogExportRow.class,
+                        travelLog.id,
+                        travelLog.title,
+                        travelLog.content,
+                        travelLog.logDate,
+                        travelLog.location,
+                        travelLog.mood,
+                        travelLog.expenses,
+                        travelLog.rating,
+                        travelLog.createdAt
+                ))
+                .from(travelLog)
+                .where(
+                        travelLog.trip.id.eq(tripId),
+                        travelLog.id.gt(afterId)
+                )
+                .orderBy(travelLog.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 목록 화면용 프로젝션 SELECT절
+     * 엔터티 대신 목록에 필요한 컬럼만 조회 (content는 SQL에서 잘라낸 미리보기, 여행은 요약 컬럼만)
+     *
+     * SELECT tl.travel_log_id, tl.title, SUBSTRING(tl.content, 1, 200), ..., t.trip_id, t.title, ...
+     * FROM travel_logs tl
+     * INNER JOIN trips t ON t.trip_id = tl.trip_id
+     */
+    private JPAQuery<TravelLogListRow> selectListRows() {
+        QTravelLog travelLog = QTravelLog.travelLog;
+        QTrip trip = QTrip.trip;
+
+        return queryFactory
+                .select(Projections.fields(TravelLogListRow.class,
+                        travelLog.id,
+                        travelLog.title,
+                        travelLog.content.substring(0, TravelLogListRow.CONTENT_PREVIEW_LENGTH).as("contentPreview"),
+                        travelLog.logDate,
+                        travelLog.location,
+                        travelLog.mood,
+                        travelLog.expenses,
+                        travelLog.rating,
+                        travelLog.createdAt,
+                        travelLog.updatedAt,
+                        Projections.fields(TripListRow.class,
+                                trip.id,
+                                trip.title,
+                                trip.startDate,
+                                trip.endDate,
+                                trip.status,
+                                trip.destination,
+                                trip.budget,
+                                trip.createdAt
+                        ).as("trip")
+                ))
+                .from(travelLog)
+                .innerJoin(travelLog.trip, trip);
+    }
+
+    // 오프셋 페이징 목록 조회 + count 쿼리 헬퍼 메서드
+    private Page<TravelLogListRow> fetchListPage(BooleanBuilder whereClause, TravelLogSearchCondition condition, Pageable pageable) {
+        QTravelLog travelLog = QTravelLog.travelLog;
+        QTrip trip = QTrip.trip;
+
+        JPAQuery<TravelLogListRow> query = selectListRows()
+                .where(whereClause)
+                .orderBy(getOrderSpecifier(travelLog, condition));
+
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset())
+                    .limit(pageable.getPageSize());
+        }
+
+        List<TravelLogListRow> content = query.fetch();
 
         Long total = queryFactory
                 .select(travelLog.count())
@@ -144,7 +259,81 @@ public class TravelLogRepositoryImpl implements TravelLogRepositoryCustom {
         return new PageImpl<>(content, pageable, total == null ? 0 : total);
     }
 
+    /**
+     * 커서 이후의 행을 size + 1개 조회해서 다음 페이지 존재 여부를 판단하는 헬퍼 메서드
+     * ORDER BY {정렬컬럼} NULLS LAST, travel_log_id  (offset, count 쿼리 없음)
+     */
+    private CursorPage<TravelLogListRow> fetchCursorPage(BooleanBuilder whereClause, TravelLogSearchCondition condition,
+                                                         String cursor, int size) {
+        QTravelLog travelLog = QTravelLog.travelLog;
 
+        SortKey sortKey = SortKey.from(condition.getSortBy());
+        boolean desc = "DESC".equalsIgnoreCase(condition.getSortDirection());
+        String cursorKey = KeysetCursor.sortKeyOf(sortKey.name(), desc);
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, cursorKey);
+        if (keysetCursor != null) {
+            Object sortValue = keysetCursor.getSortValue() == null
+                    ? null : sortKey.parser.apply(keysetCursor.getSortValue());
+            whereClause.and(keysetCursor.after(sortKey.path, sortValue, travelLog.id, desc));
+        }
+
+        List<TravelLogListRow> rows = selectListRows()
+                .where(whereClause)
+                .orderBy(
+                        (desc ? sortKey.path.desc() : sortKey.path.asc()).nullsLast(),
+                        desc ? travelLog.id.desc() : travelLog.id.asc()
+                )
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<TravelLogListRow> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TravelLogListRow last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(cursorKey, last.getId(), sortKey.getter.apply(last));
+        }
+
+        return CursorPage.<TravelLogListRow>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 커서 페이징 정렬 기준 (sortBy: logDate, createdAt, rating, expenses)
+     * 정렬 컬럼, 조회 결과에서 정렬값을 꺼내는 함수, 커서 문자열을 컬럼 타입으로 되돌리는 함수
+     */
+    private enum SortKey {
+        LOGDATE(QTravelLog.travelLog.logDate, TravelLogListRow::getLogDate, LocalDate::parse),
+        CREATEDAT(QTravelLog.travelLog.createdAt, TravelLogListRow::getCreatedAt, LocalDateTime::parse),
+        RATING(QTravelLog.travelLog.rating, TravelLogListRow::getRating, Integer::valueOf),
+        EXPENSES(QTravelLog.travelLog.expenses, TravelLogListRow::getExpenses, Long::valueOf);
+
+        private final ComparableExpressionBase<?> path;
+        private final Function<TravelLogListRow, Object> getter;
+        private final Function<String, Object> parser;
+
+        SortKey(ComparableExpressionBase<?> path, Function<TravelLogListRow, Object> getter, Function<String, Object> parser) {
+            this.path = path;
+            this.getter = getter;
+            this.parser = parser;
+        }
+
+        // 알 수 없는 정렬 기준은 기존 목록 조회와 동일하게 logDate로 처리
+        static SortKey from(String sortBy) {
+            for (SortKey key : values()) {
+                if (key.name().equalsIgnoreCase(sortBy)) {
+                    return key;
+                }
+            }
+            return LOGDATE;
+        }
+    }
 
     @Override
     public long countByTrip(Trip trip) {
@@ -266,6 +455,42 @@ public class TravelLogRepositoryImpl implements TravelLogRepositoryCustom {
         return result != null ? result : 0L;
     }
 
+    @Override
+    public List<TravelLogStatsRow> aggregateStatsByTripIds(Collection<Long> tripIds) {
+        if (tripIds == null || tripIds.isEmpty()) {
+            return List.of();
+        }
+        QTravelLog travelLog = QTravelLog.travelLog;
+
+        /*
+            SELECT trip_id, COUNT(*), SUM(rating), COUNT(rating), SUM(expenses), MAX(log_date)
+            FROM travel_logs
+            WHERE trip_id IN (?, ?, ...)
+            GROUP BY trip_id
+         */
+        return queryFactory
+                .select(travelLog.trip.id,
+                        travelLog.count(),
+                        travelLog.rating.longValue().sum(),
+                        travelLog.rating.count(),
+                        travelLog.expenses.sum(),
+                        travelLog.logDate.max())
+                .from(travelLog)
+                .where(travelLog.trip.id.in(tripIds))
+                .groupBy(travelLog.trip.id)
+                .fetch()
+                .stream()
+                .map(row -> new TravelLogStatsRow(
+                        row.get(0, Long.class),
+                        null,
+                        row.get(1, Long.class),
+                        row.get(2, Long.class),
+                        row.get(3, Long.class),
+                        row.get(4, Long.class),
+                        row.get(5, LocalDate.class)))
+                .toList();
+    }
+
     @Override
     public long countByUserId(Long userId) {
         QTravelLog travelLog = QTravelLog.travelLog;
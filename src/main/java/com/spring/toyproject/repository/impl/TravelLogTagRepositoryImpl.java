@@ -1,12 +1,17 @@
 package com.spring.toyproject.repository.impl;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.spring.toyproject.domain.entity.Tag;
 import com.spring.toyproject.repository.custom.TravelLogTagRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.spring.toyproject.domain.entity.QTag.*;
 import static com.spring.toyproject.domain.entity.QTravelLogTag.*;
@@ -26,4 +31,39 @@ public class TravelLogTagRepositoryImpl implements TravelLogTagRepositoryCustom
                 .where(travelLogTag.travelLog.id.eq(travelLogId))
                 .fetch();
     }
+
+    @Override
+    public Map<Long, List<String>> findTagNamesByTravelLogIds(Collection<Long> travelLogIds) {
+        if (travelLogIds == null || travelLogIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Tuple> rows = factory
+                .select(travelLogTag.travelLog.id, tag.name)
+                .from(travelLogTag)
+                .innerJoin(travelLogTag.tag, tag)
+                .where(travelLogTag.travelLog.id.in(travelLogIds))
+                .fetch();
+
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(travelLogTag.travelLog.id),
+                        Collectors.mapping(row -> row.get(tag.name), Collectors.toList())
+                ));
+    }
+
+    @Override
+    public Map<Long, Long> countUsageByTagId() {
+        List<Tuple> rows = factory
+                .select(travelLogTag.tag.id, travelLogTag.count())
+                .from(travelLogTag)
+                .groupBy(travelLogTag.tag.id)
+                .fetch();
+
+        return rows.stream()
+                .collect(Collectors.toMap(
+                        row -> row.get(travelLogTag.tag.id),
+                        row -> row.get(travelLogTag.count())
+                ));
+    }
 }
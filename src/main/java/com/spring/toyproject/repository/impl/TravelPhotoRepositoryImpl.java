@@ -0,0 +1,181 @@
+package com.spring.toyproject.repository.impl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spring.toyproject.domain.entity.QTravelLog;
+import com.spring.toyproject.domain.entity.QTravelPhoto;
+import com.spring.toyproject.repository.custom.CoverPhotoRow;
+import com.spring.toyproject.repository.custom.TravelPhotoExportRow;
+import com.spring.toyproject.repository.custom.TravelPhotoRepositoryCustom;
+import com.spring.toyproject.repository.custom.TravelPhotoRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.spring.toyproject.domain.entity.QTravelLog.*;
+import static com.spring.toyproject.domain.entity.QTravelPhoto.*;
+import static com.spring.toyproject.domain.entity.QTrip.*;
+
+/**
+ * TravelPhotoRepositoryCustom의 구현체
+ * 사진 엔터티를 로딩하지 않고 필요한 컬럼만 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class TravelPhotoRepositoryImpl implements TravelPhotoRepositoryCustom {
+
+    private final JPAQueryFactory factory;
+
+    @Override
+    public Map<Long, CoverPhotoRow> findCoverPhotosByTravelLogIds(Collection<Long> travelLogIds) {
+        if (travelLogIds == null || travelLogIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        /*
+            SELECT p.travel_log_id, p.file_path, p.variant_widths
+            FROM travel_photos p
+            WHERE p.travel_log_id IN (?, ?, ...)
+                AND p.display_order = (SELECT MIN(p2.display_order)
+                                       FROM travel_photos p2
+                                       WHERE p2.travel_log_id = p.travel_log_id)
+         */
+        QTravelPhoto sub = new QTravelPhoto("sub");
+
+        List<Tuple> rows = factory
+                .select(travelPhoto.travelLog.id, travelPhoto.filePath, travelPhoto.variantWidths)
+                .from(travelPhoto)
+                .where(travelPhoto.travelLog.id.in(travelLogIds)
+                        .and(travelPhoto.displayOrder.eq(
+                                JPAExpressions
+                                        .select(sub.displayOrder.min())
+                                        .from(sub)
+                                        .where(sub.travelLog.id.eq(travelPhoto.travelLog.id))
+                        )))
+                .orderBy(travelPhoto.id.asc())
+                .fetch();
+
+        // 같은 순번의 사진이 여러 장이면 먼저 등록된 사진을 대표로 사용
+        Map<Long, CoverPhotoRow> coverMap = new HashMap<>();
+        for (Tuple row : rows) {
+            coverMap.putIfAbsent(row.get(travelPhoto.travelLog.id),
+                    new CoverPhotoRow(row.get(travelPhoto.filePath), row.get(travelPhoto.variantWidths)));
+        }
+        return coverMap;
+    }
+
+    @Override
+    public Map<Long, CoverPhotoRow> findCoverPhotosByTripIds(Collection<Long> tripIds) {
+        if (tripIds == null || tripIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        /*
+            SELECT l.trip_id, p.file_path, p.variant_widths
+            FROM travel_photos p
+                JOIN travel_logs l ON p.travel_log_id = l.travel_log_id
+            WHERE p.id IN (SELECT MIN(p2.id)
+                           FROM travel_photos p2
+                               JOIN travel_logs l2 ON p2.travel_log_id = l2.travel_log_id
+                           WHERE l2.trip_id IN (?, ?, ...)
+                           GROUP BY l2.trip_id)
+         */
+        QTravelPhoto sub = new QTravelPhoto("sub");
+        QTravelLog subLog = new QTravelLog("subLog");
+
+        return factory
+                .select(travelLog.trip.id, travelPhoto.filePath, travelPhoto.variantWidths)
+                .from(travelPhoto)
+                .join(travelPhoto.travelLog, travelLog)
+                .where(travelPhoto.id.in(
+                        JPAExpressions
+                                .select(sub.id.min())
+                                .from(sub)
+                                .join(sub.travelLog, subLog)
+                                .where(subLog.trip.id.in(tripIds))
+                                .groupBy(subLog.trip.id)
+                ))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        row -> row.get(travelLog.trip.id),
+                        row -> new CoverPhotoRow(row.get(travelPhoto.filePath), row.get(travelPhoto.variantWidths))));
+    }
+
+    @Override
+    public Map<Long, List<TravelPhotoRow>> findPhotosByTravelLogIdsAndUserId(Collection<Long> travelLogIds, Long userId) {
+        if (travelLogIds == null || travelLogIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        /*
+            SELECT p.id, p.travel_log_id, p.file_path, p.variant_widths
+            FROM travel_photos p
+                JOIN travel_logs l ON p.travel_log_id = l.id
+                JOIN trips t ON l.trip_id = t.id
+            WHERE p.travel_log_id IN (?, ?, ...)
+                AND t.user_id = ?
+            ORDER BY p.display_order, p.id
+         */
+        return factory
+                .select(Projections.fields(TravelPhotoRow.class,
+                        travelPhoto.id,
+                        travelPhoto.travelLog.id.as("travelLogId"),
+                        travelPhoto.filePath,
+                        travelPhoto.variantWidths
+                ))
+                .from(travelPhoto)
+                .join(travelPhoto.travelLog, travelLog)
+                .join(travelLog.trip, trip)
+                .where(travelPhoto.travelLog.id.in(travelLogIds)
+                        .and(trip.user.id.eq(userId)))
+                .orderBy(travelPhoto.displayOrder.asc(), travelPhoto.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(TravelPhotoRow::getTravelLogId));
+    }
+
+    @Override
+    public Map<Long, List<TravelPhotoExportRow>> findExportRowsByTravelLogIds(Collection<Long> travelLogIds) {
+        if (travelLogIds == null || travelLogIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return selectExportRows()
+                .where(travelPhoto.travelLog.id.in(travelLogIds))
+                .orderBy(travelPhoto.displayOrder.asc(), travelPhoto.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(TravelPhotoExportRow::getTravelLogId));
+    }
+
+    @Override
+    public List<TravelPhotoExportRow> findExportRowsByTripId(Long tripId, Long afterId, int limit) {
+        return selectExportRows()
+                .where(
+                        travelPhoto.travelLog.trip.id.eq(tripId),
+                        travelPhoto.id.gt(afterId)
+                )
+                .orderBy(travelPhoto.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<TravelPhotoExportRow> selectExportRows() {
+        return factory
+                .select(Projections.fields(TravelPhotoExportRow.class,
+                        travelPhoto.id,
+                        travelPhoto.travelLog.id.as("travelLogId"),
+                        travelPhoto.filePath,
+                        travelPhoto.storedFilename,
+                        travelPhoto.originalFilename,
+                        travelPhoto.displayOrder
+                ))
+                .from(travelPhoto);
+    }
+}
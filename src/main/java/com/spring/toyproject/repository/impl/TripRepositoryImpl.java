@@ -2,11 +2,16 @@ package com.spring.toyproject.repository.impl;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spring.toyproject.domain.dto.common.CursorPage;
 import com.spring.toyproject.domain.entity.QTrip;
 import com.spring.toyproject.domain.entity.QUser;
 import com.spring.toyproject.domain.entity.Trip;
-import com.spring.toyproject.domain.entity.User;
+import com.spring.toyproject.repository.custom.KeysetCursor;
+import com.spring.toyproject.repository.custom.TripListRow;
 import com.spring.toyproject.repository.custom.TripRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +20,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static com.spring.toyproject.domain.entity.QTrip.*;
 
@@ -31,7 +40,7 @@ public class TripRepositoryImpl implements TripRepositoryCustom {
     private final JPAQueryFactory factory;
 
     @Override
-    public Page<Trip> findTripsByUser(User user, TripSearchCondition condition, Pageable pageable) {
+    public Page<TripListRow> findTripsByUserId(Long userId, TripSearchCondition condition, Pageable pageable) {
 
         /*
             SELECT *
@@ -43,8 +52,98 @@ public class TripRepositoryImpl implements TripRepositoryCustom {
          */
 
         // WHERE절 동적으로 만들기
+        BooleanBuilder whereClause = buildWhereClause(userId, condition);
+
+        // 여행 목록 조회 (목록 화면에 필요한 컬럼만)
+        List<TripListRow> tripList = selectListRows()
+                .where(whereClause)
+                .orderBy(getOrderSpecifier(condition))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long totalCount = factory
+                .select(trip.count())
+                .from(trip)
+                .where(whereClause)
+                .fetchOne();
+
+        // 페이징 원본데이터 수 374개인데 이걸 한페이지당 10개씩 뿌려야된다
+        // 그럼 총 페이지수는? 38페이지
+        // 이전, 다음 버튼 활성화 여부
+        return new PageImpl<>(tripList, pageable, totalCount == null ? 0 : totalCount);
+    }
+
+    /**
+     * 커서 페이징 목록 조회
+     * ORDER BY {정렬컬럼} NULLS LAST, trip_id 순으로 커서 이후 size + 1개만 조회 (offset, count 쿼리 없음)
+     */
+    @Override
+    public CursorPage<TripListRow> findTripsByUserIdAfter(Long userId, TripSearchCondition condition, String cursor, int size) {
+
+        BooleanBuilder whereClause = buildWhereClause(userId, condition);
+
+        SortKey sortKey = SortKey.from(condition.getSortBy());
+        boolean desc = "DESC".equalsIgnoreCase(condition.getSortDirection());
+        String cursorKey = KeysetCursor.sortKeyOf(sortKey.name(), desc);
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, cursorKey);
+        if (keysetCursor != null) {
+            Object sortValue = keysetCursor.getSortValue() == null
+                    ? null : sortKey.parser.apply(keysetCursor.getSortValue());
+            whereClause.and(keysetCursor.after(sortKey.path, sortValue, trip.id, desc));
+        }
+
+        List<TripListRow> rows = selectListRows()
+                .where(whereClause)
+                .orderBy(
+                        (desc ? sortKey.path.desc() : sortKey.path.asc()).nullsLast(),
+                        desc ? trip.id.desc() : trip.id.asc()
+                )
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<TripListRow> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TripListRow last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(cursorKey, last.getId(), sortKey.getter.apply(last));
+        }
+
+        return CursorPage.<TripListRow>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 목록 화면용 프로젝션 SELECT절
+     * 엔터티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회 (description은 SQL에서 잘라낸 미리보기)
+     */
+    private JPAQuery<TripListRow> selectListRows() {
+        return factory
+                .select(Projections.fields(TripListRow.class,
+                        trip.id,
+                        trip.title,
+                        trip.description.substring(0, TripListRow.DESCRIPTION_PREVIEW_LENGTH).as("descriptionPreview"),
+                        trip.startDate,
+                        trip.endDate,
+                        trip.status,
+                        trip.destination,
+                        trip.budget,
+                        trip.createdAt
+                ))
+                .from(trip);
+    }
+
+    // 사용자 + 검색조건으로 WHERE절을 만드는 헬퍼 메서드
+    private BooleanBuilder buildWhereClause(Long userId, TripSearchCondition condition) {
         BooleanBuilder whereClause = new BooleanBuilder();
-        whereClause.and(trip.user.eq(user));
+        whereClause.and(trip.user.id.eq(userId));
 
         // 나머지는 검색조건 동적으로 생성
         // 1. 상태 검색
@@ -63,25 +162,7 @@ public class TripRepositoryImpl implements TripRepositoryCustom {
             whereClause.and(trip.title.containsIgnoreCase(condition.getTitle()));
         }
 
-        // 여행 목록 조회
-        List<Trip> tripList = factory
-                .selectFrom(trip)
-                .where(whereClause)
-                .orderBy(getOrderSpecifier(condition))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long totalCount = factory
-                .select(trip.count())
-                .from(trip)
-                .where(whereClause)
-                .fetchOne();
-
-        // 페이징 원본데이터 수 374개인데 이걸 한페이지당 10개씩 뿌려야된다
-        // 그럼 총 페이지수는? 38페이지
-        // 이전, 다음 버튼 활성화 여부
-        return new PageImpl<>(tripList, pageable, totalCount == null ? 0 : totalCount);
+        return whereClause;
     }
 
     private OrderSpecifier<?> getOrderSpecifier(TripSearchCondition condition) {
@@ -123,4 +204,36 @@ public class TripRepositoryImpl implements TripRepositoryCustom {
 
         return specifier;
     }
+
+    /**
+     * 커서 페이징 정렬 기준 (sortBy: createdAt, startDate, endDate, title, destination)
+     * 정렬 컬럼, 조회 결과에서 정렬값을 꺼내는 함수, 커서 문자열을 컬럼 타입으로 되돌리는 함수
+     */
+    private enum SortKey {
+        CREATEDAT(QTrip.trip.createdAt, TripListRow::getCreatedAt, LocalDateTime::parse),
+        STARTDATE(QTrip.trip.startDate, TripListRow::getStartDate, LocalDate::parse),
+        ENDDATE(QTrip.trip.endDate, TripListRow::getEndDate, LocalDate::parse),
+        TITLE(QTrip.trip.title, TripListRow::getTitle, value -> value),
+        DESTINATION(QTrip.trip.destination, TripListRow::getDestination, value -> value);
+
+        private final ComparableExpressionBase<?> path;
+        private final Function<TripListRow, Object> getter;
+        private final Function<String, Object> parser;
+
+        SortKey(ComparableExpressionBase<?> path, Function<TripListRow, Object> getter, Function<String, Object> parser) {
+            this.path = path;
+            this.getter = getter;
+            this.parser = parser;
+        }
+
+        // 알 수 없는 정렬 기준은 기존 목록 조회와 동일하게 createdAt으로 처리
+        static SortKey from(String sortBy) {
+            for (SortKey key : values()) {
+                if (key.name().equalsIgnoreCase(sortBy)) {
+                    return key;
+                }
+            }
+            return CREATEDAT;
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package com.spring.toyproject.routes;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 사진 파일 제공 컨트롤러
+ * GET /uploads/**
+ *
+ * 저장 파일명(내용 해시, UUID)은 한 번 정해지면 내용이 바뀌지 않으므로
+ * - 파일명 기반 강한 ETag + Last-Modified -> 재검증 시 304
+ * - Cache-Control: public, max-age=1년, immutable -> 브라우저가 재요청하지 않음
+ * - Range 요청은 부분 응답(206), 전체 응답은 Tomcat sendfile로 커널에서 바로 전송
+ *
+ * JWT 필터와 시큐리티 필터 체인을 거치지 않는다. (SecurityConfig, JwtAuthenticationFilter 참고)
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class UploadFileController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS)
+            .cachePublic()
+            .immutable();
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터에서 지원 시 support 속성이 TRUE)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileUploadConfig fileUploadConfig;
+
+    @GetMapping(FileUploadConfig.URL_PREFIX + "**")
+    public ResponseEntity<Resource> serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        Path file = resolve(request);
+        if (file == null || !Files.isRegularFile(file)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String filename = file.getFileName().toString();
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+
+        // If-None-Match / If-Modified-Since 확인 (일치하면 304, ETag/Last-Modified 헤더도 여기서 설정됨)
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(etag(filename), lastModified)) {
+            return null;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+        // 전체 파일 GET 응답은 sendfile로 전송 (유저 영역 버퍼 복사 없음)
+        if (HttpMethod.GET.matches(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            long length = Files.size(file);
+            response.setContentType(mediaType.toString());
+            response.setContentLengthLong(length);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE.getHeaderValue());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return null;
+        }
+
+        // Range 요청(206)과 HEAD는 스프링의 Resource 응답 처리에 맡김
+        return ResponseEntity.ok()
+                .cacheControl(IMMUTABLE)
+                .contentType(mediaType)
+                .body(new FileSystemResource(file));
+    }
+
+    /**
+     * 요청 경로를 업로드 루트 하위의 실제 경로로 변환
+     * 루트 밖을 가리키거나 숨김 폴더(.staging 등)를 가리키면 null
+     */
+    private Path resolve(HttpServletRequest request) {
+        String relative = request.getRequestURI()
+                .substring(request.getContextPath().length() + FileUploadConfig.URL_PREFIX.length());
+
+        for (String segment : relative.split("/")) {
+            if (segment.isEmpty() || segment.startsWith(".") || segment.contains("\\") || segment.contains("%")) {
+                return null;
+            }
+        }
+
+        Path root = Paths.get(fileUploadConfig.getLocation()).toAbsolutePath().normalize();
+        Path file = root.resolve(relative).normalize();
+        return file.startsWith(root) ? file : null;
+    }
+
+    // 저장 파일명(확장자 제외)이 곧 내용 식별자 - ex) "3fa2...c9", "3fa2...c9_w480"
+    private String etag(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return "\"" + (dot > 0 ? filename.substring(0, dot) : filename) + "\"";
+    }
+}
@@ -0,0 +1,175 @@
+package com.spring.toyproject.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가입된 사용자명/이메일 블룸 필터 (Bloom Filter)
+ *
+ * 회원가입 화면은 입력할 때마다 중복 확인을 요청하는데, 대부분은 아직 없는 값이다.
+ * 필터가 "없음"이라고 답하면 확실히 없는 값이므로 DB 조회를 생략하고,
+ * "있을 수도 있음"이라고 답할 때만 DB에서 확인한다. (거짓 양성은 있지만 거짓 음성은 없음)
+ *
+ * - 비트 배열은 AtomicLongArray라서 조회/추가 모두 락이 없음
+ * - 삭제는 지원하지 않음 (탈퇴 기능이 생기면 주기적으로 다시 적재)
+ * - 앱 시작 후 적재가 끝나기 전에는 항상 "있을 수도 있음"으로 답해서 DB로 확인하게 함
+ */
+@Component
+public class AccountExistenceFilter {
+
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    // 적재가 끝났는지 (끝나기 전에는 DB로 확인)
+    private volatile boolean ready;
+
+    private final LongAdder absentCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+    private final Counter maybePresentCounter;
+
+    public AccountExistenceFilter(@Value("${auth.account-filter.expected-accounts:1000000}") long expectedAccounts,
+                                  @Value("${auth.account-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                  MeterRegistry meterRegistry) {
+        // 사용자명 + 이메일 두 개씩 들어가므로 항목 수는 계정 수의 2배
+        long expectedItems = Math.max(1, expectedAccounts * 2);
+        long optimalBits = (long) Math.ceil(-expectedItems * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedItems * Math.log(2)));
+
+        FunctionCounter.builder("auth.account.filter.checks", absentCount, LongAdder::sum)
+                .tag("result", "absent")
+                .description("DB 조회 없이 사용 가능으로 응답한 횟수")
+                .register(meterRegistry);
+        this.maybePresentCounter = Counter.builder("auth.account.filter.checks")
+                .tag("result", "maybe_present")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.account.filter.false.positives", falsePositiveCount, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("auth.account.filter.false.positive.rate", this, AccountExistenceFilter::observedFalsePositiveRate)
+                .description("실제로 없는 값 중 필터가 있을 수도 있다고 답한 비율 (시작 이후 누적)")
+                .register(meterRegistry);
+        Gauge.builder("auth.account.filter.expected.false.positive.rate", this, AccountExistenceFilter::expectedFalsePositiveRate)
+                .description("현재 비트 채움 비율로 계산한 예상 거짓 양성 비율")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContainUsername(String username) {
+        return mightContain(USERNAME_PREFIX, username);
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(EMAIL_PREFIX, email);
+    }
+
+    /**
+     * 가입한 계정의 사용자명/이메일 추가
+     */
+    public void add(String username, String email) {
+        put(USERNAME_PREFIX, username);
+        put(EMAIL_PREFIX, email);
+    }
+
+    /**
+     * 필터는 있을 수도 있다고 답했지만 DB에는 없었던 경우 기록
+     */
+    public void recordFalsePositive() {
+        falsePositiveCount.increment();
+    }
+
+    void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private boolean mightContain(String prefix, String value) {
+        if (!ready || value == null) {
+            return true;
+        }
+        long[] hashes = hash(prefix, value);
+        for (int i = 0; i < hashCount; i++) {
+            long index = bitIndex(hashes, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                absentCount.increment();
+                return false;
+            }
+        }
+        maybePresentCounter.increment();
+        return true;
+    }
+
+    private void put(String prefix, String value) {
+        if (value == null) {
+            return;
+        }
+        long[] hashes = hash(prefix, value);
+        for (int i = 0; i < hashCount; i++) {
+            long index = bitIndex(hashes, i);
+            long mask = 1L << index;
+            bits.getAndAccumulate((int) (index >>> 6), mask, (current, m) -> current | m);
+        }
+    }
+
+    // 두 해시값의 선형 조합으로 k개의 비트 위치를 만듦 (Kirsch-Mitzenmacher)
+    private long bitIndex(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+    }
+
+    /**
+     * DB 비교 규칙에 맞춰 정규화한 뒤 64비트 해시 두 개 생성
+     * MariaDB 기본 콜레이션은 대소문자와 뒤쪽 공백을 구분하지 않으므로 필터도 같은 값으로 취급해야
+     * DB에는 있는데 필터는 없다고 답하는 경우(거짓 음성)가 생기지 않는다.
+     */
+    private static long[] hash(String prefix, String value) {
+        String normalized = prefix + value.stripTrailing().toLowerCase(Locale.ROOT);
+        byte[] bytes = normalized.getBytes(StandardCharsets.UTF_8);
+
+        // FNV-1a 64비트 해시 후 SplitMix64로 섞어서 두 값으로 분리
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9e3779b97f4a7c15L) | 1L;
+        return new long[]{h1, h2};
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private double observedFalsePositiveRate() {
+        long falsePositives = falsePositiveCount.sum();
+        long negatives = falsePositives + absentCount.sum();
+        return negatives == 0 ? 0.0 : (double) falsePositives / negatives;
+    }
+
+    private double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) setBits / bitSize, hashCount);
+    }
+}
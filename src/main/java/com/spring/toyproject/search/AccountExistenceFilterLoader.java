@@ -0,0 +1,44 @@
+package com.spring.toyproject.search;
+
+import com.spring.toyproject.repository.base.UserRepository;
+import com.spring.toyproject.repository.custom.UserAccountRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 가입 중복 확인 필터 적재
+ * 앱 시작 시 전체 사용자명/이메일을 스트리밍으로 읽어 필터에 넣는다. (사용자 전체를 메모리에 올리지 않음)
+ * 적재 도중 가입한 계정은 회원가입 로직에서 바로 필터에 추가되므로 빠지지 않는다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AccountExistenceFilterLoader {
+
+    private final AccountExistenceFilter accountExistenceFilter;
+    private final UserRepository userRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+        long count = 0;
+        try (Stream<UserAccountRow> accounts = userRepository.streamAccounts()) {
+            for (UserAccountRow account : (Iterable<UserAccountRow>) accounts::iterator) {
+                accountExistenceFilter.add(account.getUsername(), account.getEmail());
+                count++;
+            }
+            accountExistenceFilter.markReady();
+            log.info("가입 중복 확인 필터 적재 완료 - 계정 수: {}, 소요시간: {}ms", count, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 적재에 실패하면 필터를 쓰지 않고 계속 DB로 확인
+            log.error("가입 중복 확인 필터 적재 실패: {}", e.getMessage());
+        }
+    }
+}
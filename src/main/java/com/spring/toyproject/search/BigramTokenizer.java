@@ -0,0 +1,65 @@
+package com.spring.toyproject.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 친화적인 문자 바이그램 토크나이저
+ *
+ * 한글은 띄어쓰기/조사 때문에 공백 기준 단어 매칭이 잘 안 맞으므로
+ * 문자 2개씩 잘라서(바이그램) 색인하면 LIKE '%검색어%'와 비슷한 부분일치 검색이 가능하다.
+ *  ex) "제주도여행" -> [제주, 주도, 도여, 여행]
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 추출 - 단어마다 유니그램 + 바이그램
+     * (한 글자 검색어도 찾을 수 있도록 유니그램도 함께 색인)
+     */
+    public static Set<String> indexTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                terms.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    terms.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어용 토큰 추출 - 한 글자 단어는 유니그램, 나머지는 바이그램만 사용
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (word.length() == 1) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    // 정규화(전각/반각 통일, 소문자) 후 문자/숫자가 아닌 것을 기준으로 단어 분리
+    private static String[] words(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,171 @@
+package com.spring.toyproject.search;
+
+import com.spring.toyproject.domain.dto.response.TagResponseDto;
+import com.spring.toyproject.domain.entity.TagCategory;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그 자동완성용 접미사 트라이 (Suffix Trie)
+ *
+ * 태그명의 모든 접미사를 트라이에 넣어두면 검색어로 트라이를 따라 내려간 노드에
+ * 검색어를 "포함"하는 태그들이 모여 있다. (LIKE '%keyword%'와 같은 결과)
+ *  ex) "제주도" -> [제주도, 주도, 도] 를 각각 삽입
+ *
+ * 결과는 사용 횟수(여행일지에 붙은 횟수) 내림차순, 같으면 이름순으로 상위 K개만 반환
+ * 태그 수가 적고 변경이 드물어서 읽기/쓰기 락 하나로 보호한다.
+ */
+@Component
+public class TagAutocompleteIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root = new Node();
+    private Map<Long, TagResponseDto> tags = new HashMap<>();
+
+    // key: 태그 ID, value: 사용 횟수
+    private final Map<Long, AtomicLong> usageCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 색인을 새로 구성 (재구축용)
+     */
+    public void replaceAll(Collection<TagResponseDto> allTags, Map<Long, Long> usage) {
+        Node newRoot = new Node();
+        Map<Long, TagResponseDto> newTags = new HashMap<>();
+        allTags.forEach(tag -> insert(newRoot, newTags, tag));
+
+        lock.writeLock().lock();
+        try {
+            this.root = newRoot;
+            this.tags = newTags;
+            usageCounts.clear();
+            usage.forEach((tagId, count) -> usageCounts.put(tagId, new AtomicLong(count)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 새로 생성된 태그 추가
+     */
+    public void add(TagResponseDto tag) {
+        lock.writeLock().lock();
+        try {
+            if (!tags.containsKey(tag.getId())) {
+                insert(root, tags, tag);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 태그 사용 횟수 증감 (여행일지에 태그가 붙거나 떨어질 때)
+     *
+     * @param usageDeltas - key: 태그 ID, value: 증감량
+     */
+    public void addUsage(Map<Long, Long> usageDeltas) {
+        usageDeltas.forEach((tagId, delta) -> usageCounts
+                .computeIfAbsent(tagId, id -> new AtomicLong())
+                .addAndGet(delta));
+    }
+
+    /**
+     * 검색어를 포함하는 태그를 사용 횟수순으로 최대 limit개 조회
+     *
+     * @param category - null이면 전체 카테고리
+     */
+    public List<TagResponseDto> search(String keyword, TagCategory category, int limit) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.children.get(normalized.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+
+            // 상위 K개만 유지하는 힙 (가장 순위가 낮은 태그가 맨 앞)
+            Comparator<TagResponseDto> ranking = rankingOrder();
+            PriorityQueue<TagResponseDto> topK = new PriorityQueue<>(limit + 1, ranking.reversed());
+            for (Long tagId : node.tagIds) {
+                TagResponseDto tag = tags.get(tagId);
+                if (category != null && tag.getCategory() != category) {
+                    continue;
+                }
+                topK.offer(tag);
+                if (topK.size() > limit) {
+                    topK.poll();
+                }
+            }
+
+            List<TagResponseDto> result = new ArrayList<>(topK);
+            result.sort(ranking);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 태그 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tags.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Comparator<TagResponseDto> rankingOrder() {
+        return Comparator.comparingLong((TagResponseDto tag) -> usageOf(tag.getId())).reversed()
+                .thenComparing(TagResponseDto::getName)
+                .thenComparing(TagResponseDto::getId);
+    }
+
+    private long usageOf(Long tagId) {
+        AtomicLong count = usageCounts.get(tagId);
+        return count == null ? 0 : count.get();
+    }
+
+    private static void insert(Node root, Map<Long, TagResponseDto> tags, TagResponseDto tag) {
+        tags.put(tag.getId(), tag);
+
+        String name = normalize(tag.getName());
+        for (int start = 0; start < name.length(); start++) {
+            Node node = root;
+            for (int i = start; i < name.length(); i++) {
+                node = node.children.computeIfAbsent(name.charAt(i), c -> new Node());
+                // "aba"처럼 같은 부분문자열이 여러 번 나와도 ID는 한 번만
+                List<Long> ids = node.tagIds;
+                if (ids.isEmpty() || !ids.get(ids.size() - 1).equals(tag.getId())) {
+                    ids.add(tag.getId());
+                }
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Long> tagIds = new ArrayList<>(1);
+    }
+}
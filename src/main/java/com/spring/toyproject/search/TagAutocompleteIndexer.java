@@ -0,0 +1,106 @@
+package com.spring.toyproject.search;
+
+import com.spring.toyproject.domain.dto.response.TagResponseDto;
+import com.spring.toyproject.repository.base.TagRepository;
+import com.spring.toyproject.repository.base.TravelLogTagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그 자동완성 색인 관리자
+ * - 앱 시작 시 전체 태그와 사용 횟수로 색인 구성
+ * - 태그 생성 / 여행일지 태그 변경 트랜잭션이 커밋되면 색인에 반영
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TagAutocompleteIndexer {
+
+    private final TagAutocompleteIndex autocompleteIndex;
+    private final TagRepository tagRepository;
+    private final TravelLogTagRepository travelLogTagRepository;
+
+    // 초기 구성이 끝났는지 (끝나기 전에는 DB 검색으로 대체)
+    private volatile boolean ready;
+
+    // 구성 도중 생성된 태그 (구성 완료 후 다시 반영)
+    private volatile boolean rebuilding;
+    private final Queue<TagResponseDto> pendingTags = new ConcurrentLinkedQueue<>();
+
+    // 구성 도중 커밋된 사용 횟수 증감 (replaceAll이 사용 횟수를 덮어쓰므로 그 뒤에 다시 반영)
+    // 증감은 두 번 반영되면 안 되므로 대기열에 넣거나 바로 반영하거나 둘 중 하나만 하도록 잠금으로 묶는다
+    private final List<Map<Long, Long>> pendingUsage = new ArrayList<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTagCreated(TagCreatedEvent event) {
+        if (rebuilding) {
+            pendingTags.add(event.getTag());
+        }
+        autocompleteIndex.add(event.getTag());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTagUsageChanged(TagUsageChangedEvent event) {
+        synchronized (pendingUsage) {
+            if (rebuilding) {
+                pendingUsage.add(event.getUsageDeltas());
+                return;
+            }
+        }
+        autocompleteIndex.addUsage(event.getUsageDeltas());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        try {
+            List<TagResponseDto> tags = tagRepository.findAll().stream()
+                    .map(TagResponseDto::from)
+                    .collect(Collectors.toList());
+
+            // 집계 전에 커밋된 증감은 집계에 포함되므로 버리고, 이후 커밋된 것만 다시 반영
+            synchronized (pendingUsage) {
+                pendingUsage.clear();
+            }
+            Map<Long, Long> usage = travelLogTagRepository.countUsageByTagId();
+
+            autocompleteIndex.replaceAll(tags, usage);
+
+            TagResponseDto pending;
+            while ((pending = pendingTags.poll()) != null) {
+                autocompleteIndex.add(pending);
+            }
+            synchronized (pendingUsage) {
+                pendingUsage.forEach(autocompleteIndex::addUsage);
+                pendingUsage.clear();
+                rebuilding = false;
+            }
+
+            ready = true;
+            log.info("해시태그 자동완성 색인 구성 완료 - 태그 수: {}", tags.size());
+        } catch (Exception e) {
+            log.error("해시태그 자동완성 색인 구성 실패: {}", e.getMessage());
+        } finally {
+            synchronized (pendingUsage) {
+                pendingUsage.clear();
+                rebuilding = false;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+}
@@ -0,0 +1,16 @@
+package com.spring.toyproject.search;
+
+import com.spring.toyproject.domain.dto.response.TagResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 해시태그 생성 이벤트
+ * 트랜잭션이 커밋된 뒤에 자동완성 색인에 반영된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TagCreatedEvent {
+
+    private final TagResponseDto tag;
+}
@@ -0,0 +1,25 @@
+package com.spring.toyproject.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여행일지에 해시태그가 붙거나 떨어졌을 때의 이벤트
+ * 트랜잭션이 커밋된 뒤에 자동완성 랭킹(사용 횟수)에 반영된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TagUsageChangedEvent {
+
+    // key: 태그 ID, value: 사용 횟수 증감
+    private final Map<Long, Long> usageDeltas;
+
+    public static TagUsageChangedEvent attached(List<Long> tagIds) {
+        return new TagUsageChangedEvent(tagIds.stream()
+                .collect(Collectors.groupingBy(tagId -> tagId, Collectors.counting())));
+    }
+}
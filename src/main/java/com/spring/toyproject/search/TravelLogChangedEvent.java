@@ -0,0 +1,32 @@
+package com.spring.toyproject.search;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여행일지 생성/수정/삭제 이벤트
+ * 트랜잭션이 커밋된 뒤에 검색 색인에 반영된다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TravelLogChangedEvent {
+
+    private final Long userId;
+    private final Long travelLogId;
+    private final TravelLogSearchDocument document; // 삭제 이벤트면 null
+
+    // 생성 또는 수정
+    public static TravelLogChangedEvent upserted(TravelLogSearchDocument document) {
+        return new TravelLogChangedEvent(document.getUserId(), document.getId(), document);
+    }
+
+    // 삭제
+    public static TravelLogChangedEvent deleted(Long userId, Long travelLogId) {
+        return new TravelLogChangedEvent(userId, travelLogId, null);
+    }
+
+    public boolean isDeleted() {
+        return document == null;
+    }
+}
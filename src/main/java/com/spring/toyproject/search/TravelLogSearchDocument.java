@@ -0,0 +1,43 @@
+package com.spring.toyproject.search;
+
+import com.spring.toyproject.domain.entity.TravelLog;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 색인에 넣을 여행일지 스냅샷
+ * 제목/내용/위치/태그명과 정렬용 날짜만 가진다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelLogSearchDocument {
+
+    private Long id;
+    private Long userId;
+    private String title;
+    private String content;
+    private String location;
+    private LocalDate logDate;
+
+    // 태그명은 별도 쿼리로 채움
+    @Setter
+    @Builder.Default
+    private List<String> tagNames = new ArrayList<>();
+
+    public static TravelLogSearchDocument of(TravelLog travelLog, Long userId, List<String> tagNames) {
+        return TravelLogSearchDocument.builder()
+                .id(travelLog.getId())
+                .userId(userId)
+                .title(travelLog.getTitle())
+                .content(travelLog.getContent())
+                .location(travelLog.getLocation())
+                .logDate(travelLog.getLogDate())
+                .tagNames(tagNames)
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.spring.toyproject.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 여행일지 전문검색용 사용자별 역색인 (In-process Inverted Index)
+ *
+ * 검색 토큰(바이그램) -> {여행일지 ID -> 가중치} 형태로 사용자마다 따로 보관한다.
+ * 검색은 메모리에서 끝내고 DB에서는 검색된 ID의 행만 가져온다.
+ *
+ * 랭킹: 모든 검색 토큰을 포함한 문서만 (AND), 점수 = Σ 가중치 x idf
+ *  - 가중치: 토큰이 등장한 필드들의 가중치 합 (제목 3, 태그 2, 위치 2, 내용 1)
+ *  - 동점이면 여행일지 날짜 최신순, ID 역순
+ */
+@Component
+public class TravelLogSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float TAG_WEIGHT = 2f;
+    private static final float LOCATION_WEIGHT = 2f;
+    private static final float CONTENT_WEIGHT = 1f;
+
+    // key: 사용자 ID
+    private volatile Map<Long, UserIndex> userIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * 여행일지 1건 색인 (이미 있으면 교체)
+     */
+    public void upsert(TravelLogSearchDocument document) {
+        upsert(userIndexes, document);
+    }
+
+    /**
+     * 여행일지 1건 색인에서 제거
+     */
+    public void remove(Long userId, Long travelLogId) {
+        UserIndex userIndex = userIndexes.get(userId);
+        if (userIndex != null) {
+            userIndex.remove(travelLogId);
+        }
+    }
+
+    /**
+     * 전체 색인을 새로 만든 색인으로 교체 (재구축용)
+     */
+    public void replaceAll(Collection<TravelLogSearchDocument> documents) {
+        replaceAll(batchConsumer -> batchConsumer.accept(documents));
+    }
+
+    /**
+     * 배치 단위로 받은 문서로 새 색인을 만든 뒤 한 번에 교체 (재구축용)
+     * 받은 배치는 바로 새 색인에 넣으므로 전체 문서 목록을 메모리에 모아 두지 않는다.
+     * 교체 전까지 검색은 기존 색인으로 처리된다.
+     *
+     * @param source - 전달받은 consumer에 모든 문서를 배치 단위로 넘겨주는 함수
+     * @return 새 색인에 넣은 문서 수
+     */
+    public long replaceAll(Consumer<Consumer<Collection<TravelLogSearchDocument>>> source) {
+        Map<Long, UserIndex> rebuilt = new ConcurrentHashMap<>();
+        long[] count = {0};
+        source.accept(batch -> {
+            batch.forEach(document -> upsert(rebuilt, document));
+            count[0] += batch.size();
+        });
+        this.userIndexes = rebuilt;
+        return count[0];
+    }
+
+    /**
+     * 사용자의 여행일지 검색
+     *
+     * @param offset - 건너뛸 결과 수
+     * @param limit  - 가져올 결과 수
+     * @return 랭킹순으로 정렬된 여행일지 ID 목록과 전체 결과 수
+     */
+    public SearchResult search(Long userId, String keyword, long offset, int limit) {
+        UserIndex userIndex = userIndexes.get(userId);
+        Set<String> queryTerms = BigramTokenizer.queryTerms(keyword);
+        if (userIndex == null || queryTerms.isEmpty()) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        return userIndex.search(queryTerms, offset, limit);
+    }
+
+    // 색인된 여행일지 수
+    public int size() {
+        return userIndexes.values().stream().mapToInt(UserIndex::size).sum();
+    }
+
+    private static void upsert(Map<Long, UserIndex> target, TravelLogSearchDocument document) {
+        target.computeIfAbsent(document.getUserId(), id -> new UserIndex())
+                .upsert(document);
+    }
+
+    /**
+     * 검색 결과 (현재 페이지의 ID 목록 + 전체 결과 수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        private final List<Long> travelLogIds;
+        private final long totalHits;
+    }
+
+    /**
+     * 사용자 1명의 역색인
+     * 쓰기/읽기 모두 사용자 단위로 동기화 (사용자 간에는 서로 막지 않음)
+     */
+    private static class UserIndex {
+
+        // 토큰 -> {여행일지 ID -> 가중치}
+        private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+        // 여행일지 ID -> 색인된 토큰 목록 (수정/삭제 시 포스팅 제거용)
+        private final Map<Long, Set<String>> docTerms = new HashMap<>();
+
+        // 여행일지 ID -> 날짜 (동점 정렬용)
+        private final Map<Long, LocalDate> docDates = new HashMap<>();
+
+        synchronized void upsert(TravelLogSearchDocument document) {
+            remove(document.getId());
+
+            Map<String, Float> weights = new HashMap<>();
+            addField(weights, document.getTitle(), TITLE_WEIGHT);
+            addField(weights, document.getLocation(), LOCATION_WEIGHT);
+            addField(weights, document.getContent(), CONTENT_WEIGHT);
+            if (document.getTagNames() != null) {
+                document.getTagNames().forEach(tagName -> addField(weights, tagName, TAG_WEIGHT));
+            }
+
+            weights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.getId(), weight));
+            docTerms.put(document.getId(), weights.keySet());
+            docDates.put(document.getId(), document.getLogDate());
+        }
+
+        synchronized void remove(Long travelLogId) {
+            Set<String> terms = docTerms.remove(travelLogId);
+            docDates.remove(travelLogId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(travelLogId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        synchronized SearchResult search(Set<String> queryTerms, long offset, int limit) {
+            // 포스팅이 짧은 토큰부터 교집합 (AND)
+            List<Map<Long, Float>> lists = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting == null) {
+                    return new SearchResult(Collections.emptyList(), 0);
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int totalDocs = docTerms.size();
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long docId : lists.get(0).keySet()) {
+                double score = 0;
+                for (Map<Long, Float> posting : lists) {
+                    Float weight = posting.get(docId);
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    score += weight * Math.log(1 + (double) totalDocs / posting.size());
+                }
+                scores.put(docId, score);
+            }
+
+            Comparator<Long> byScore = Comparator.comparing((Long id) -> scores.get(id)).reversed();
+            Comparator<Long> byDate = Comparator.comparing((Long id) -> docDates.get(id),
+                    Comparator.nullsLast(Comparator.reverseOrder()));
+            List<Long> ranked = new ArrayList<>(scores.keySet());
+            ranked.sort(byScore.thenComparing(byDate).thenComparing(Comparator.reverseOrder()));
+
+            int from = (int) Math.min(offset, ranked.size());
+            int to = (int) Math.min(from + (long) limit, ranked.size());
+            return new SearchResult(new ArrayList<>(ranked.subList(from, to)), ranked.size());
+        }
+
+        synchronized int size() {
+            return docTerms.size();
+        }
+
+        // 필드의 토큰마다 가중치를 누적
+        private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+            for (String term : BigramTokenizer.indexTerms(text)) {
+                weights.merge(term, fieldWeight, Float::sum);
+            }
+        }
+    }
+}
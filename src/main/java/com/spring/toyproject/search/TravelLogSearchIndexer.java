@@ -0,0 +1,125 @@
+package com.spring.toyproject.search;
+
+import com.spring.toyproject.repository.base.TravelLogRepository;
+import com.spring.toyproject.repository.base.TravelLogTagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 여행일지 검색 색인 관리자
+ * - 앱 시작 시 DB에서 전체 색인을 재구축
+ * - 여행일지 생성/수정/삭제 트랜잭션이 커밋되면 색인에 증분 반영
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TravelLogSearchIndexer {
+
+    // 재구축 시 한 번에 읽어올 여행일지 수
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final TravelLogSearchIndex searchIndex;
+    private final TravelLogRepository travelLogRepository;
+    private final TravelLogTagRepository travelLogTagRepository;
+
+    // 재구축이 한 번이라도 끝났는지 (끝나기 전에는 DB 검색으로 대체)
+    private volatile boolean ready;
+
+    // 재구축 도중 들어온 변경 (재구축 완료 후 들어온 순서대로 다시 반영)
+    private volatile boolean rebuilding;
+    private final Queue<Runnable> pendingUpdates = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 커밋된 여행일지 변경사항을 색인에 반영 (롤백되면 호출되지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTravelLogChanged(TravelLogChangedEvent event) {
+        if (rebuilding) {
+            pendingUpdates.add(() -> apply(event));
+        }
+        apply(event);
+    }
+
+    /**
+     * 일괄 가져오기 배치가 커밋되면 그 배치에서 저장한 여행일지를 색인에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTravelLogsImported(TravelLogsImportedEvent event) {
+        if (rebuilding) {
+            pendingUpdates.add(() -> event.getDocuments().forEach(searchIndex::upsert));
+        }
+        event.getDocuments().forEach(searchIndex::upsert);
+    }
+
+    /**
+     * DB의 모든 여행일지로 색인 재구축 (ID 순으로 배치 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            // 배치마다 새 색인에 바로 넣고 끝나면 교체 (전체 문서를 모아 두지 않음)
+            long documents = searchIndex.replaceAll(this::forEachDocumentBatch);
+
+            // 재구축 중 커밋된 변경사항 재반영
+            Runnable update;
+            while ((update = pendingUpdates.poll()) != null) {
+                update.run();
+            }
+
+            ready = true;
+            log.info("여행일지 검색 색인 재구축 완료 - 문서 수: {}, 소요시간: {}ms",
+                    documents, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("여행일지 검색 색인 재구축 실패: {}", e.getMessage());
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 여행일지를 ID 순으로 배치 조회해서 태그명을 채운 뒤 전달
+     */
+    private void forEachDocumentBatch(Consumer<Collection<TravelLogSearchDocument>> consumer) {
+        Long lastId = 0L;
+        while (true) {
+            List<TravelLogSearchDocument> batch = travelLogRepository.findSearchDocuments(lastId, REBUILD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = batch.stream().map(TravelLogSearchDocument::getId).collect(Collectors.toList());
+            Map<Long, List<String>> tagNames = travelLogTagRepository.findTagNamesByTravelLogIds(ids);
+            batch.forEach(document -> document.setTagNames(tagNames.getOrDefault(document.getId(), List.of())));
+
+            consumer.accept(batch);
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    private void apply(TravelLogChangedEvent event) {
+        if (event.isDeleted()) {
+            searchIndex.remove(event.getUserId(), event.getTravelLogId());
+        } else {
+            searchIndex.upsert(event.getDocument());
+        }
+    }
+}
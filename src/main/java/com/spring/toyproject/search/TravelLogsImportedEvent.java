@@ -0,0 +1,19 @@
+package com.spring.toyproject.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여행일지 일괄 가져오기 배치 저장 이벤트
+ * 배치 트랜잭션이 커밋된 뒤에 그 배치에서 저장한 여행일지를 검색 색인에 반영한다.
+ * (행마다 이벤트를 쌓지 않고, 이미 만든 문서를 넘겨서 DB를 다시 읽지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class TravelLogsImportedEvent {
+
+    private final Long tripId;
+    private final List<TravelLogSearchDocument> documents;
+}
@@ -0,0 +1,27 @@
+package com.spring.toyproject.service;
+
+import com.spring.toyproject.domain.dto.response.DashboardStatsDto;
+import com.spring.toyproject.repository.base.UserTravelStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 대시보드 서비스
+ * 통계는 여행일지 변경 시 갱신되는 집계 테이블에서 한 행만 읽는다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardService {
+
+    private final UserTravelStatsRepository userTravelStatsRepository;
+
+    public DashboardStatsDto getStats(Long userId) {
+        return userTravelStatsRepository.findById(userId)
+                .map(DashboardStatsDto::from)
+                .orElseGet(DashboardStatsDto::empty);
+    }
+}
@@ -0,0 +1,293 @@
+package com.spring.toyproject.service;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import com.spring.toyproject.domain.dto.request.UploadSessionRequestDto;
+import com.spring.toyproject.domain.dto.response.TravelPhotoResponseDto;
+import com.spring.toyproject.domain.dto.response.UploadSessionResponseDto;
+import com.spring.toyproject.domain.entity.PhotoBlob;
+import com.spring.toyproject.domain.entity.TravelLog;
+import com.spring.toyproject.domain.entity.TravelPhoto;
+import com.spring.toyproject.domain.entity.UploadSession;
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import com.spring.toyproject.repository.base.TravelLogRepository;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
+import com.spring.toyproject.repository.base.UploadSessionRepository;
+import com.spring.toyproject.storage.ByteRanges;
+import com.spring.toyproject.storage.PhotoStorage;
+import com.spring.toyproject.storage.StagedPhoto;
+import com.spring.toyproject.storage.TravelPhotosStoredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이어받기(청크) 사진 업로드
+ *
+ * 1. 세션 생성 -> 2. 청크를 오프셋과 함께 PUT (순서 무관, 재전송 가능) -> 3. 받은 구간 조회 -> 4. 완료
+ * 청크는 FileChannel 위치 지정 쓰기로 임시 파일의 해당 오프셋에 바로 기록되고,
+ * 완료되면 일반 업로드와 같은 내용 주소 저장소를 거쳐 여행일지의 사진(TravelPhoto)이 된다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class ResumableUploadService {
+
+    // 이어받기 임시 파일 폴더 (업로드 루트/.staging/uploads)
+    private static final String PART_DIRECTORY = "uploads";
+    // 여행일지 하나에 첨부할 수 있는 최대 사진 수
+    private static final int MAX_PHOTOS_PER_LOG = 5;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final TravelLogRepository travelLogRepository;
+    private final TravelPhotoRepository travelPhotoRepository;
+    private final PhotoStorage photoStorage;
+    private final FileUploadConfig fileUploadConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 사진 1장 최대 크기 (일반 업로드와 같은 제한)
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    // 마지막 청크 이후 세션 유지 시간
+    @Value("${file.upload.resumable.session-ttl:24h}")
+    private Duration sessionTtl;
+
+    /**
+     * 업로드 세션 생성
+     */
+    public UploadSessionResponseDto createSession(String username, UploadSessionRequestDto request) {
+        findOwnedTravelLog(username, request.getTravelLogId());
+
+        if (request.getTotalSize() > maxFileSize.toBytes()) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .username(username)
+                .travelLogId(request.getTravelLogId())
+                .originalFilename(request.getFileName())
+                .totalSize(request.getTotalSize())
+                .build());
+
+        try {
+            Files.createDirectories(partPath(session.getId()).getParent());
+            Files.createFile(partPath(session.getId()));
+        } catch (IOException e) {
+            log.error("업로드 임시 파일 생성 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        log.info("이어받기 업로드 세션 생성 - 사용자: {}, 세션: {}, 크기: {}", username, session.getId(), session.getTotalSize());
+        return UploadSessionResponseDto.from(session, sessionTtl);
+    }
+
+    /**
+     * 받은 구간 조회
+     */
+    @Transactional(readOnly = true)
+    public UploadSessionResponseDto getSession(String username, String uploadId) {
+        return UploadSessionResponseDto.from(findSession(username, uploadId), sessionTtl);
+    }
+
+    /**
+     * 청크 기록
+     * 파일 쓰기는 트랜잭션 밖에서 하고(느린 네트워크 동안 DB 커넥션을 잡지 않도록) 받은 구간만 짧게 잠가서 갱신한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadSessionResponseDto writeChunk(String username, String uploadId, long offset, InputStream body) {
+        UploadSession session = findSession(username, uploadId);
+        if (offset < 0 || offset >= session.getTotalSize()) {
+            throw new BusinessException(ErrorCode.INVALID_UPLOAD_RANGE);
+        }
+
+        long written = writeAt(partPath(uploadId), offset, session.getTotalSize() - offset, body);
+        if (written == 0) {
+            return UploadSessionResponseDto.from(session, sessionTtl);
+        }
+
+        return transactionTemplate.execute(status -> {
+            UploadSession locked = uploadSessionRepository.findWithLockByIdAndUsername(uploadId, username)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+            ByteRanges ranges = ByteRanges.parse(locked.getReceivedRanges());
+            ranges.add(offset, offset + written - 1);
+            locked.updateReceived(ranges.toString(), ranges.totalBytes());
+            uploadSessionRepository.flush();
+
+            return UploadSessionResponseDto.from(locked, sessionTtl);
+        });
+    }
+
+    /**
+     * 업로드 완료 - 모든 구간을 받았으면 여행일지 사진으로 등록
+     * 받은 파일(.part)은 복사본으로 등록하고 커밋된 뒤에 지운다.
+     * (중간에 롤백되면 세션과 받은 파일이 그대로 남아 다시 완료를 요청할 수 있음)
+     */
+    public TravelPhotoResponseDto complete(String username, String uploadId) {
+        UploadSession session = uploadSessionRepository.findWithLockByIdAndUsername(uploadId, username)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+        if (!ByteRanges.parse(session.getReceivedRanges()).covers(session.getTotalSize())) {
+            throw new BusinessException(ErrorCode.UPLOAD_INCOMPLETE);
+        }
+
+        // 여행일지 행을 잠가서 같은 여행일지의 완료 요청끼리 사진 수 확인과 등록이 겹치지 않도록
+        TravelLog travelLog = checkOwner(username, travelLogRepository.findWithLockById(session.getTravelLogId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRAVEL_LOG_NOT_FOUND)));
+        if (travelPhotoRepository.countByTravelLogId(travelLog.getId()) >= MAX_PHOTOS_PER_LOG) {
+            throw new BusinessException(ErrorCode.PHOTO_LIMIT_EXCEEDED);
+        }
+
+        int displayOrder = travelPhotoRepository.findMaxDisplayOrder(travelLog.getId()) + 1;
+        StagedPhoto staged;
+        try {
+            staged = photoStorage.stageReceivedFile(partPath(uploadId), session.getOriginalFilename(), displayOrder);
+        } catch (IOException e) {
+            log.error("이어받기 업로드 파일 처리 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        if (staged == null) {
+            throw new BusinessException(ErrorCode.INVALID_IMAGE_FILE);
+        }
+
+        // 커밋되면 저장소로 이동, 롤백되면 임시 파일 삭제
+        PhotoBlob blob = photoStorage.store(List.of(staged)).get(0);
+        TravelPhoto photo = travelPhotoRepository.save(TravelPhoto.builder()
+                .displayOrder(displayOrder)
+                .originalFilename(staged.getOriginalFilename())
+                .storedFilename(blob.getStoredFilename())
+                .filePath(blob.getFilePath())
+                .contentHash(blob.getContentHash())
+                .travelLog(travelLog)
+                .build());
+
+        uploadSessionRepository.delete(session);
+        eventPublisher.publishEvent(new TravelPhotosStoredEvent(List.of(photo.getId())));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deletePart(uploadId);
+            }
+        });
+
+        log.info("이어받기 업로드 완료 - 사용자: {}, 세션: {}, 사진 ID: {}", username, uploadId, photo.getId());
+        return TravelPhotoResponseDto.from(photo);
+    }
+
+    /**
+     * 업로드 취소
+     */
+    public void cancel(String username, String uploadId) {
+        UploadSession session = findSession(username, uploadId);
+        uploadSessionRepository.delete(session);
+        deletePart(uploadId);
+    }
+
+    /**
+     * 만료된 세션 정리 (마지막 청크 이후 session-ttl 경과)
+     */
+    @Scheduled(fixedDelayString = "${file.upload.resumable.sweep-interval:10m}",
+            initialDelayString = "${file.upload.resumable.sweep-interval:10m}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sweepExpiredSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(sessionTtl);
+        List<String> expiredIds;
+        int swept = 0;
+        do {
+            expiredIds = uploadSessionRepository.findExpiredIds(cutoff, Limit.of(SWEEP_BATCH_SIZE));
+            for (String uploadId : expiredIds) {
+                uploadSessionRepository.deleteById(uploadId);
+                deletePart(uploadId);
+                swept++;
+            }
+        } while (expiredIds.size() == SWEEP_BATCH_SIZE);
+
+        if (swept > 0) {
+            log.info("만료된 이어받기 업로드 세션 {}개 정리", swept);
+        }
+    }
+
+    // 요청 본문을 오프셋 위치부터 기록 (남은 크기를 넘는 데이터가 오면 에러)
+    private long writeAt(Path part, long offset, long remaining, InputStream body) {
+        byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (written + read > remaining) {
+                    throw new BusinessException(ErrorCode.INVALID_UPLOAD_RANGE);
+                }
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    written += channel.write(chunk, offset + written);
+                }
+            }
+        } catch (IOException e) {
+            // 끊긴 청크는 기록된 구간으로 인정하지 않음 - 클라이언트가 같은 오프셋부터 다시 보냄
+            log.warn("청크 기록 중단 - 파일: {}, 원인: {}", part, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+        return written;
+    }
+
+    private UploadSession findSession(String username, String uploadId) {
+        return uploadSessionRepository.findByIdAndUsername(uploadId, username)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+    }
+
+    private TravelLog findOwnedTravelLog(String username, Long travelLogId) {
+        return checkOwner(username, travelLogRepository.findById(travelLogId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRAVEL_LOG_NOT_FOUND)));
+    }
+
+    // 여행일지가 사용자의 여행에 속하는지 확인
+    private TravelLog checkOwner(String username, TravelLog travelLog) {
+        if (!travelLog.getTrip().getUser().getUsername().equals(username)) {
+            throw new BusinessException(ErrorCode.TRAVEL_LOG_ACCESS_DENIED);
+        }
+        return travelLog;
+    }
+
+    private Path partPath(String uploadId) {
+        return Paths.get(fileUploadConfig.getLocation(), PhotoStorage.STAGING_DIRECTORY, PART_DIRECTORY, uploadId + ".part");
+    }
+
+    private void deletePart(String uploadId) {
+        try {
+            Files.deleteIfExists(partPath(uploadId));
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패 - 세션: {}, 원인: {}", uploadId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.spring.toyproject.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.spring.toyproject.domain.dto.response.TagResponseDto;
+import com.spring.toyproject.domain.entity.TagCategory;
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import com.spring.toyproject.repository.base.TagRepository;
+import com.spring.toyproject.search.TagCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 해시태그 목록 캐시
+ *
+ * 태그 카테고리는 고정된 enum이고 태그 테이블은 거의 바뀌지 않으므로
+ * 카테고리마다 태그 목록 JSON을 미리 직렬화한 값과 ETag를 보관한다.
+ * 응답 봉투(ApiResponse - 메시지, 응답 시간)는 요청마다 새로 만들고 태그 목록만 그대로 끼워 넣으므로
+ * ETag는 태그 목록이 같으면 다시 적재해도 바뀌지 않는다.
+ * 해당 카테고리의 태그 생성 트랜잭션이 커밋되면 그 카테고리만 무효화한다.
+ */
+@Component
+@Slf4j
+public class TagCatalogCache {
+
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<TagCategory, TagCatalog> catalogs = new ConcurrentHashMap<>();
+
+    // 카테고리별 무효화 버전 (조회 도중 무효화되면 오래된 목록을 캐시하지 않기 위함)
+    private final Map<TagCategory, AtomicLong> versions = new EnumMap<>(TagCategory.class);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TagCatalogCache(TagRepository tagRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.tagRepository = tagRepository;
+        this.objectMapper = objectMapper;
+        for (TagCategory category : TagCategory.values()) {
+            versions.put(category, new AtomicLong());
+        }
+        this.hitCounter = Counter.builder("tag.catalog.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("tag.catalog.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 카테고리의 직렬화된 해시태그 목록 조회 (없으면 DB에서 읽어 캐시)
+     */
+    public TagCatalog get(TagCategory category) {
+        TagCatalog cached = catalogs.get(category);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        long version = versions.get(category).get();
+        TagCatalog loaded = load(category);
+
+        // 조회하는 동안 무효화되지 않았을 때만 캐시
+        if (versions.get(category).get() == version) {
+            TagCatalog previous = catalogs.putIfAbsent(category, loaded);
+            return previous != null ? previous : loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * 태그 생성이 커밋되면 해당 카테고리만 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTagCreated(TagCreatedEvent event) {
+        evict(event.getTag().getCategory());
+    }
+
+    public void evict(TagCategory category) {
+        versions.get(category).incrementAndGet();
+        catalogs.remove(category);
+        log.debug("해시태그 목록 캐시 무효화 - 카테고리: {}", category);
+    }
+
+    private TagCatalog load(TagCategory category) {
+        List<TagResponseDto> tags = tagRepository.findByCategoryOrderByName(category).stream()
+                .map(TagResponseDto::from)
+                .collect(Collectors.toList());
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(tags);
+            return new TagCatalog(new RawValue(new String(json, StandardCharsets.UTF_8)), etagOf(json));
+        } catch (JsonProcessingException e) {
+            log.error("해시태그 목록 직렬화 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 강한 ETag - 태그 목록 JSON의 SHA-256
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 태그 목록과 ETag
+     * tags는 응답 객체에 그대로 넣으면 다시 직렬화하지 않고 원본 JSON으로 기록된다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TagCatalog {
+        private final RawValue tags;
+        private final String etag;
+    }
+}
@@ -8,9 +8,14 @@ import com.spring.toyproject.domain.entity.TagCategory;
 import com.spring.toyproject.exception.BusinessException;
 import com.spring.toyproject.exception.ErrorCode;
 import com.spring.toyproject.repository.base.TagRepository;
+import com.spring.toyproject.search.TagAutocompleteIndex;
+import com.spring.toyproject.search.TagAutocompleteIndexer;
+import com.spring.toyproject.search.TagCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -23,7 +28,15 @@ import java.util.stream.Collectors;
 @Transactional
 public class TagService {
 
+    // 자동완성 결과 최대 개수
+    private static final int AUTOCOMPLETE_LIMIT = 10;
+
     private final TagRepository tagRepository;
+    private final TagCatalogCache tagCatalogCache;
+
+    private final TagAutocompleteIndex autocompleteIndex;
+    private final TagAutocompleteIndexer autocompleteIndexer;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 해시 태그 생성 처리
     public TagResponseDto createTag(TagRequestDto requestDto) {
@@ -43,8 +56,13 @@ public class TagService {
 
         // 생성된 이후에 ID가 필요하다.
         Tag savedTag = tagRepository.save(tag);
+        TagResponseDto responseDto = TagResponseDto.from(savedTag);
+
+        // 커밋이 완료되면 자동완성 색인에 반영
+        eventPublisher.publishEvent(new TagCreatedEvent(responseDto));
+
         // 클라이언트에게 ID가 포함된 정보를 리턴
-        return TagResponseDto.from(savedTag);
+        return responseDto;
     }
 
     // 카테고리로 해시태그 목록 가져오기
@@ -57,10 +75,29 @@ public class TagService {
     }
 
     /**
-     * 검색어가 포함된 해시태그 목록을 가져오기
+     * 카테고리의 해시태그 목록을 직렬화된 응답 형태로 가져오기 (캐시)
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않는다.
      */
-    @Transactional(readOnly = true)
-    public List<TagResponseDto> searchTags(String keyword) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TagCatalogCache.TagCatalog getTagCatalog(TagCategory category) {
+        return tagCatalogCache.get(category);
+    }
+
+    /**
+     * 검색어가 포함된 해시태그 목록을 가져오기 (자동완성)
+     * 메모리 자동완성 색인에서 사용 횟수순 상위 N개만 조회하며 DB는 조회하지 않는다.
+     * 색인 조회 시 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않는다. (DB 대체 조회는 리포지토리 트랜잭션 사용)
+     *
+     * @param category - null이면 전체 카테고리
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TagResponseDto> searchTags(String keyword, TagCategory category) {
+
+        if (autocompleteIndexer.isReady()) {
+            return autocompleteIndex.search(keyword, category, AUTOCOMPLETE_LIMIT);
+        }
+
+        // 색인 구성 전에는 DB 검색으로 대체
         /*
             SELECT *
             FROM tags
@@ -68,6 +105,8 @@ public class TagService {
          */
         return tagRepository.findByNameContaining(keyword)
                 .stream()
+                .filter(tag -> category == null || tag.getCategory() == category)
+                .limit(AUTOCOMPLETE_LIMIT)
                 .map(TagResponseDto::from)
                 .collect(Collectors.toList())
                 ;
@@ -0,0 +1,224 @@
+package com.spring.toyproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.toyproject.domain.dto.request.TravelLogRequestDto;
+import com.spring.toyproject.domain.dto.response.TravelLogImportResultDto;
+import com.spring.toyproject.domain.entity.Tag;
+import com.spring.toyproject.domain.entity.TravelLog;
+import com.spring.toyproject.domain.entity.Trip;
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import com.spring.toyproject.importer.ImportFormat;
+import com.spring.toyproject.importer.TravelLogImportReader;
+import com.spring.toyproject.importer.TravelLogImportRow;
+import com.spring.toyproject.repository.base.TagRepository;
+import com.spring.toyproject.repository.base.TripRepository;
+import com.spring.toyproject.search.TagUsageChangedEvent;
+import com.spring.toyproject.search.TravelLogSearchDocument;
+import com.spring.toyproject.search.TravelLogsImportedEvent;
+import com.spring.toyproject.stats.TravelLogStatsDelta;
+import com.spring.toyproject.stats.TravelLogStatsRecorder;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여행일지 일괄 가져오기 (NDJSON / CSV)
+ *
+ * 요청 본문을 한 행씩 읽어서 검증하고 batch-size 단위로 INSERT 한다.
+ * 배치마다 flush/clear 해서 영속성 컨텍스트가 커지지 않으므로 파일 크기와 상관없이 메모리 사용량이 일정하다.
+ *
+ * 읽기/검증은 트랜잭션 밖에서 하고 배치마다 짧은 트랜잭션으로 커밋한다.
+ * (클라이언트가 본문을 느리게 보내도 DB 커넥션을 붙잡지 않음 - OSIV도 이 경로는 제외, WebMvcConfig 참고)
+ * 집계와 검색/자동완성 색인도 배치가 커밋될 때마다 반영한다.
+ * 전체가 하나의 트랜잭션이 아니므로 도중에 연결이 끊기면 그때까지 커밋된 배치는 남는다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TravelLogImportService {
+
+    private final TripRepository tripRepository;
+    private final TagRepository tagRepository;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TravelLogStatsRecorder statsRecorder;
+
+    // 한 번에 INSERT 후 flush/clear 할 행 수
+    @Value("${travel-log.import.batch-size:500}")
+    private int batchSize;
+
+    public TravelLogImportResultDto importTravelLogs(Long userId, Long tripId, InputStream in, ImportFormat format) {
+        log.info("여행일지 가져오기 시작 - 사용자ID: {}, 여행ID: {}, 형식: {}", userId, tripId, format);
+        long start = System.currentTimeMillis();
+
+        // 사용자 소유의 여행인지 확인 (이후 배치에서는 ID 참조만 사용)
+        tripRepository.findByIdAndUserId(tripId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRIP_NOT_FOUND));
+
+        TravelLogImportResultDto result = TravelLogImportResultDto.builder().build();
+        List<TravelLogImportRow> batch = new ArrayList<>(batchSize);
+
+        try (TravelLogImportReader reader = new TravelLogImportReader(in, format, objectMapper)) {
+            TravelLogImportRow row;
+            while ((row = reader.next()) != null) {
+                result.countRow();
+
+                if (row.isFailed()) {
+                    result.addError(row.getRowNumber(), row.getErrorField(), row.getErrorMessage());
+                    continue;
+                }
+                if (!validate(row, result)) {
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    commitBatch(userId, tripId, batch, result);
+                }
+            }
+            commitBatch(userId, tripId, batch, result);
+        } catch (IOException e) {
+            log.error("여행일지 가져오기 파일 읽기 실패 - 저장된 행: {}, 원인: {}", result.getImportedRows(), e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "파일을 읽는 중 오류가 발생했습니다. (이미 저장된 여행일지: %d건)".formatted(result.getImportedRows()));
+        }
+
+        log.info("여행일지 가져오기 완료 - 전체: {}, 성공: {}, 실패: {}, 소요시간: {}ms",
+                result.getTotalRows(), result.getImportedRows(), result.getFailedRows(),
+                System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * TravelLogRequestDto와 같은 규칙으로 검증 (Bean Validation + 비즈니스 검증 메서드)
+     * 실패하면 첫 번째 위반 항목을 에러 리포트에 담는다.
+     */
+    private boolean validate(TravelLogImportRow row, TravelLogImportResultDto result) {
+        TravelLogRequestDto request = row.getRequest();
+
+        Optional<ConstraintViolation<TravelLogRequestDto>> violation = validator.validate(request).stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()));
+        if (violation.isPresent()) {
+            result.addError(row.getRowNumber(), violation.get().getPropertyPath().toString(), violation.get().getMessage());
+            return false;
+        }
+
+        if (!request.isValidLogDate()) {
+            result.addError(row.getRowNumber(), "logDate", "미래 날짜의 여행일지는 작성할 수 없습니다.");
+            return false;
+        }
+        if (!request.isValidRating()) {
+            result.addError(row.getRowNumber(), "rating", "평점은 1~5 사이여야 합니다.");
+            return false;
+        }
+        if (!request.isValidExpenses()) {
+            result.addError(row.getRowNumber(), "expenses", "경비는 0 이상이어야 합니다.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 배치 하나를 트랜잭션 하나로 저장
+     * 집계 반영과 색인 이벤트 발행도 같은 트랜잭션에서 해서, 커밋된 배치만 색인에 반영되도록 한다.
+     */
+    private void commitBatch(Long userId, Long tripId, List<TravelLogImportRow> batch, TravelLogImportResultDto result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long imported = transactionTemplate.execute(status -> {
+            Map<Long, Long> tagUsage = new HashMap<>();
+            List<TravelLogSearchDocument> documents = new ArrayList<>();
+            TravelLogStatsDelta statsDelta = insertBatch(userId, tripId, batch, result, tagUsage, documents);
+
+            statsRecorder.record(tripId, userId, statsDelta);
+            if (!documents.isEmpty()) {
+                eventPublisher.publishEvent(new TravelLogsImportedEvent(tripId, documents));
+            }
+            if (!tagUsage.isEmpty()) {
+                eventPublisher.publishEvent(new TagUsageChangedEvent(tagUsage));
+            }
+            return (long) documents.size();
+        });
+
+        result.addImported(imported);
+        batch.clear();
+    }
+
+    /**
+     * 배치 INSERT 후 영속성 컨텍스트 비우기
+     * 배치에 포함된 해시태그는 IN 쿼리 한 번으로 확인한다.
+     * @return 저장한 여행일지의 집계 증감분
+     */
+    private TravelLogStatsDelta insertBatch(Long userId, Long tripId, List<TravelLogImportRow> batch,
+                                            TravelLogImportResultDto result, Map<Long, Long> tagUsage,
+                                            List<TravelLogSearchDocument> documents) {
+
+        Set<Long> tagIds = batch.stream()
+                .map(row -> row.getRequest().getTagIds())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        Map<Long, Tag> tagMap = tagIds.isEmpty() ? Map.of() : tagRepository.findAllById(tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+
+        Trip trip = entityManager.getReference(Trip.class, tripId);
+        TravelLogStatsDelta statsDelta = TravelLogStatsDelta.EMPTY;
+        for (TravelLogImportRow row : batch) {
+            TravelLogRequestDto request = row.getRequest();
+            Set<Long> rowTagIds = request.getTagIds() == null ? Set.of() : new LinkedHashSet<>(request.getTagIds());
+
+            List<Long> unknownIds = rowTagIds.stream()
+                    .filter(id -> !tagMap.containsKey(id))
+                    .collect(Collectors.toList());
+            if (!unknownIds.isEmpty()) {
+                result.addError(row.getRowNumber(), "tagIds",
+                        "%s tagIds=%s".formatted(ErrorCode.HASHTAG_NOT_FOUND.getMessage(), unknownIds));
+                continue;
+            }
+
+            TravelLog travelLog = TravelLog.builder()
+                    .title(request.getTitle())
+                    .content(request.getContent())
+                    .logDate(request.getLogDate())
+                    .location(request.getLocation())
+                    .mood(request.getMood())
+                    .rating(request.getRating())
+                    .expenses(request.getExpenses())
+                    .trip(trip)
+                    .build();
+            rowTagIds.forEach(tagId -> {
+                travelLog.addTag(tagMap.get(tagId));
+                tagUsage.merge(tagId, 1L, Long::sum);
+            });
+
+            entityManager.persist(travelLog);
+            statsDelta = statsDelta.plus(TravelLogStatsDelta.added(travelLog));
+            documents.add(TravelLogSearchDocument.of(travelLog, userId, rowTagIds.stream()
+                    .map(tagId -> tagMap.get(tagId).getName())
+                    .collect(Collectors.toList())));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return statsDelta;
+    }
+}
@@ -1,6 +1,6 @@
 package com.spring.toyproject.service;
 
-import com.spring.toyproject.config.FileUploadConfig;
+import com.spring.toyproject.domain.dto.common.CursorPage;
 import com.spring.toyproject.domain.dto.request.TravelLogRequestDto;
 import com.spring.toyproject.domain.dto.response.TagResponseDto;
 import com.spring.toyproject.domain.dto.response.TravelLogResponseDto;
@@ -9,18 +9,30 @@ import com.spring.toyproject.domain.entity.*;
 import com.spring.toyproject.exception.BusinessException;
 import com.spring.toyproject.exception.ErrorCode;
 import com.spring.toyproject.repository.base.*;
+import com.spring.toyproject.repository.custom.CoverPhotoRow;
+import com.spring.toyproject.repository.custom.TravelLogListRow;
 import com.spring.toyproject.repository.custom.TravelLogRepositoryCustom;
+import com.spring.toyproject.repository.custom.TravelPhotoRow;
+import com.spring.toyproject.search.TagUsageChangedEvent;
+import com.spring.toyproject.search.TravelLogChangedEvent;
+import com.spring.toyproject.search.TravelLogSearchDocument;
+import com.spring.toyproject.search.TravelLogSearchIndex;
+import com.spring.toyproject.search.TravelLogSearchIndexer;
+import com.spring.toyproject.stats.TravelLogStatsDelta;
+import com.spring.toyproject.stats.TravelLogStatsRecorder;
+import com.spring.toyproject.storage.PhotoStorage;
+import com.spring.toyproject.storage.StagedPhoto;
+import com.spring.toyproject.storage.TravelPhotosStoredEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,31 +42,34 @@ import java.util.stream.Collectors;
 @Transactional
 public class TravelLogService {
 
-    private final FileUploadConfig fileUploadConfig;
+    private final PhotoStorage photoStorage;
 
     private final TravelLogRepository travelLogRepository;
     private final TripRepository tripRepository;
-    private final UserRepository userRepository;
     private final TravelPhotoRepository travelPhotoRepository;
     private final TagRepository tagRepository;
     private final TravelLogTagRepository travelLogTagRepository;
 
+    private final TravelLogSearchIndex searchIndex;
+    private final TravelLogSearchIndexer searchIndexer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TravelLogStatsRecorder statsRecorder;
+
+    // 사진 일괄 조회 시 한 번에 받을 수 있는 여행일지 수 (IN 절 크기 제한)
+    @Value("${travel-log.photos.max-batch-size:50}")
+    private int photoBatchMaxSize;
+
     /**
      * 여행일지 생성
      */
-    public void createTravelLog(TravelLogRequestDto request, Long tripId, String username, List<MultipartFile> imageFiles) {
-        log.info("여행 일지 생성 시작 - 사용자명: {}, 제목: {}, 여행ID: {}", username, request.getTitle(), tripId);
-
-        // 사용자 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(
-                        () -> new BusinessException(ErrorCode.USER_NOT_FOUND)
-                );
+    public void createTravelLog(TravelLogRequestDto request, Long tripId, Long userId, List<StagedPhoto> stagedPhotos) {
+        log.info("여행 일지 생성 시작 - 사용자ID: {}, 제목: {}, 여행ID: {}", userId, request.getTitle(), tripId);
 
-        log.info("사용자 ID - {}", user.getId());
+        // 임시 사진을 내용 주소 저장소에 등록 (커밋되면 파일 이동, 롤백되면 임시 파일 삭제)
+        List<PhotoBlob> blobs = photoStorage.store(stagedPhotos);
 
         // 여행을 조회 (사용자 소유의 여행인지 재확인)
-        Trip trip = tripRepository.findByIdAndUser(tripId, user)
+        Trip trip = tripRepository.findByIdAndUserId(tripId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TRIP_NOT_FOUND));
 
         // 여행일지 엔터티 생성
@@ -72,70 +87,41 @@ public class TravelLogService {
         // 여행 일지 저장 -> 여행 일지의 ID가 생성됨
         TravelLog savedTravelLog = travelLogRepository.save(travelLog);
 
-        // 해시태그가 있다면 해시태그도 중간테이블에 연계저장
-        List<Long> tagIds = request.getTagIds();
-        if (tagIds != null && !tagIds.isEmpty()) {
-            tagIds.forEach(tagId -> {
-                savedTravelLog.addTag(tagRepository.findById(tagId).orElseThrow());
-            });
+        // 해시태그가 있다면 해시태그도 중간테이블에 연계저장 (커밋 시 배치 INSERT)
+        List<Tag> tags = findTagsByIds(request.getTagIds());
+        tags.forEach(savedTravelLog::addTag);
+        List<Long> tagIds = tags.stream().map(Tag::getId).collect(Collectors.toList());
+        List<String> tagNames = tags.stream().map(Tag::getName).collect(Collectors.toList());
+
+        // 임시 저장된 사진은 메타데이터만 기록 (파일 이동은 커밋 후)
+        List<Long> photoIds = new ArrayList<>();
+        for (int i = 0; i < stagedPhotos.size(); i++) {
+            StagedPhoto staged = stagedPhotos.get(i);
+            PhotoBlob blob = blobs.get(i);
+            TravelPhoto photo = TravelPhoto.builder()
+                    .displayOrder(staged.getDisplayOrder())
+                    .originalFilename(staged.getOriginalFilename())
+                    .storedFilename(blob.getStoredFilename())
+                    .filePath(blob.getFilePath())
+                    .contentHash(blob.getContentHash())
+                    .travelLog(savedTravelLog)
+                    .build();
+
+            photoIds.add(travelPhotoRepository.save(photo).getId());
         }
 
-        // 이미지가 있다면 이미지도 함께 INSERT
-        if (imageFiles != null && !imageFiles.isEmpty()) {
-
-            // 첨부이미지 파일은 최대 5개만 허용
-            for (int i = 0; i < Math.min(imageFiles.size(), 5); i++) {
-                try {
-                    log.debug("{}번째 파일 업로드 수행중...", i + 1);
-                    // 1. 실제 파일이 저장되는 로직
-                    MultipartFile file = imageFiles.get(i);
-                    // 텅빈 파일이거나 없는 파일은 스킵
-                    if (file == null || file.isEmpty()) continue;
-                    log.debug("{}번째 파일이 존재함...", i + 1);
-                    // 이미지 파일이 아닌것은 스킵
-                    if (file.getContentType() == null || !file.getContentType().startsWith("image/")) continue;
-
-                    log.debug("{}번째 파일 검증 통과...", i + 1);
-
-                    // 실제 저장 : 저장되는 컴퓨터의 로컬 경로
-                    // C:/Users/user/travels/uploads/kuromi
-                    Path userBasePath = Paths.get(fileUploadConfig.getLocation(), username);
-                    // 폴더 생성 명령
-                    Files.createDirectories(userBasePath);
-                    // 원본 파일명 추출
-                    String originalFilename = file.getOriginalFilename();
-
-                    // 확장자 추출
-                    String ext = originalFilename.substring(originalFilename.lastIndexOf("."));
-
-                    // 파일명 해시암호화 (중복방지)
-                    String storedFileName = UUID.randomUUID() + ext;
-
-                    // 실제 저장 명령
-                    // C:/Users/user/travels/uploads/kuromi/djksafdjlsafjl-djflsdj.jpg
-                    Path target = userBasePath.resolve(storedFileName);
-                    Files.copy(file.getInputStream(), target);
-
-                    log.debug("{}번째 파일 서버 업로드완료...", i + 1);
-
-                    // 2. 메타데이터를 디비에 저장하는 로직
-                    TravelPhoto photo = TravelPhoto.builder()
-                            .displayOrder(i + 1)
-                            .originalFilename(originalFilename)
-                            .storedFilename(storedFileName)
-                            .filePath("/uploads/" + username + "/" + storedFileName)
-                            .travelLog(savedTravelLog)
-                            .build();
-
-                    travelPhotoRepository.save(photo);
-                    log.debug("{}번째 데이터베이스 저장 완료...", i + 1);
-
-                } catch (Exception e) {
-                    throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-                }
-
-            }
+        // 사용자/여행 집계 갱신 (같은 트랜잭션)
+        statsRecorder.record(trip.getId(), userId, TravelLogStatsDelta.added(savedTravelLog));
 
+        // 커밋이 완료되면 검색 색인에 반영
+        eventPublisher.publishEvent(TravelLogChangedEvent.upserted(
+                TravelLogSearchDocument.of(savedTravelLog, userId, tagNames)));
+        if (!tagIds.isEmpty()) {
+            eventPublisher.publishEvent(TagUsageChangedEvent.attached(tagIds));
+        }
+        // 커밋이 완료되면 사진 리사이즈 이미지 생성 예약
+        if (!photoIds.isEmpty()) {
+            eventPublisher.publishEvent(new TravelPhotosStoredEvent(photoIds));
         }
     }
 
@@ -143,67 +129,224 @@ public class TravelLogService {
      * 여행별 여행일지 목록 조회
      */
     @Transactional(readOnly = true)
-    public Page<TravelLogResponseDto> getTravelLogsByTrip(String username, Long tripId, TravelLogRepositoryCustom.TravelLogSearchCondition condition, Pageable pageable) {
-
-        // 사용자 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    public Page<TravelLogResponseDto> getTravelLogsByTrip(Long userId, Long tripId, TravelLogRepositoryCustom.TravelLogSearchCondition condition, Pageable pageable) {
 
-        Page<TravelLog> responseData;
+        Page<TravelLogListRow> responseData;
 
         // 여행 ID가 없이 전체여행의 일지 조회를 원하는 경우 사용자ID로 모든 여행일지를 조회한다.
         if (tripId == null) {
-            responseData = travelLogRepository.findTravelLogsByUserId(user.getId(), condition, pageable);
+            responseData = travelLogRepository.findTravelLogsByUserId(userId, condition, pageable);
         } else {
             // 여행정보 조회
-            Trip trip = tripRepository.findByIdAndUser(tripId, user)
+            Trip trip = tripRepository.findByIdAndUserId(tripId, userId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.TRIP_NOT_FOUND));
 
             // 여행별 여행일지 조회
             responseData = travelLogRepository.findTravelLogsByTrip(trip, condition, pageable);
         }
 
-        return responseData.map(res -> TravelLogResponseDto.from(res, getCoverImgUrl(res)));
+        // 현재 페이지 여행일지들의 대표 썸네일 경로를 한 번의 쿼리로 조회
+        Map<Long, CoverPhotoRow> coverPhotos = getCoverImgUrls(responseData.getContent());
+
+        return responseData.map(res -> TravelLogResponseDto.from(res, coverPhotos.get(res.getId())));
     }
 
     /**
-     * 이미지 대표 썸네일 경로 가져오기
+     * 여행일지 통합 검색 (제목/내용/위치/태그명)
+     * 메모리 역색인에서 랭킹순 ID를 구한 뒤 해당 ID의 행만 DB에서 조회한다.
+     * 앱 시작 후 색인이 준비되기 전에는 DB 검색으로 대체
      */
-    private String getCoverImgUrl(TravelLog travelLog) {
-        List<TravelPhoto> travelPhotos = travelLog.getTravelPhotos();
-        if (travelPhotos != null && !travelPhotos.isEmpty()) {
-            TravelPhoto travelPhoto = travelPhotos.stream()
-                    .sorted(Comparator.comparing(TravelPhoto::getDisplayOrder))
-                    .findFirst()
-                    .orElseThrow();
-            return travelPhoto.getFilePath();
+    @Transactional(readOnly = true)
+    public Page<TravelLogResponseDto> searchTravelLogs(Long userId, String keyword, Pageable pageable) {
+
+        if (!searchIndexer.isReady()) {
+            log.warn("검색 색인 준비 전 - DB 검색으로 대체: {}", keyword);
+            Page<TravelLog> result = travelLogRepository.searchUserTravelLogs(userId, keyword, pageable);
+            Map<Long, CoverPhotoRow> coverPhotos = travelPhotoRepository.findCoverPhotosByTravelLogIds(
+                    result.getContent().stream().map(TravelLog::getId).collect(Collectors.toList()));
+            return result.map(res -> TravelLogResponseDto.from(res, coverPhotos.get(res.getId())));
         }
-        return null;
+
+        TravelLogSearchIndex.SearchResult hits
+                = searchIndex.search(userId, keyword, pageable.getOffset(), pageable.getPageSize());
+
+        // 검색된 ID의 행만 조회한 뒤 랭킹 순서대로 재정렬
+        Map<Long, TravelLogListRow> rowMap = travelLogRepository
+                .findListRowsByUserIdAndIds(userId, hits.getTravelLogIds())
+                .stream()
+                .collect(Collectors.toMap(TravelLogListRow::getId, row -> row));
+        List<TravelLogListRow> rows = hits.getTravelLogIds().stream()
+                .map(rowMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        Map<Long, CoverPhotoRow> coverPhotos = getCoverImgUrls(rows);
+        List<TravelLogResponseDto> content = rows.stream()
+                .map(row -> TravelLogResponseDto.from(row, coverPhotos.get(row.getId())))
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, hits.getTotalHits());
     }
 
+    /**
+     * 여행별 여행일지 목록 커서 페이징 조회 (무한 스크롤용, count 쿼리 없음)
+     */
     @Transactional(readOnly = true)
-    public TravelLogResponseDto getTravelLogDetail(String username, Long travelLogId) {
+    public CursorPage<TravelLogResponseDto> getTravelLogsByCursor(Long userId, Long tripId, TravelLogRepositoryCustom.TravelLogSearchCondition condition, String cursor, int size) {
+
+        CursorPage<TravelLogListRow> responseData;
+
+        if (tripId == null) {
+            responseData = travelLogRepository.findTravelLogsByUserIdAfter(userId, condition, cursor, size);
+        } else {
+            Trip trip = tripRepository.findByIdAndUserId(tripId, userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.TRIP_NOT_FOUND));
+
+            responseData = travelLogRepository.findTravelLogsByTripAfter(trip, condition, cursor, size);
+        }
+
+        Map<Long, CoverPhotoRow> coverPhotos = getCoverImgUrls(responseData.getContent());
+
+        return responseData.map(res -> TravelLogResponseDto.from(res, coverPhotos.get(res.getId())));
+    }
+
+    /**
+     * 해시태그 ID 목록을 IN 쿼리 한 번으로 조회
+     * 존재하지 않는 ID가 있으면 모아서 한 번에 에러로 알려준다.
+     */
+    private List<Tag> findTagsByIds(List<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 중복 ID 제거 (요청 순서 유지)
+        Set<Long> uniqueIds = new LinkedHashSet<>(tagIds);
+        Map<Long, Tag> tagMap = tagRepository.findAllById(uniqueIds).stream()
+                .collect(Collectors.toMap(Tag::getId, tag -> tag));
+
+        List<Long> unknownIds = uniqueIds.stream()
+                .filter(id -> !tagMap.containsKey(id))
+                .collect(Collectors.toList());
+        if (!unknownIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.HASHTAG_NOT_FOUND,
+                    "%s tagIds=%s".formatted(ErrorCode.HASHTAG_NOT_FOUND.getMessage(), unknownIds));
+        }
+
+        return uniqueIds.stream().map(tagMap::get).collect(Collectors.toList());
+    }
+
+    /**
+     * 이미지 대표 썸네일 경로 일괄 가져오기 (key: 여행일지 ID)
+     * 사진 컬렉션을 로딩하지 않고 display_order가 가장 작은 사진만 DB에서 골라온다.
+     */
+    private Map<Long, CoverPhotoRow> getCoverImgUrls(List<TravelLogListRow> travelLogs) {
+        List<Long> travelLogIds = travelLogs.stream()
+                .map(TravelLogListRow::getId)
+                .collect(Collectors.toList());
+        return travelPhotoRepository.findCoverPhotosByTravelLogIds(travelLogIds);
+    }
 
-        // 여행 일지 1개 불러오기
+    @Transactional(readOnly = true)
+    public TravelLogResponseDto getTravelLogDetail(Long userId, Long travelLogId) {
+
+        // 여행 일지 1개 불러오기 (사용자 소유인지 확인)
+        TravelLog travelLog = getOwnedTravelLog(userId, travelLogId);
+
+        return TravelLogResponseDto.from(travelLog);
+    }
+
+    /**
+     * 여행일지 수정 (사진 제외)
+     * tagIds가 null이면 해시태그는 그대로 두고, 값이 있으면 요청한 태그 목록으로 맞춘다.
+     */
+    public TravelLogResponseDto updateTravelLog(Long userId, Long travelLogId, TravelLogRequestDto request) {
+        log.info("여행 일지 수정 - 사용자ID: {}, 여행일지ID: {}", userId, travelLogId);
+
+        TravelLog travelLog = getOwnedTravelLog(userId, travelLogId);
+        Long tripId = travelLog.getTrip().getId();
+
+        // 수정 전 값을 빼고 수정 후 값을 더함
+        TravelLogStatsDelta before = TravelLogStatsDelta.removed(travelLog);
+        travelLog.updateTravelLog(request.getTitle(), request.getContent(), request.getLogDate(),
+                request.getLocation(), request.getMood(), request.getExpenses(), request.getRating());
+        statsRecorder.record(tripId, userId, before.plus(TravelLogStatsDelta.added(travelLog)));
+
+        // 해시태그 변경분만 반영 (중간테이블 UNIQUE 충돌 방지)
+        if (request.getTagIds() != null) {
+            List<Tag> tags = findTagsByIds(request.getTagIds());
+            Set<Long> tagIds = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+            Set<Long> currentIds = travelLog.getTravelLogTags().stream()
+                    .map(travelLogTag -> travelLogTag.getTag().getId())
+                    .collect(Collectors.toSet());
+
+            Map<Long, Long> usageDeltas = new HashMap<>();
+            currentIds.stream().filter(id -> !tagIds.contains(id)).forEach(id -> usageDeltas.put(id, -1L));
+            travelLog.retainTags(tagIds);
+            tags.stream().filter(tag -> !currentIds.contains(tag.getId())).forEach(tag -> {
+                travelLog.addTag(tag);
+                usageDeltas.put(tag.getId(), 1L);
+            });
+            if (!usageDeltas.isEmpty()) {
+                eventPublisher.publishEvent(new TagUsageChangedEvent(usageDeltas));
+            }
+        }
+
+        List<String> tagNames = travelLog.getTravelLogTags().stream()
+                .map(travelLogTag -> travelLogTag.getTag().getName())
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(TravelLogChangedEvent.upserted(
+                TravelLogSearchDocument.of(travelLog, userId, tagNames)));
+
+        return TravelLogResponseDto.from(travelLog);
+    }
+
+    /**
+     * 여행일지 삭제 (해시태그 연결/사진 메타데이터 함께 삭제)
+     * 사진이 참조하던 저장소 파일의 참조 수는 같은 트랜잭션에서 내리고, 참조가 없어진 파일은 저장소 GC가 정리한다.
+     */
+    public void deleteTravelLog(Long userId, Long travelLogId) {
+        log.info("여행 일지 삭제 - 사용자ID: {}, 여행일지ID: {}", userId, travelLogId);
+
+        TravelLog travelLog = getOwnedTravelLog(userId, travelLogId);
+        Long tripId = travelLog.getTrip().getId();
+
+        List<Long> tagIds = travelLog.getTravelLogTags().stream()
+                .map(travelLogTag -> travelLogTag.getTag().getId())
+                .collect(Collectors.toList());
+
+        photoStorage.release(travelLog.getTravelPhotos().stream()
+                .map(TravelPhoto::getContentHash)
+                .collect(Collectors.toList()));
+
+        travelLogRepository.delete(travelLog);
+        statsRecorder.record(tripId, userId, TravelLogStatsDelta.removed(travelLog));
+
+        eventPublisher.publishEvent(TravelLogChangedEvent.deleted(userId, travelLogId));
+        if (!tagIds.isEmpty()) {
+            eventPublisher.publishEvent(new TagUsageChangedEvent(tagIds.stream()
+                    .collect(Collectors.toMap(tagId -> tagId, tagId -> -1L, Long::sum))));
+        }
+    }
+
+    // 사용자 소유의 여행일지 조회 (여행의 FK만 비교하므로 사용자 행은 로딩하지 않음)
+    private TravelLog getOwnedTravelLog(Long userId, Long travelLogId) {
         TravelLog travelLog = travelLogRepository.findById(travelLogId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TRAVEL_LOG_NOT_FOUND));
 
-        // 여행일지가 사용자의 여행에 속하는지 다시한번 확인
-        if (!travelLog.getTrip().getUser().getUsername().equals(username)) {
+        if (!travelLog.getTrip().getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.TRAVEL_LOG_ACCESS_DENIED);
         }
-
-        return TravelLogResponseDto.from(travelLog);
+        return travelLog;
     }
 
     // 여행일지의 해시태그 목록 가져오기
-    public List<TagResponseDto> getTagsByTravelLog(String username, Long travelLogId) {
+    public List<TagResponseDto> getTagsByTravelLog(Long userId, Long travelLogId) {
 
         List<Tag> tags = travelLogTagRepository.findTagsByTravelLogId(travelLogId);
         return tags.stream().map(TagResponseDto::from).collect(Collectors.toList());
     }
 
-    public List<TravelPhotoResponseDto> getPhotos(Long travelLogId, String username) {
+    public List<TravelPhotoResponseDto> getPhotos(Long travelLogId, Long userId) {
 
         // 여행일지 조회
         TravelLog travelLog = travelLogRepository.findById(travelLogId)
@@ -217,4 +360,33 @@ public class TravelLogService {
                 .collect(Collectors.toList());
 
     }
+
+    /**
+     * 여러 여행일지의 사진을 한 번의 쿼리로 조회 (갤러리 화면용)
+     * 소유권은 쿼리 조건으로 확인하므로 다른 사용자의 여행일지나 없는 ID는 빈 목록으로 응답
+     * @return 요청한 순서대로 여행일지 ID별 사진 목록
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<TravelPhotoResponseDto>> getPhotos(List<Long> travelLogIds, Long userId) {
+
+        Set<Long> ids = new LinkedHashSet<>(travelLogIds);
+        if (ids.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "여행일지 ID를 하나 이상 지정해주세요.");
+        }
+        if (ids.size() > photoBatchMaxSize) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "한 번에 조회할 수 있는 여행일지는 최대 %d개입니다.".formatted(photoBatchMaxSize));
+        }
+
+        Map<Long, List<TravelPhotoRow>> rows
+                = travelPhotoRepository.findPhotosByTravelLogIdsAndUserId(ids, userId);
+
+        Map<Long, List<TravelPhotoResponseDto>> photos = new LinkedHashMap<>();
+        for (Long id : ids) {
+            photos.put(id, rows.getOrDefault(id, Collections.emptyList()).stream()
+                    .map(TravelPhotoResponseDto::from)
+                    .collect(Collectors.toList()));
+        }
+        return photos;
+    }
 }
\ No newline at end of file
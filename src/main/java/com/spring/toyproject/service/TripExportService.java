@@ -0,0 +1,181 @@
+package com.spring.toyproject.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.toyproject.config.FileUploadConfig;
+import com.spring.toyproject.domain.entity.Trip;
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import com.spring.toyproject.repository.base.TravelLogRepository;
+import com.spring.toyproject.repository.base.TravelLogTagRepository;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
+import com.spring.toyproject.repository.base.TripRepository;
+import com.spring.toyproject.repository.custom.TravelLogExportRow;
+import com.spring.toyproject.repository.custom.TravelPhotoExportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 여행 내보내기 (trip.json + 사진 파일 ZIP)
+ *
+ * 여행일지와 사진을 ID 기준 키셋 페이지(id > 마지막ID LIMIT n)로 읽으면서 바로 응답 스트림에 쓴다.
+ * - 엔터티 대신 프로젝션을 읽으므로 영속성 컨텍스트에 쌓이지 않고, 여행 크기와 상관없이 메모리 사용량이 일정하다.
+ * - 페이지마다 짧은 트랜잭션으로 읽고 커넥션을 반납한 뒤에 응답에 쓴다.
+ *   (열린 커서가 없으므로 같은 커넥션에서 IN 쿼리를 실행해도 결과셋 나머지를 메모리로 읽어들이지 않고,
+ *    느린 클라이언트가 ZIP을 받는 동안 커넥션을 붙잡지 않는다. 내보내기 경로는 OSIV에서도 제외됨 - WebMvcConfig)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TripExportService {
+
+    // ZIP 안의 여행 데이터 파일명
+    public static final String TRIP_JSON_ENTRY = "trip.json";
+
+    // 한 페이지로 읽을 여행일지/사진 수 (여행일지는 페이지마다 태그/사진 메타데이터를 IN 쿼리로 함께 조회)
+    private static final int PAGE_SIZE = 500;
+
+    private final TripRepository tripRepository;
+    private final TravelLogRepository travelLogRepository;
+    private final TravelLogTagRepository travelLogTagRepository;
+    private final TravelPhotoRepository travelPhotoRepository;
+
+    private final FileUploadConfig fileUploadConfig;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 내보낼 여행 조회 (사용자 소유인지 확인)
+     * 응답을 쓰기 시작하기 전에 호출해서 에러를 일반 에러 응답으로 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public Trip getExportableTrip(Long userId, Long tripId) {
+        return tripRepository.findByIdAndUserId(tripId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRIP_NOT_FOUND));
+    }
+
+    /**
+     * 여행을 ZIP으로 출력 스트림에 쓰기
+     * - trip.json: 여행 정보 + 여행일지 목록 (태그명, 사진 메타데이터 포함)
+     * - photos/{여행일지ID}/{저장파일명}: 사진 원본
+     * 트랜잭션 없이 실행되며 페이지를 읽을 때만 커넥션을 사용한다.
+     */
+    public void exportTrip(Trip trip, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+
+        zip.putNextEntry(new ZipEntry(TRIP_JSON_ENTRY));
+        long logCount = writeTripJson(trip, zip);
+        zip.closeEntry();
+
+        // 사진(jpg/png 등)은 이미 압축된 형식이라 다시 압축하지 않고 그대로 복사
+        zip.setLevel(Deflater.NO_COMPRESSION);
+        long photoCount = writePhotos(trip.getId(), zip);
+
+        zip.finish();
+        log.info("여행 내보내기 완료 - 여행ID: {}, 여행일지: {}개, 사진: {}개, 소요시간: {}ms",
+                trip.getId(), logCount, photoCount, System.currentTimeMillis() - start);
+    }
+
+    private long writeTripJson(Trip trip, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("trip");
+        generator.writeNumberField("id", trip.getId());
+        generator.writeStringField("title", trip.getTitle());
+        generator.writeStringField("description", trip.getDescription());
+        generator.writeObjectField("startDate", trip.getStartDate());
+        generator.writeObjectField("endDate", trip.getEndDate());
+        generator.writeObjectField("status", trip.getStatus());
+        generator.writeStringField("destination", trip.getDestination());
+        generator.writeObjectField("budget", trip.getBudget());
+        generator.writeObjectField("createdAt", trip.getCreatedAt());
+        generator.writeEndObject();
+
+        long count = 0;
+        generator.writeArrayFieldStart("travelLogs");
+        Long lastId = 0L;
+        while (true) {
+            List<TravelLogExportRow> page = readTravelLogPage(trip.getId(), lastId);
+            if (page.isEmpty()) {
+                break;
+            }
+            for (TravelLogExportRow row : page) {
+                generator.writeObject(row);
+            }
+            generator.flush();
+
+            count += page.size();
+            lastId = page.get(page.size() - 1).getId();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+
+        return count;
+    }
+
+    // 여행일지 한 페이지를 읽고 태그명/사진을 IN 쿼리로 채우기 (한 트랜잭션, 응답 쓰기 전에 커넥션 반납)
+    private List<TravelLogExportRow> readTravelLogPage(Long tripId, Long afterId) {
+        return transactionTemplate.execute(status -> {
+            List<TravelLogExportRow> page = travelLogRepository.findExportRows(tripId, afterId, PAGE_SIZE);
+            if (page.isEmpty()) {
+                return page;
+            }
+
+            List<Long> ids = page.stream().map(TravelLogExportRow::getId).collect(Collectors.toList());
+            Map<Long, List<String>> tagNames = travelLogTagRepository.findTagNamesByTravelLogIds(ids);
+            Map<Long, List<TravelPhotoExportRow>> photos = travelPhotoRepository.findExportRowsByTravelLogIds(ids);
+
+            for (TravelLogExportRow row : page) {
+                row.setTags(tagNames.getOrDefault(row.getId(), List.of()));
+                row.setPhotos(photos.getOrDefault(row.getId(), List.of()));
+            }
+            return page;
+        });
+    }
+
+    private long writePhotos(Long tripId, ZipOutputStream zip) throws IOException {
+        long count = 0;
+        Long lastId = 0L;
+        while (true) {
+            Long afterId = lastId;
+            List<TravelPhotoExportRow> page = transactionTemplate.execute(
+                    status -> travelPhotoRepository.findExportRowsByTripId(tripId, afterId, PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            for (TravelPhotoExportRow photo : page) {
+                Path file = fileUploadConfig.toStoragePath(photo.getFilePath());
+                if (!Files.isRegularFile(file)) {
+                    log.warn("내보내기 사진 파일 없음 - 사진ID: {}, 경로: {}", photo.getId(), file);
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry(photo.getZipEntryName()));
+                Files.copy(file, zip);
+                zip.closeEntry();
+                count++;
+            }
+            lastId = page.get(page.size() - 1).getId();
+        }
+        return count;
+    }
+}
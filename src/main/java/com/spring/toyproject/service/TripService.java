@@ -1,15 +1,22 @@
 package com.spring.toyproject.service;
 
+import com.spring.toyproject.domain.dto.common.CursorPage;
 import com.spring.toyproject.domain.dto.request.TripRequest;
 import com.spring.toyproject.domain.dto.response.TripDetailDto;
 import com.spring.toyproject.domain.dto.response.TripListItemDto;
 import com.spring.toyproject.domain.entity.Trip;
+import com.spring.toyproject.domain.entity.TripTravelStats;
 import com.spring.toyproject.domain.entity.User;
 import com.spring.toyproject.exception.BusinessException;
 import com.spring.toyproject.exception.ErrorCode;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
 import com.spring.toyproject.repository.base.TripRepository;
+import com.spring.toyproject.repository.base.TripTravelStatsRepository;
 import com.spring.toyproject.repository.base.UserRepository;
+import com.spring.toyproject.repository.custom.CoverPhotoRow;
+import com.spring.toyproject.repository.custom.TripListRow;
 import com.spring.toyproject.repository.custom.TripRepositoryCustom;
+import com.spring.toyproject.stats.TravelLogStatsRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,6 +24,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -26,23 +38,23 @@ public class TripService {
 
     private final TripRepository tripRepository;
     private final UserRepository userRepository;
+    private final TravelLogStatsRecorder statsRecorder;
+    private final TripTravelStatsRepository tripTravelStatsRepository;
+    private final TravelPhotoRepository travelPhotoRepository;
 
     /**
      * 여행 정보 생성
      *
      * @param request  - 여행 생성 요청시 클라이언트가 보내는 JSON
-     * @param username - 로그인한 유저가 제시한 토큰에서 파싱한 이름
+     * @param userId - 로그인한 유저가 제시한 토큰에서 파싱한 사용자 ID
      * @return 생성된 여행의 정보
      */
-    public Trip createTrip(TripRequest request, String username) {
-        log.info("여행 생성 시작! - 사용자명: {}, 제목: {}"
-                , username, request.getTitle());
+    public Trip createTrip(TripRequest request, Long userId) {
+        log.info("여행 생성 시작! - 사용자ID: {}, 제목: {}"
+                , userId, request.getTitle());
 
-        // 토큰에서 파싱한 유저이름을 통해 유저정보를 조회
-        User foundUser = userRepository.findByUsername(username)
-                .orElseThrow(
-                        () -> new BusinessException(ErrorCode.USER_NOT_FOUND)
-                );
+        // 토큰에서 파싱한 사용자 ID로 FK 참조만 만듦 (사용자 행은 조회하지 않음)
+        User foundUser = userRepository.getReferenceById(userId);
 
         // 여행 엔터티 생성
         Trip trip = Trip.builder()
@@ -61,6 +73,9 @@ public class TripService {
         Trip savedTrip = tripRepository.save(trip);
         log.info("여행 생성 완료 - 여행 ID: {}", savedTrip.getId());
 
+        // 여행 집계 행 생성 + 사용자 여행 수 증가
+        statsRecorder.tripCreated(savedTrip.getId(), userId);
+
         return savedTrip;
     }
 
@@ -68,30 +83,51 @@ public class TripService {
      * 목록 화면 전용: 최소 필드만 포함한 DTO로 반환
      */
     @Transactional(readOnly = true)
-    public Page<TripListItemDto> getUserTripsList(String username, TripRepositoryCustom.TripSearchCondition condition, Pageable pageable) {
-        log.info("사용자별 여행 목록 조회(Compact) - 사용자명: {}, 페이징: {}", username, pageable);
+    public Page<TripListItemDto> getUserTripsList(Long userId, TripRepositoryCustom.TripSearchCondition condition, Pageable pageable) {
+        log.info("사용자별 여행 목록 조회(Compact) - 사용자ID: {}, 페이징: {}", userId, pageable);
+
+        // 목록 화면에 필요한 컬럼만 프로젝션으로 조회 (엔터티/TEXT 컬럼 로딩 없음)
+        Page<TripListRow> tripPage = tripRepository.findTripsByUserId(userId, condition, pageable);
+        return tripPage.map(toListItem(tripPage.getContent()));
+    }
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    /**
+     * 목록 화면 전용 커서 페이징 조회 (무한 스크롤용, count 쿼리 없음)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TripListItemDto> getUserTripsByCursor(Long userId, TripRepositoryCustom.TripSearchCondition condition, String cursor, int size) {
+        log.info("사용자별 여행 목록 조회(Cursor) - 사용자ID: {}, 크기: {}", userId, size);
 
-        Page<Trip> tripPage = tripRepository.getTripList(user, condition, pageable);
-        return tripPage.map(TripListItemDto::from);
+        CursorPage<TripListRow> tripPage = tripRepository.findTripsByUserIdAfter(userId, condition, cursor, size);
+        return tripPage.map(toListItem(tripPage.getContent()));
     }
 
+    /**
+     * 목록 페이지의 여행 ID로 여행일지 요약(집계 테이블)과 대표 사진을 각각 IN 쿼리 한 번으로 조회해서
+     * 행마다 추가 쿼리 없이 DTO로 변환하는 함수를 만든다.
+     */
+    private Function<TripListRow, TripListItemDto> toListItem(List<TripListRow> rows) {
+        List<Long> tripIds = rows.stream().map(TripListRow::getId).collect(Collectors.toList());
+        if (tripIds.isEmpty()) {
+            return row -> TripListItemDto.from(row, null, null);
+        }
+
+        Map<Long, TripTravelStats> statsMap = tripTravelStatsRepository.findByTripIdIn(tripIds).stream()
+                .collect(Collectors.toMap(TripTravelStats::getTripId, Function.identity()));
+        Map<Long, CoverPhotoRow> coverMap = travelPhotoRepository.findCoverPhotosByTripIds(tripIds);
+
+        return row -> TripListItemDto.from(row, statsMap.get(row.getId()), coverMap.get(row.getId()));
+    }
 
     // 단건 조회
     @Transactional(readOnly = true)
-    public TripDetailDto getTrip(String username, Long tripId) {
-
-        // 사용자 먼저 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    public TripDetailDto getTrip(Long userId, Long tripId) {
 
         // 여행 1건을 조회 (사용자 소유 여행)
-        Trip trip = tripRepository.findByIdAndUser(tripId, user)
+        Trip trip = tripRepository.findByIdAndUserId(tripId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TRIP_NOT_FOUND));
 
-        return TripDetailDto.from(trip);
+        return TripDetailDto.from(trip, tripTravelStatsRepository.findById(tripId).orElse(null));
 
     }
 }
\ No newline at end of file
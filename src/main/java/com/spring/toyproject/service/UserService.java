@@ -10,12 +10,16 @@ import com.spring.toyproject.exception.BusinessException;
 import com.spring.toyproject.exception.ErrorCode;
 import com.spring.toyproject.jwt.JwtProvider;
 import com.spring.toyproject.repository.base.UserRepository;
+import com.spring.toyproject.search.AccountExistenceFilter;
+import com.spring.toyproject.stats.TravelLogStatsRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 사용자 모듈 서비스 클래스
  * 인증, 회원관련 비즈니스 로직 처리
@@ -28,29 +32,39 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final TravelLogStatsRecorder statsRecorder;
+
+    // 비밀번호 해시/검증 (전용 스레드풀에서 비동기 처리)
+    private final PasswordHashService passwordHashService;
 
-    // 비밀번호 암호화를 위한 객체
-    private final PasswordEncoder passwordEncoder;
+    // 가입된 사용자명/이메일 블룸 필터 (없는 값이면 DB 조회 생략)
+    private final AccountExistenceFilter accountExistenceFilter;
 
     // JWT 토큰을 발급하는 객체
     private final JwtProvider jwtProvider;
 
     /**
-     * 회원 가입 로직
+     * 회원 가입 전 중복 체크 - 비밀번호 해시 전에 호출해서 중복 요청에 해시 비용을 쓰지 않도록 함
+     * 동시에 같은 값으로 가입하는 경우는 UNIQUE 제약조건이 막아줌
      */
-    public UserResponse signup(SignUpRequest requestDto) {
+    @Transactional(readOnly = true)
+    public void checkSignupAvailable(SignUpRequest requestDto) {
 
         // 사용자명 중복 체크
-        if (userRepository.existsByUsername(requestDto.getUsername())) {
+        if (checkDuplicateUsername(requestDto.getUsername())) {
             throw new BusinessException(ErrorCode.DUPLICATE_USERNAME);
         }
         // 이메일 중복 체크
-        if (userRepository.existsByEmail(requestDto.getEmail())) {
+        if (checkDuplicateEmail(requestDto.getEmail())) {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
+    }
 
-        // 패스워드를 해시로 암호화
-        String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
+    /**
+     * 회원 가입 로직
+     * @param encodedPassword - PasswordHashService로 미리 해시한 비밀번호
+     */
+    public UserResponse signup(SignUpRequest requestDto, String encodedPassword) {
 
         // dto를 entity로 변경
         User user = User.builder()
@@ -59,22 +73,34 @@ public class UserService {
                 .password(encodedPassword)
                 .build();
 
+        // 중복 확인 필터에 먼저 추가 (롤백되어도 거짓 양성 하나가 늘 뿐 정확성에는 영향 없음)
+        accountExistenceFilter.add(user.getUsername(), user.getEmail());
+
         // db에 INSERT 명령
         User saved = userRepository.save(user);
         log.info("새로운 사용자 가입: {}", saved);
 
+        // 대시보드 통계용 빈 집계 행
+        statsRecorder.userCreated(saved.getId());
+
         return UserResponse.from(saved);
     }
 
     /**
      * 로그인 로직
+     * 사용자 조회까지만 요청 스레드에서 하고, 비밀번호 검증과 토큰 발급은 해시 스레드에서 이어서 처리
      */
-    public AuthResponse authenticate(LoginRequest loginRequest) {
+    @Transactional(readOnly = true)
+    public CompletableFuture<AuthResponse> authenticate(LoginRequest loginRequest) {
 
-        // 사용자 조회 (사용자명인지 이메일인지 아직 모름)
+        // 사용자 조회 (사용자명인지 이메일인지 아직 모름 -> 한 번의 쿼리로 조회, 사용자명 일치 우선)
         String inputAccount = loginRequest.getUsernameOrEmail();
-        User user = userRepository.findByUsername(inputAccount)
-                .orElseGet(() -> userRepository.findByEmail(inputAccount)
+        List<User> candidates = userRepository.findByUsernameOrEmail(inputAccount);
+        User user = candidates.stream()
+                .filter(candidate -> candidate.getUsername().equals(inputAccount))
+                .findFirst()
+                .orElseGet(() -> candidates.stream()
+                        .findFirst()
                         .orElseThrow(
                                 () -> new BusinessException(ErrorCode.USER_NOT_FOUND)
                         )
@@ -88,24 +114,49 @@ public class UserService {
         String storedPassword = user.getPassword();
 
         // 평문을 다시 해시화해서 암호화한후 비교
-        if (!passwordEncoder.matches(inputPassword, storedPassword)) {
-            throw new BusinessException(ErrorCode.INVALID_PASSWORD);
-        }
-
-        // 로그인 성공시 해야할 로직
-        String token = jwtProvider.generateToken(user.getUsername());
-        log.info("사용자 로그인: {}", user.getUsername());
-
-        // 발급 후? -> 클라이언트에게 전송
-        return AuthResponse.of(token, UserResponse.from(user));
+        return passwordHashService.matches(inputPassword, storedPassword)
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new BusinessException(ErrorCode.INVALID_PASSWORD);
+                    }
+
+                    // 로그인 성공시 해야할 로직
+                    String token = jwtProvider.generateToken(user.getId(), user.getUsername());
+                    log.info("사용자 로그인: {}", user.getUsername());
+
+                    // 발급 후? -> 클라이언트에게 전송
+                    return AuthResponse.of(token, UserResponse.from(user));
+                });
     }
 
 
+    /**
+     * 사용자명 중복 확인 - 필터가 없다고 답하면 DB 조회 없이 사용 가능
+     */
+    @Transactional(readOnly = true)
     public boolean checkDuplicateUsername(String username) {
-        return userRepository.existsByUsername(username);
+        if (!accountExistenceFilter.mightContainUsername(username)) {
+            return false;
+        }
+        return confirmExists(userRepository.existsByUsername(username));
     }
 
+    /**
+     * 이메일 중복 확인 - 필터가 없다고 답하면 DB 조회 없이 사용 가능
+     */
+    @Transactional(readOnly = true)
     public boolean checkDuplicateEmail(String email) {
-        return userRepository.existsByUsername(email);
+        if (!accountExistenceFilter.mightContainEmail(email)) {
+            return false;
+        }
+        return confirmExists(userRepository.existsByEmail(email));
+    }
+
+    // 필터가 있을 수도 있다고 했는데 DB에 없으면 거짓 양성으로 기록
+    private boolean confirmExists(boolean exists) {
+        if (!exists && accountExistenceFilter.isReady()) {
+            accountExistenceFilter.recordFalsePositive();
+        }
+        return exists;
     }
 }
@@ -0,0 +1,71 @@
+package com.spring.toyproject.stats;
+
+import com.spring.toyproject.domain.entity.TravelLog;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 여행일지 집계 증감분
+ * 여러 여행일지의 변경을 더해서 집계 행에 한 번에 반영한다.
+ * 정합성 복구 시에는 원본 데이터로 다시 계산한 합계를 담는 용도로도 사용 (addedLogDate = 최근 날짜)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TravelLogStatsDelta {
+
+    public static final TravelLogStatsDelta EMPTY = new TravelLogStatsDelta(0, 0, 0, 0, null, null);
+
+    private final long count;
+    private final long ratingSum;
+    private final long ratingCount;
+    private final long expenseSum;
+    // 추가된 여행일지 중 가장 최근 날짜
+    private final LocalDate addedLogDate;
+    // 빠진 여행일지 중 가장 최근 날짜 (집계의 최근 날짜와 같으면 다시 계산)
+    private final LocalDate removedLogDate;
+
+    public static TravelLogStatsDelta added(TravelLog travelLog) {
+        return new TravelLogStatsDelta(1,
+                travelLog.getRating() == null ? 0 : travelLog.getRating(),
+                travelLog.getRating() == null ? 0 : 1,
+                travelLog.getExpenses() == null ? 0 : travelLog.getExpenses(),
+                travelLog.getLogDate(), null);
+    }
+
+    public static TravelLogStatsDelta removed(TravelLog travelLog) {
+        return new TravelLogStatsDelta(-1,
+                travelLog.getRating() == null ? 0 : -travelLog.getRating(),
+                travelLog.getRating() == null ? 0 : -1,
+                travelLog.getExpenses() == null ? 0 : -travelLog.getExpenses(),
+                null, travelLog.getLogDate());
+    }
+
+    public static TravelLogStatsDelta totals(long count, long ratingSum, long ratingCount, long expenseSum,
+                                             LocalDate lastLogDate) {
+        return new TravelLogStatsDelta(count, ratingSum, ratingCount, expenseSum, lastLogDate, null);
+    }
+
+    public TravelLogStatsDelta plus(TravelLogStatsDelta other) {
+        return new TravelLogStatsDelta(
+                count + other.count,
+                ratingSum + other.ratingSum,
+                ratingCount + other.ratingCount,
+                expenseSum + other.expenseSum,
+                later(addedLogDate, other.addedLogDate),
+                later(removedLogDate, other.removedLogDate));
+    }
+
+    public boolean isEmpty() {
+        return count == 0 && ratingSum == 0 && ratingCount == 0 && expenseSum == 0
+                && addedLogDate == null && removedLogDate == null;
+    }
+
+    private static LocalDate later(LocalDate a, LocalDate b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
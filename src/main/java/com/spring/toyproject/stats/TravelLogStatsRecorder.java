@@ -0,0 +1,121 @@
+package com.spring.toyproject.stats;
+
+import com.spring.toyproject.domain.entity.TripTravelStats;
+import com.spring.toyproject.domain.entity.UserTravelStats;
+import com.spring.toyproject.repository.base.TravelLogRepository;
+import com.spring.toyproject.repository.base.TripTravelStatsRepository;
+import com.spring.toyproject.repository.base.UserTravelStatsRepository;
+import com.spring.toyproject.repository.custom.TravelLogStatsRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 여행일지 집계 테이블 갱신
+ * 여행일지를 변경한 트랜잭션 안에서 증감분을 반영하므로 집계와 원본이 함께 커밋/롤백된다.
+ *
+ * 집계 행은 행 잠금 후 갱신하고, 잠금은 항상 여행 집계 -> 사용자 집계 순서로 잡는다.
+ * 집계 행이 아직 없으면(기존 데이터) 원본을 다시 집계해서 만든다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TravelLogStatsRecorder {
+
+    private final TripTravelStatsRepository tripTravelStatsRepository;
+    private final UserTravelStatsRepository userTravelStatsRepository;
+    private final TravelLogRepository travelLogRepository;
+
+    // 회원가입 시 빈 집계 행 생성
+    public void userCreated(Long userId) {
+        userTravelStatsRepository.save(new UserTravelStats(userId));
+    }
+
+    // 여행 생성 시 빈 여행 집계 행 생성 + 사용자 여행 수 증가
+    public void tripCreated(Long tripId, Long userId) {
+        tripTravelStatsRepository.save(new TripTravelStats(tripId, userId));
+
+        UserTravelStats userStats = userTravelStatsRepository.findWithLockByUserId(userId).orElse(null);
+        if (userStats == null) {
+            // 다시 집계한 값에 방금 만든 여행이 이미 포함됨
+            rebuildUser(userId);
+            return;
+        }
+        userStats.addTrip();
+    }
+
+    /**
+     * 여행일지 변경분 반영
+     * @param delta 생성이면 added, 삭제면 removed, 수정이면 removed(수정 전) + added(수정 후)
+     */
+    public void record(Long tripId, Long userId, TravelLogStatsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        TripTravelStats tripStats = tripTravelStatsRepository.findWithLockByTripId(tripId).orElse(null);
+        if (tripStats == null) {
+            rebuildTrip(tripId, userId);
+        } else {
+            tripStats.apply(delta);
+            if (tripStats.needsLastLogDateRecount(delta)) {
+                tripStats.updateLastLogDate(travelLogRepository.findLastLogDateByTripId(tripId));
+            }
+        }
+
+        UserTravelStats userStats = userTravelStatsRepository.findWithLockByUserId(userId).orElse(null);
+        if (userStats == null) {
+            rebuildUser(userId);
+            return;
+        }
+        userStats.apply(delta);
+        if (userStats.needsLastLogDateRecount(delta)) {
+            userStats.updateLastLogDate(tripTravelStatsRepository.findLastLogDateByUserId(userId));
+        }
+    }
+
+    /**
+     * 여행 집계를 travel_logs에서 다시 계산
+     * 호출 전에 반영할 변경은 모두 flush되어 있어야 한다. (집계 쿼리 실행 시 자동 flush)
+     * @return 값이 달라졌으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public boolean rebuildTrip(Long tripId, Long userId) {
+        TripTravelStats tripStats = tripTravelStatsRepository.findWithLockByTripId(tripId)
+                .orElseGet(() -> tripTravelStatsRepository.save(new TripTravelStats(tripId, userId)));
+
+        List<TravelLogStatsRow> rows = travelLogRepository.aggregateStatsByTripIds(List.of(tripId));
+        TravelLogStatsDelta totals = rows.isEmpty() ? TravelLogStatsDelta.EMPTY : rows.get(0).toTotals();
+        if (tripStats.matches(totals)) {
+            return false;
+        }
+        tripStats.reset(totals);
+        return true;
+    }
+
+    /**
+     * 사용자 집계를 여행 집계의 합으로 다시 계산
+     * @return 값이 달라졌으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public boolean rebuildUser(Long userId) {
+        UserTravelStats userStats = userTravelStatsRepository.findWithLockByUserId(userId)
+                .orElseGet(() -> userTravelStatsRepository.save(new UserTravelStats(userId)));
+
+        List<TravelLogStatsRow> rows = tripTravelStatsRepository.sumByUserIds(List.of(userId));
+        TravelLogStatsRow sum = rows.isEmpty()
+                ? new TravelLogStatsRow(userId, 0L, 0L, 0L, 0L, 0L, null)
+                : rows.get(0);
+        if (userStats.matches(sum.toTotals()) && userStats.getTripCount() == sum.getTripCount()) {
+            return false;
+        }
+        userStats.reset(sum.toTotals());
+        userStats.resetTripCount(sum.getTripCount());
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+package com.spring.toyproject.stats;
+
+import com.spring.toyproject.domain.entity.TravelLogStats;
+import com.spring.toyproject.domain.entity.TripTravelStats;
+import com.spring.toyproject.domain.entity.UserTravelStats;
+import com.spring.toyproject.repository.base.TravelLogRepository;
+import com.spring.toyproject.repository.base.TripRepository;
+import com.spring.toyproject.repository.base.TripTravelStatsRepository;
+import com.spring.toyproject.repository.base.UserRepository;
+import com.spring.toyproject.repository.base.UserTravelStatsRepository;
+import com.spring.toyproject.repository.custom.TravelLogStatsRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여행일지 집계 정합성 복구
+ *
+ * 여행 ID 순으로 배치를 나눠 travel_logs를 다시 집계한 값과 여행 집계 행을 비교하고,
+ * 이어서 사용자별로 여행 집계의 합과 사용자 집계 행을 비교한다.
+ * 다른 행만 잠금 후 다시 계산해서 덮어쓴다. (없는 행은 새로 만듦 -> 기존 데이터 초기 적재 겸용)
+ */
+@Component
+@Slf4j
+public class TravelLogStatsRepairJob {
+
+    private static final int REPAIR_BATCH_SIZE = 500;
+
+    private final TripRepository tripRepository;
+    private final UserRepository userRepository;
+    private final TravelLogRepository travelLogRepository;
+    private final TripTravelStatsRepository tripTravelStatsRepository;
+    private final UserTravelStatsRepository userTravelStatsRepository;
+    private final TravelLogStatsRecorder statsRecorder;
+
+    private final Counter tripRepairedCounter;
+    private final Counter userRepairedCounter;
+
+    public TravelLogStatsRepairJob(TripRepository tripRepository,
+                                   UserRepository userRepository,
+                                   TravelLogRepository travelLogRepository,
+                                   TripTravelStatsRepository tripTravelStatsRepository,
+                                   UserTravelStatsRepository userTravelStatsRepository,
+                                   TravelLogStatsRecorder statsRecorder,
+                                   MeterRegistry meterRegistry) {
+        this.tripRepository = tripRepository;
+        this.userRepository = userRepository;
+        this.travelLogRepository = travelLogRepository;
+        this.tripTravelStatsRepository = tripTravelStatsRepository;
+        this.userTravelStatsRepository = userTravelStatsRepository;
+        this.statsRecorder = statsRecorder;
+        this.tripRepairedCounter = meterRegistry.counter("travel-log.stats.repaired", "scope", "trip");
+        this.userRepairedCounter = meterRegistry.counter("travel-log.stats.repaired", "scope", "user");
+    }
+
+    @Scheduled(fixedDelayString = "${travel-log.stats.repair-interval:6h}",
+            initialDelayString = "${travel-log.stats.repair-initial-delay:1m}")
+    public void repair() {
+        long start = System.currentTimeMillis();
+        int trips = repairTrips();
+        int users = repairUsers();
+
+        if (trips > 0 || users > 0) {
+            log.warn("여행일지 집계 불일치 복구 - 여행: {}개, 사용자: {}명", trips, users);
+        }
+        log.info("여행일지 집계 점검 완료 - 소요시간: {}ms", System.currentTimeMillis() - start);
+    }
+
+    private int repairTrips() {
+        int repaired = 0;
+        long afterId = 0L;
+        List<Long> tripIds;
+        while (!(tripIds = tripRepository.findIdsAfter(afterId, Limit.of(REPAIR_BATCH_SIZE))).isEmpty()) {
+            Map<Long, TravelLogStatsRow> expected = travelLogRepository.aggregateStatsByTripIds(tripIds).stream()
+                    .collect(Collectors.toMap(TravelLogStatsRow::getId, Function.identity()));
+            Map<Long, TripTravelStats> actual = tripTravelStatsRepository.findByTripIdIn(tripIds).stream()
+                    .collect(Collectors.toMap(TripTravelStats::getTripId, Function.identity()));
+
+            for (Long tripId : tripIds) {
+                if (matches(actual.get(tripId), expected.get(tripId))) {
+                    continue;
+                }
+                // 비교 이후 변경되었을 수 있으므로 잠금 후 다시 계산
+                Long userId = actual.containsKey(tripId)
+                        ? actual.get(tripId).getUserId()
+                        : tripRepository.findById(tripId).map(trip -> trip.getUser().getId()).orElse(null);
+                if (userId != null && statsRecorder.rebuildTrip(tripId, userId)) {
+                    repaired++;
+                }
+            }
+            afterId = tripIds.get(tripIds.size() - 1);
+        }
+        tripRepairedCounter.increment(repaired);
+        return repaired;
+    }
+
+    private int repairUsers() {
+        int repaired = 0;
+        long afterId = 0L;
+        List<Long> userIds;
+        while (!(userIds = userRepository.findIdsAfter(afterId, Limit.of(REPAIR_BATCH_SIZE))).isEmpty()) {
+            Map<Long, TravelLogStatsRow> expected = tripTravelStatsRepository.sumByUserIds(userIds).stream()
+                    .collect(Collectors.toMap(TravelLogStatsRow::getId, Function.identity()));
+            Map<Long, UserTravelStats> actual = userTravelStatsRepository.findByUserIdIn(userIds).stream()
+                    .collect(Collectors.toMap(UserTravelStats::getUserId, Function.identity()));
+
+            for (Long userId : userIds) {
+                UserTravelStats stats = actual.get(userId);
+                TravelLogStatsRow row = expected.get(userId);
+                long tripCount = row == null ? 0 : row.getTripCount();
+                if (matches(stats, row) && stats.getTripCount() == tripCount) {
+                    continue;
+                }
+                if (statsRecorder.rebuildUser(userId)) {
+                    repaired++;
+                }
+            }
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        userRepairedCounter.increment(repaired);
+        return repaired;
+    }
+
+    // 집계 행이 없으면 불일치, 원본 행이 없으면 0과 비교
+    private boolean matches(TravelLogStats stats, TravelLogStatsRow row) {
+        if (stats == null) {
+            return false;
+        }
+        return stats.matches(row == null ? TravelLogStatsDelta.EMPTY : row.toTotals());
+    }
+}
@@ -0,0 +1,76 @@
+package com.spring.toyproject.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 받은 바이트 구간 목록 (겹치거나 붙은 구간은 합쳐서 정렬 유지)
+ * 문자열 표현: "0-1048575,2097152-3145727" (끝 포함, HTTP Range와 같은 방식)
+ */
+public class ByteRanges {
+
+    // [start, end] 끝 포함
+    private final List<long[]> ranges = new ArrayList<>();
+
+    public static ByteRanges parse(String value) {
+        ByteRanges result = new ByteRanges();
+        if (value == null || value.isBlank()) {
+            return result;
+        }
+        for (String range : value.split(",")) {
+            int dash = range.indexOf('-');
+            result.add(Long.parseLong(range.substring(0, dash)), Long.parseLong(range.substring(dash + 1)));
+        }
+        return result;
+    }
+
+    /**
+     * 구간 추가 (끝 포함)
+     */
+    public void add(long start, long end) {
+        long newStart = start;
+        long newEnd = end;
+        List<long[]> merged = new ArrayList<>();
+        int insertAt = 0;
+        for (long[] range : ranges) {
+            if (range[1] + 1 < newStart) {
+                // 새 구간보다 앞에 있고 떨어져 있음
+                merged.add(range);
+                insertAt++;
+            } else if (newEnd + 1 < range[0]) {
+                // 새 구간보다 뒤에 있고 떨어져 있음
+                merged.add(range);
+            } else {
+                // 겹치거나 붙어 있음 -> 합침
+                newStart = Math.min(newStart, range[0]);
+                newEnd = Math.max(newEnd, range[1]);
+            }
+        }
+        merged.add(insertAt, new long[]{newStart, newEnd});
+        ranges.clear();
+        ranges.addAll(merged);
+    }
+
+    // 받은 총 바이트 수
+    public long totalBytes() {
+        return ranges.stream().mapToLong(range -> range[1] - range[0] + 1).sum();
+    }
+
+    // 0부터 size-1까지 빠짐없이 받았는지
+    public boolean covers(long size) {
+        return ranges.size() == 1 && ranges.get(0)[0] == 0 && ranges.get(0)[1] == size - 1;
+    }
+
+    public List<long[]> toList() {
+        return Collections.unmodifiableList(ranges);
+    }
+
+    @Override
+    public String toString() {
+        return ranges.stream()
+                .map(range -> range[0] + "-" + range[1])
+                .collect(Collectors.joining(","));
+    }
+}
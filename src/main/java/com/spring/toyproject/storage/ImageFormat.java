@@ -0,0 +1,56 @@
+package com.spring.toyproject.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 업로드 허용 이미지 형식
+ * 클라이언트가 보낸 Content-Type/확장자 대신 파일 앞부분의 시그니처(매직 바이트)로 판별한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageFormat {
+
+    JPEG(".jpg"),
+    PNG(".png"),
+    GIF(".gif"),
+    WEBP(".webp");
+
+    // 판별에 필요한 파일 앞부분 길이
+    public static final int HEADER_LENGTH = 12;
+
+    // 저장 시 사용할 확장자
+    private final String ext;
+
+    public static Optional<ImageFormat> detect(byte[] header, int length) {
+        if (startsWith(header, length, 0xFF, 0xD8, 0xFF)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(header, length, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(header, length, 'G', 'I', 'F', '8')) {
+            return Optional.of(GIF);
+        }
+        // RIFF????WEBP
+        if (startsWith(header, length, 'R', 'I', 'F', 'F') && length >= 12
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, int length, int... signature) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,370 @@
+package com.spring.toyproject.storage;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import com.spring.toyproject.repository.base.PhotoBlobRepository;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
+import com.spring.toyproject.repository.base.UploadSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 폴더의 고아 파일 정리
+ *
+ * DB(travel_photos, photo_blobs, upload_sessions)에서 참조하지 않는 파일을 찾아 격리 폴더로 옮기거나 삭제한다.
+ * 한 번에 batch-size개 파일만 이름 순으로 확인하고 마지막 위치를 체크포인트 파일에 남겨,
+ * 다음 실행(재시작 포함)은 그 다음 파일부터 이어서 확인한다. 끝까지 확인하면 처음부터 다시 시작.
+ *
+ * - 원본: 파일명이 travel_photos.stored_filename(또는 blobs 아래는 photo_blobs 해시)에 없으면 고아
+ * - 리사이즈 이미지({base}_wN.jpg): 같은 폴더의 원본이 없거나 고아이면 고아
+ * - .staging: 이어받기 파트 파일은 세션이 없으면, 나머지 임시 파일은 무조건 고아
+ * 수정 시각이 유예시간 이내인 파일은 저장 중일 수 있으므로 건너뛴다.
+ */
+@Component
+@Slf4j
+public class OrphanFileReconciler {
+
+    public enum Action {
+        QUARANTINE, DELETE
+    }
+
+    // 격리 폴더 (숨김 폴더이므로 /uploads/** 로 제공되지 않음)
+    public static final String QUARANTINE_DIRECTORY = ".quarantine";
+    private static final String CHECKPOINT_FILE = ".reconcile-checkpoint";
+    private static final String CHECKPOINT_TEMP_FILE = CHECKPOINT_FILE + ".tmp";
+
+    private static final String PART_DIRECTORY = "uploads";
+    private static final String PART_SUFFIX = ".part";
+    private static final Pattern VARIANT_NAME = Pattern.compile("(.+)_w\\d+\\.jpg");
+
+    // IN 절 하나에 넣을 최대 파일명 수
+    private static final int QUERY_BATCH_SIZE = 500;
+
+    private final TravelPhotoRepository travelPhotoRepository;
+    private final PhotoBlobRepository photoBlobRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final Path root;
+    private final int batchSize;
+    private final Duration gracePeriod;
+    private final Action action;
+    private final boolean dryRun;
+
+    private final Counter scannedCounter;
+    private final Counter orphanCounter;
+    private final Counter passCounter;
+    // 현재 회차에서 확인한 파일 수 (진행률)
+    private final AtomicLong passScanned = new AtomicLong();
+
+    public OrphanFileReconciler(TravelPhotoRepository travelPhotoRepository,
+                                PhotoBlobRepository photoBlobRepository,
+                                UploadSessionRepository uploadSessionRepository,
+                                FileUploadConfig fileUploadConfig,
+                                @Value("${file.upload.reconciler.batch-size:1000}") int batchSize,
+                                @Value("${file.upload.reconciler.grace-period:24h}") Duration gracePeriod,
+                                @Value("${file.upload.reconciler.action:quarantine}") Action action,
+                                @Value("${file.upload.reconciler.dry-run:false}") boolean dryRun,
+                                MeterRegistry meterRegistry) {
+        this.travelPhotoRepository = travelPhotoRepository;
+        this.photoBlobRepository = photoBlobRepository;
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.root = Paths.get(fileUploadConfig.getLocation()).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.gracePeriod = gracePeriod;
+        this.action = action;
+        this.dryRun = dryRun;
+
+        this.scannedCounter = meterRegistry.counter("upload.reconciler.scanned");
+        this.orphanCounter = meterRegistry.counter("upload.reconciler.orphans",
+                "action", dryRun ? "dry-run" : action.name().toLowerCase());
+        this.passCounter = meterRegistry.counter("upload.reconciler.passes");
+        Gauge.builder("upload.reconciler.pass.scanned", passScanned, AtomicLong::get)
+                .description("현재 회차에서 확인한 파일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 체크포인트 다음 파일부터 batch-size개를 확인하고 고아 파일을 처리
+     * @return 이번 실행에서 찾은 고아 파일 (업로드 폴더 기준 상대 경로)
+     */
+    @Scheduled(fixedDelayString = "${file.upload.reconciler.interval:30m}",
+            initialDelayString = "${file.upload.reconciler.interval:30m}")
+    public synchronized List<Path> reconcile() {
+        if (!Files.isDirectory(root)) {
+            return Collections.emptyList();
+        }
+
+        Path checkpoint = readCheckpoint();
+        List<Path> files = new ArrayList<>();
+        collect(root, checkpoint, files);
+
+        // 끝까지 확인함 -> 다음 실행은 처음부터
+        if (files.isEmpty()) {
+            if (checkpoint != null) {
+                log.info("업로드 폴더 정리 1회차 완료 - 확인한 파일 {}개", passScanned.get());
+                passCounter.increment();
+                passScanned.set(0);
+                writeCheckpoint(null);
+            }
+            return Collections.emptyList();
+        }
+
+        List<Path> orphans = findOrphans(files);
+        for (Path orphan : orphans) {
+            handle(orphan);
+        }
+
+        scannedCounter.increment(files.size());
+        passScanned.addAndGet(files.size());
+        orphanCounter.increment(orphans.size());
+        writeCheckpoint(files.get(files.size() - 1));
+
+        if (!orphans.isEmpty()) {
+            log.info("업로드 폴더 고아 파일 {}개 {} (확인 {}개)", orphans.size(),
+                    dryRun ? "발견 (dry-run)" : action == Action.DELETE ? "삭제" : "격리", files.size());
+        }
+        return orphans;
+    }
+
+    /**
+     * 체크포인트 이후의 파일을 이름 순(경로 구성요소 단위)으로 batch-size개까지 수집
+     * 체크포인트보다 앞선 폴더는 통째로 건너뜀
+     */
+    private void collect(Path dir, Path checkpoint, List<Path> files) {
+        List<Path> children = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            stream.forEach(children::add);
+        } catch (IOException e) {
+            log.warn("업로드 폴더 읽기 실패: {}, 원인: {}", dir, e.getMessage());
+            return;
+        }
+        children.sort(Comparator.comparing(child -> child.getFileName().toString()));
+
+        for (Path child : children) {
+            if (files.size() >= batchSize) {
+                return;
+            }
+            Path relative = root.relativize(child);
+            if (isReserved(relative)) {
+                continue;
+            }
+
+            if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                if (checkpoint == null || checkpoint.startsWith(relative) || compare(relative, checkpoint) > 0) {
+                    collect(child, checkpoint, files);
+                }
+            } else if (Files.isRegularFile(child, LinkOption.NOFOLLOW_LINKS)
+                    && (checkpoint == null || compare(relative, checkpoint) > 0)) {
+                files.add(relative);
+            }
+        }
+    }
+
+    private List<Path> findOrphans(List<Path> files) {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+
+        List<Path> originals = new ArrayList<>();
+        List<Path> variants = new ArrayList<>();
+        List<Path> parts = new ArrayList<>();
+        List<Path> orphans = new ArrayList<>();
+
+        for (Path file : files) {
+            if (!isOlderThan(file, cutoff)) {
+                continue;
+            }
+            String name = file.getFileName().toString();
+            if (file.startsWith(PhotoStorage.STAGING_DIRECTORY)) {
+                boolean part = file.getNameCount() == 3 && file.getName(1).toString().equals(PART_DIRECTORY)
+                        && name.endsWith(PART_SUFFIX);
+                if (part) {
+                    parts.add(file);
+                } else {
+                    // 저장/스풀 도중 남겨진 임시 파일
+                    orphans.add(file);
+                }
+            } else if (VARIANT_NAME.matcher(name).matches()) {
+                variants.add(file);
+            } else {
+                originals.add(file);
+            }
+        }
+
+        // 원본: 저장 파일명 -> blobs 아래는 해시까지 확인
+        Set<String> storedFilenames = findExisting(originals, this::fileName,
+                travelPhotoRepository::findExistingStoredFilenames);
+        List<Path> unreferenced = originals.stream()
+                .filter(file -> !storedFilenames.contains(fileName(file)))
+                .toList();
+        Set<String> hashes = findExisting(
+                unreferenced.stream().filter(file -> file.startsWith(PhotoStorage.BLOB_DIRECTORY)).toList(),
+                this::baseName, photoBlobRepository::findExistingHashes);
+        Set<Path> orphanOriginals = new HashSet<>();
+        for (Path file : unreferenced) {
+            if (!(file.startsWith(PhotoStorage.BLOB_DIRECTORY) && hashes.contains(baseName(file)))) {
+                orphanOriginals.add(file);
+                orphans.add(file);
+            }
+        }
+
+        // 리사이즈 이미지: 같은 폴더의 원본 기준
+        for (Path variant : variants) {
+            Matcher matcher = VARIANT_NAME.matcher(fileName(variant));
+            matcher.matches();
+            if (!hasLiveOriginal(variant, matcher.group(1), orphanOriginals)) {
+                orphans.add(variant);
+            }
+        }
+
+        // 이어받기 파트 파일: 세션 ID 기준
+        Set<String> sessionIds = findExisting(parts,
+                file -> fileName(file).substring(0, fileName(file).length() - PART_SUFFIX.length()),
+                uploadSessionRepository::findExistingIds);
+        for (Path part : parts) {
+            String uploadId = fileName(part).substring(0, fileName(part).length() - PART_SUFFIX.length());
+            if (!sessionIds.contains(uploadId)) {
+                orphans.add(part);
+            }
+        }
+
+        orphans.sort(OrphanFileReconciler::compare);
+        return orphans;
+    }
+
+    private boolean hasLiveOriginal(Path variant, String base, Set<Path> orphanOriginals) {
+        Path dir = root.resolve(variant).getParent();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path sibling : stream) {
+                String name = sibling.getFileName().toString();
+                int dot = name.lastIndexOf('.');
+                if (dot > 0 && name.substring(0, dot).equals(base)
+                        && !VARIANT_NAME.matcher(name).matches()
+                        && !orphanOriginals.contains(root.relativize(sibling))) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            // 판단할 수 없으면 보존
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 파일 목록에서 뽑은 키를 QUERY_BATCH_SIZE개씩 IN 조회해서 DB에 존재하는 키만 반환
+     */
+    private Set<String> findExisting(List<Path> files,
+                                     Function<Path, String> key,
+                                     Function<Collection<String>, List<String>> query) {
+        Set<String> existing = new HashSet<>();
+        List<String> keys = files.stream().map(key).distinct().toList();
+        for (int from = 0; from < keys.size(); from += QUERY_BATCH_SIZE) {
+            existing.addAll(query.apply(keys.subList(from, Math.min(from + QUERY_BATCH_SIZE, keys.size()))));
+        }
+        return existing;
+    }
+
+    private void handle(Path orphan) {
+        if (dryRun) {
+            log.info("고아 파일 (dry-run): {}", orphan);
+            return;
+        }
+        Path source = root.resolve(orphan);
+        try {
+            if (action == Action.DELETE) {
+                Files.deleteIfExists(source);
+            } else {
+                Path target = root.resolve(QUARANTINE_DIRECTORY).resolve(orphan);
+                Files.createDirectories(target.getParent());
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("고아 파일 처리 실패: {}, 원인: {}", orphan, e.getMessage());
+        }
+    }
+
+    private boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(root.resolve(file)).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            // 확인 도중 사라진 파일
+            return false;
+        }
+    }
+
+    // 정리 대상이 아닌 최상위 항목 (격리 폴더, 체크포인트 파일)
+    private boolean isReserved(Path relative) {
+        if (relative.getNameCount() != 1) {
+            return false;
+        }
+        String name = relative.toString();
+        return name.equals(QUARANTINE_DIRECTORY) || name.equals(CHECKPOINT_FILE) || name.equals(CHECKPOINT_TEMP_FILE);
+    }
+
+    private Path readCheckpoint() {
+        Path file = root.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            String value = Files.readString(file, StandardCharsets.UTF_8).trim();
+            Path checkpoint = value.isEmpty() ? null : Paths.get(value).normalize();
+            // 업로드 폴더 밖을 가리키는 값은 무시
+            return checkpoint == null || checkpoint.isAbsolute() || checkpoint.startsWith("..") ? null : checkpoint;
+        } catch (IOException | InvalidPathException e) {
+            log.warn("업로드 폴더 정리 체크포인트 읽기 실패, 처음부터 확인: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCheckpoint(Path checkpoint) {
+        Path file = root.resolve(CHECKPOINT_FILE);
+        try {
+            if (checkpoint == null) {
+                Files.deleteIfExists(file);
+                return;
+            }
+            Path temp = root.resolve(CHECKPOINT_TEMP_FILE);
+            Files.writeString(temp, checkpoint.toString(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String fileName(Path file) {
+        return file.getFileName().toString();
+    }
+
+    private String baseName(Path file) {
+        String name = fileName(file);
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    // 경로 구성요소 단위 비교 (폴더를 이름 순으로 순회한 순서와 일치)
+    private static int compare(Path a, Path b) {
+        int count = Math.min(a.getNameCount(), b.getNameCount());
+        for (int i = 0; i < count; i++) {
+            int result = a.getName(i).toString().compareTo(b.getName(i).toString());
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(a.getNameCount(), b.getNameCount());
+    }
+}
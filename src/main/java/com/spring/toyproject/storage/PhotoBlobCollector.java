@@ -0,0 +1,153 @@
+package com.spring.toyproject.storage;
+
+import com.spring.toyproject.domain.entity.PhotoBlob;
+import com.spring.toyproject.repository.base.PhotoBlobRepository;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
+import com.spring.toyproject.repository.custom.PhotoBlobRefCountRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내용 주소 저장소 GC
+ *
+ * - 수거: 유예시간이 지나도록 참조가 없는 파일을 행 잠금 후 다시 확인하고 삭제
+ *   (잠금 중에는 같은 내용의 업로드가 대기하므로 삭제 도중 다시 참조되는 일이 없다)
+ * - 점검: 참조 수는 사진 등록/삭제 트랜잭션에서 바로 바뀌므로, 해시 순 배치로 travel_photos와 비교해서
+ *   어긋난 행만 잠금 후 다시 세어 보정한다. (테이블 전체를 한 번에 잠그지 않음)
+ */
+@Component
+@Slf4j
+public class PhotoBlobCollector {
+
+    // 한 번에 삭제할 최대 파일 수
+    private static final int COLLECT_BATCH_SIZE = 100;
+
+    // 참조 수 점검 시 한 번에 비교할 파일 수
+    private static final int REPAIR_BATCH_SIZE = 500;
+
+    private final PhotoBlobRepository photoBlobRepository;
+    private final TravelPhotoRepository travelPhotoRepository;
+    private final PhotoStorage photoStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+
+    private final Counter collectedCounter;
+    private final Counter repairedCounter;
+
+    public PhotoBlobCollector(PhotoBlobRepository photoBlobRepository,
+                              TravelPhotoRepository travelPhotoRepository,
+                              PhotoStorage photoStorage,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${file.upload.blob.gc-grace-period:24h}") Duration gracePeriod,
+                              MeterRegistry meterRegistry) {
+        this.photoBlobRepository = photoBlobRepository;
+        this.travelPhotoRepository = travelPhotoRepository;
+        this.photoStorage = photoStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriod = gracePeriod;
+        this.collectedCounter = meterRegistry.counter("photo.blob.collected");
+        this.repairedCounter = meterRegistry.counter("photo.blob.ref-count.repaired");
+    }
+
+    @Scheduled(fixedDelayString = "${file.upload.blob.gc-interval:1h}",
+            initialDelayString = "${file.upload.blob.gc-interval:1h}")
+    public void collect() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> hashes = photoBlobRepository.findCollectableHashes(now.minus(gracePeriod), Limit.of(COLLECT_BATCH_SIZE));
+        int collected = 0;
+        for (String hash : hashes) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> collectOne(hash, now)))) {
+                    collected++;
+                }
+            } catch (RuntimeException e) {
+                log.error("사진 저장소 파일 삭제 실패: {}, 원인: {}", hash, e.getMessage());
+            }
+        }
+
+        if (collected > 0) {
+            collectedCounter.increment(collected);
+            log.info("미참조 사진 저장소 파일 {}개 삭제", collected);
+        }
+    }
+
+    /**
+     * 참조 수 점검 - 기록된 참조 수와 실제 사진 수가 다른 행만 보정
+     */
+    @Scheduled(fixedDelayString = "${file.upload.blob.repair-interval:6h}",
+            initialDelayString = "${file.upload.blob.repair-interval:6h}")
+    public void repairReferences() {
+        long start = System.currentTimeMillis();
+        int repaired = 0;
+        String afterHash = "";
+        List<PhotoBlobRefCountRow> rows;
+        while (!(rows = photoBlobRepository.findRefCountRowsAfter(afterHash, Limit.of(REPAIR_BATCH_SIZE))).isEmpty()) {
+            for (PhotoBlobRefCountRow row : rows) {
+                if (row.matches()) {
+                    continue;
+                }
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repairOne(row.getContentHash())))) {
+                        repaired++;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("사진 저장소 참조 수 보정 실패: {}, 원인: {}", row.getContentHash(), e.getMessage());
+                }
+            }
+            afterHash = rows.get(rows.size() - 1).getContentHash();
+        }
+
+        if (repaired > 0) {
+            repairedCounter.increment(repaired);
+            log.warn("사진 저장소 참조 수 불일치 {}건 보정", repaired);
+        }
+        log.info("사진 저장소 참조 수 점검 완료 - 소요시간: {}ms", System.currentTimeMillis() - start);
+    }
+
+    // 비교 이후 바뀌었을 수 있으므로 행을 잠근 뒤 다시 셈 (잠금을 얻은 뒤 읽으므로 진행 중이던 등록/삭제는 커밋된 뒤에 반영됨)
+    private boolean repairOne(String hash) {
+        PhotoBlob blob = photoBlobRepository.findWithLockByContentHash(hash).orElse(null);
+        if (blob == null) {
+            return false;
+        }
+        long actualCount = travelPhotoRepository.countByContentHash(hash);
+        if (blob.getRefCount() == actualCount) {
+            return false;
+        }
+        log.warn("사진 저장소 참조 수 보정 - 해시: {}, 기록: {}, 실제: {}", hash, blob.getRefCount(), actualCount);
+        blob.repairRefCount(actualCount, LocalDateTime.now());
+        return true;
+    }
+
+    private boolean collectOne(String hash, LocalDateTime now) {
+        PhotoBlob blob = photoBlobRepository.findWithLockByContentHash(hash).orElse(null);
+        // 조회 이후 다시 참조되었으면 건너뜀
+        if (blob == null || blob.getRefCount() > 0 || blob.getReleasedAt() == null
+                || blob.getReleasedAt().isAfter(now.minus(gracePeriod))) {
+            return false;
+        }
+
+        photoBlobRepository.delete(blob);
+        photoBlobRepository.flush();
+        try {
+            // 잠금을 쥔 상태에서 파일 삭제 - 커밋이 실패해도 다음 업로드가 빠진 파일을 복구함
+            photoStorage.deleteBlobFiles(blob);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,377 @@
+package com.spring.toyproject.storage;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import com.spring.toyproject.domain.entity.PhotoBlob;
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import com.spring.toyproject.repository.base.PhotoBlobRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 사진 저장소 (내용 주소 저장소)
+ *
+ * 1. stage: DB 트랜잭션 밖에서 업로드 파일들을 임시 영역(.staging)에 병렬로 저장하면서 SHA-256 계산
+ * 2. store: 트랜잭션 안에서 같은 내용의 파일(photo_blobs)이 있으면 참조 수만 올리고, 없으면 새로 등록 (한 문장의 upsert)
+ *    커밋되면 새 파일만 blobs/{해시 앞 2자리}/{다음 2자리}/{해시}.ext 로 원자적 이동, 나머지 임시 파일은 삭제
+ *
+ * 3. release: 사진을 삭제하는 트랜잭션에서 참조 수를 내림 (0이 된 파일은 유예시간 후 PhotoBlobCollector가 삭제)
+ *
+ * 같은 사진을 여러 번 올려도 디스크에는 한 번만 저장되고,
+ * 해시 앞자리로 폴더를 나눠서 한 폴더의 파일 수가 끝없이 늘지 않는다.
+ */
+@Component
+@Slf4j
+public class PhotoStorage {
+
+    // 임시 파일 폴더명 (업로드 루트 하위 - 최종 경로와 같은 파일시스템이어야 원자적 이동 가능)
+    public static final String STAGING_DIRECTORY = ".staging";
+    // 내용 주소 저장소 폴더명
+    public static final String BLOB_DIRECTORY = "blobs";
+
+    private final FileUploadConfig fileUploadConfig;
+    private final PhotoBlobRepository photoBlobRepository;
+    private final ExecutorService uploadExecutor;
+
+    public PhotoStorage(FileUploadConfig fileUploadConfig,
+                        PhotoBlobRepository photoBlobRepository,
+                        @Qualifier("photoUploadExecutor") ExecutorService uploadExecutor) {
+        this.fileUploadConfig = fileUploadConfig;
+        this.photoBlobRepository = photoBlobRepository;
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    /**
+     * 업로드 파일들을 임시 영역에 병렬 저장
+     * 빈 파일과 이미지가 아닌 파일(매직 바이트 기준)은 건너뛰고, 최대 maxCount개까지만 저장한다.
+     * 하나라도 실패하면 이미 저장된 임시 파일을 지우고 예외를 던진다.
+     */
+    public List<StagedPhoto> stage(List<MultipartFile> files, int maxCount) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<StagedPhoto>> futures = new ArrayList<>();
+        for (int i = 0; i < Math.min(files.size(), maxCount); i++) {
+            MultipartFile file = files.get(i);
+            // 텅빈 파일은 스킵 (이미지 여부는 저장하면서 파일 내용으로 판별)
+            if (file == null || file.isEmpty()) continue;
+
+            int displayOrder = i + 1;
+            futures.add(CompletableFuture.supplyAsync(() -> stageOne(file, displayOrder), uploadExecutor));
+        }
+
+        // 모든 파일의 결과를 기다린 뒤 (실패한 작업이 있어도 나머지 임시 파일을 정리하기 위해)
+        List<StagedPhoto> staged = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<StagedPhoto> future : futures) {
+            try {
+                StagedPhoto photo = future.join();
+                if (photo != null) {
+                    staged.add(photo);
+                }
+            } catch (CompletionException e) {
+                failure = e.getCause();
+            }
+        }
+
+        if (failure != null) {
+            log.error("사진 임시 저장 실패: {}", failure.getMessage());
+            discard(staged);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        return staged;
+    }
+
+    /**
+     * 임시 저장된 사진들을 현재 트랜잭션에서 내용 주소 저장소에 등록
+     * 파일 이동은 커밋 후에 일어나며, 롤백되면 임시 파일만 삭제된다.
+     *
+     * @return staged와 같은 순서의 저장소 파일 정보
+     */
+    public List<PhotoBlob> store(List<StagedPhoto> staged) {
+        if (staged.isEmpty()) {
+            return List.of();
+        }
+
+        // 커밋 후 옮길 파일 (임시 -> 최종)
+        List<StagedPhoto> newBlobs = new ArrayList<>();
+        List<Path> newBlobPaths = new ArrayList<>();
+
+        // 예외가 나도 임시 파일이 정리되도록 등록을 먼저 한다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // 다른 커밋 후 작업(리사이즈 이미지 생성 등)보다 파일 이동이 먼저 끝나야 함
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                for (int i = 0; i < newBlobs.size(); i++) {
+                    moveIntoPlace(newBlobs.get(i).getStagingPath(), newBlobPaths.get(i));
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // 커밋되었으면 중복이라 옮기지 않은 나머지 임시 파일, 롤백이면 전부
+                discard(staged);
+            }
+        });
+
+        // 여러 요청이 같은 파일들을 다룰 때 교착 상태가 생기지 않도록 해시 순으로 행을 잠근다
+        List<StagedPhoto> byHash = new ArrayList<>(staged);
+        byHash.sort(Comparator.comparing(StagedPhoto::getContentHash));
+
+        Map<String, PhotoBlob> blobsByHash = new HashMap<>();
+        for (StagedPhoto photo : byHash) {
+            String filePath = blobUrlPath(photo.getContentHash(), photo.getExt());
+            photoBlobRepository.acquire(photo.getContentHash(), filePath, photo.getSize());
+            if (blobsByHash.containsKey(photo.getContentHash())) {
+                continue;
+            }
+
+            PhotoBlob blob = photoBlobRepository.findById(photo.getContentHash())
+                    .orElseThrow(() -> new IllegalStateException("등록된 저장소 파일 없음: " + photo.getContentHash()));
+            blobsByHash.put(photo.getContentHash(), blob);
+
+            // 새 파일이거나, GC 도중 실패 등으로 파일이 사라졌다면 이번 업로드 파일로 채움
+            Path blobPath = fileUploadConfig.toStoragePath(blob.getFilePath());
+            if (!Files.exists(blobPath)) {
+                newBlobs.add(photo);
+                newBlobPaths.add(blobPath);
+            }
+        }
+
+        return staged.stream()
+                .map(photo -> blobsByHash.get(photo.getContentHash()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 삭제되는 사진들이 참조하던 저장소 파일의 참조 수를 현재 트랜잭션에서 내림
+     *
+     * @param contentHashes - 삭제되는 사진마다 하나씩 (같은 해시가 여러 번 있으면 그만큼 내림)
+     */
+    public void release(List<String> contentHashes) {
+        if (contentHashes.isEmpty()) {
+            return;
+        }
+
+        // 해시별 감소량이 같은 것끼리 묶어서 UPDATE (보통 전부 1이므로 한 번)
+        Map<String, Long> counts = contentHashes.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(hash -> hash, TreeMap::new, Collectors.counting()));
+        Map<Long, List<String>> hashesByCount = counts.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        LocalDateTime now = LocalDateTime.now();
+        hashesByCount.forEach((count, hashes) -> photoBlobRepository.release(hashes, count, now));
+    }
+
+    /**
+     * 저장소 파일과 리사이즈 이미지 삭제 (GC용)
+     */
+    public void deleteBlobFiles(PhotoBlob blob) throws IOException {
+        Path blobPath = fileUploadConfig.toStoragePath(blob.getFilePath());
+        Files.deleteIfExists(blobPath);
+
+        String variantGlob = blob.getContentHash() + "_w*.jpg";
+        if (Files.isDirectory(blobPath.getParent())) {
+            try (DirectoryStream<Path> variants = Files.newDirectoryStream(blobPath.getParent(), variantGlob)) {
+                for (Path variant : variants) {
+                    Files.deleteIfExists(variant);
+                }
+            }
+        }
+    }
+
+    /**
+     * 임시 파일 삭제
+     */
+    public void discard(List<StagedPhoto> staged) {
+        staged.forEach(photo -> {
+            try {
+                Files.deleteIfExists(photo.getStagingPath());
+            } catch (IOException e) {
+                log.warn("임시 사진 파일 삭제 실패 - 경로: {}, 원인: {}", photo.getStagingPath(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 내용 해시로 저장소 URL 경로 생성
+     * ex) /uploads/blobs/3f/a2/3fa2...c9.jpg
+     */
+    public static String blobUrlPath(String contentHash, String ext) {
+        return FileUploadConfig.URL_PREFIX + BLOB_DIRECTORY + "/"
+                + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/"
+                + contentHash + ext;
+    }
+
+    /**
+     * 업로드 파일 하나를 임시 영역으로 옮김
+     *
+     * 멀티파트 파일은 요청을 읽는 동안 이미 업로드 파일시스템의 스풀 폴더(.staging)에 디스크로 기록되어 있으므로
+     * (PhotoStorageConfig#multipartConfigElement) 한 번 읽으면서 형식 판별/크기/해시를 계산하고
+     * 복사 없이 이름만 바꿔 옮긴다.
+     *
+     * @return 이미지가 아니면 null
+     */
+    private StagedPhoto stageOne(MultipartFile file, int displayOrder) {
+        String originalFilename = Objects.requireNonNullElse(file.getOriginalFilename(), "");
+
+        Inspection inspection;
+        try (InputStream in = file.getInputStream()) {
+            inspection = inspect(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (inspection == null) {
+            log.warn("{}번째 파일은 이미지가 아니므로 건너뜀 - {} ({})", displayOrder, originalFilename, file.getContentType());
+            return null;
+        }
+
+        // 확장자는 판별된 형식 기준으로 저장 (원본 파일명의 확장자를 신뢰하지 않음)
+        Path stagingPath = newStagingPath(inspection.getFormat());
+        try {
+            // 같은 파일시스템이면 스풀 파일 이름 변경으로 끝남
+            file.transferTo(stagingPath.toFile());
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(stagingPath);
+            } catch (IOException ignored) {
+                // 정리 실패는 원래 예외를 우선
+            }
+            throw new UncheckedIOException(e);
+        }
+
+        log.debug("{}번째 사진 임시 저장 완료 - {} ({}, {} bytes)", displayOrder, stagingPath, inspection.getContentHash(), inspection.getSize());
+        return new StagedPhoto(displayOrder, originalFilename, inspection.getFormat().getExt(), stagingPath,
+                inspection.getContentHash(), inspection.getSize());
+    }
+
+    /**
+     * 이미 디스크에 모두 받은 파일(이어받기 업로드)을 임시 영역으로 복사
+     * 원본은 건드리지 않는다 -> 트랜잭션이 롤백되어 임시 파일이 지워져도 같은 파일로 다시 완료할 수 있다.
+     * 해시는 복사본에 쓰는 바이트로 계산하므로 복사 이후 원본에 청크가 다시 기록되어도 어긋나지 않는다.
+     *
+     * @return 이미지가 아니면 null
+     */
+    public StagedPhoto stageReceivedFile(Path file, String originalFilename, int displayOrder) throws IOException {
+        try (InputStream source = Files.newInputStream(file)) {
+            MessageDigest digest = newSha256();
+            InputStream in = new DigestInputStream(source, digest);
+
+            byte[] header = in.readNBytes(ImageFormat.HEADER_LENGTH);
+            ImageFormat format = ImageFormat.detect(header, header.length).orElse(null);
+            if (format == null) {
+                return null;
+            }
+
+            Path stagingPath = newStagingPath(format);
+            long size;
+            try (OutputStream out = Files.newOutputStream(stagingPath, StandardOpenOption.CREATE_NEW)) {
+                out.write(header);
+                size = header.length + in.transferTo(out);
+            } catch (IOException e) {
+                Files.deleteIfExists(stagingPath);
+                throw e;
+            }
+            return new StagedPhoto(displayOrder, originalFilename, format.getExt(), stagingPath,
+                    HexFormat.of().formatHex(digest.digest()), size);
+        }
+    }
+
+    // 파일을 한 번 읽으면서 앞부분으로 이미지 형식 판별(Content-Type은 신뢰하지 않음) + 크기/해시 계산
+    private Inspection inspect(InputStream source) throws IOException {
+        MessageDigest digest = newSha256();
+        InputStream in = new DigestInputStream(source, digest);
+
+        byte[] header = in.readNBytes(ImageFormat.HEADER_LENGTH);
+        ImageFormat format = ImageFormat.detect(header, header.length).orElse(null);
+        if (format == null) {
+            return null;
+        }
+        long size = header.length + in.transferTo(OutputStream.nullOutputStream());
+        return new Inspection(format, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    private Path newStagingPath(ImageFormat format) {
+        Path stagingDir = Paths.get(fileUploadConfig.getLocation(), STAGING_DIRECTORY);
+        try {
+            Files.createDirectories(stagingDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stagingDir.resolve(UUID.randomUUID() + format.getExt()).toAbsolutePath();
+    }
+
+    // 파일 검사 결과
+    @Getter
+    @AllArgsConstructor
+    private static class Inspection {
+        private final ImageFormat format;
+        private final String contentHash;
+        private final long size;
+    }
+
+    private void moveIntoPlace(Path stagingPath, Path blobPath) {
+        try {
+            Files.createDirectories(blobPath.getParent());
+            Files.move(stagingPath, blobPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용을 동시에 올린 다른 요청이 먼저 옮긴 경우 - 내용이 같으므로 그대로 사용
+            log.debug("이미 존재하는 저장소 파일: {}", blobPath);
+        } catch (IOException e) {
+            // 이미 커밋된 뒤라 되돌릴 수 없으므로 기록만 남김
+            log.error("사진 파일 이동 실패 - 임시: {}, 최종: {}, 원인: {}", stagingPath, blobPath, e.getMessage());
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.spring.toyproject.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 원본 사진으로부터 고정 가로폭의 JPEG 리사이즈 이미지를 생성
+ * 원본보다 큰 가로폭은 확대하지 않고 원본 크기로 저장한다.
+ * 디코딩 전에 헤더의 가로/세로만 읽어서 픽셀 수가 너무 큰 이미지는 거절한다. (작은 파일로 큰 메모리를 잡는 이미지 방지)
+ */
+@Component
+@Slf4j
+public class PhotoVariantGenerator {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    // 디코딩을 허용하는 최대 픽셀 수 (디코딩 시 픽셀당 4바이트 -> 약 200MB)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    /**
+     * 리사이즈 이미지 생성
+     *
+     * @return 생성된 가로폭 목록
+     * @throws UnsupportedImageException 이미지로 읽을 수 없는 원본
+     */
+    public List<Integer> generate(Path original, List<Integer> widths) throws IOException {
+        // 같은 내용의 사진은 저장소 파일을 공유하므로 이미 만들어진 리사이즈 이미지는 재사용
+        List<Integer> missing = new ArrayList<>();
+        for (Integer width : widths) {
+            if (!Files.exists(variantPath(original, width))) {
+                missing.add(width);
+            }
+        }
+        if (missing.isEmpty()) {
+            return new ArrayList<>(widths);
+        }
+
+        BufferedImage source = read(original);
+        for (Integer width : missing) {
+            writeJpeg(resize(source, width), variantPath(original, width));
+        }
+        return new ArrayList<>(widths);
+    }
+
+    /**
+     * 헤더에서 가로/세로를 먼저 확인한 뒤 디코딩
+     *
+     * @throws UnsupportedImageException 읽을 수 없거나 픽셀 수가 최대치를 넘는 원본
+     */
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in == null ? Collections.emptyIterator() : ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new UnsupportedImageException(original);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) {
+                    throw new UnsupportedImageException(original, "%dx%d".formatted(reader.getWidth(0), reader.getHeight(0)));
+                }
+                return reader.read(0);
+            } catch (IIOException e) {
+                throw new UnsupportedImageException(original);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Path variantPath(Path original, int width) {
+        return original.resolveSibling(PhotoVariants.variantName(original.getFileName().toString(), width));
+    }
+
+    /**
+     * 가로폭 기준 비율 유지 축소
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인 뒤 마지막에 맞춘다.
+     */
+    private BufferedImage resize(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            current = draw(current, w, h);
+        } while (w != targetWidth || h != targetHeight);
+
+        return current;
+    }
+
+    // JPEG은 투명도를 지원하지 않으므로 흰 배경의 RGB 이미지로 그림
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    // 임시 파일에 쓴 뒤 이동 -> 읽는 쪽이 반쯤 쓰인 파일을 보지 않도록
+    // 같은 내용의 사진은 동시에 생성될 수 있으므로 임시 파일은 작성자마다 고유한 이름을 사용
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * ImageIO가 읽을 수 없는 원본 (손상되었거나 지원하지 않는 형식)
+     */
+    public static class UnsupportedImageException extends IOException {
+        public UnsupportedImageException(Path original) {
+            super("이미지로 읽을 수 없는 파일: " + original);
+        }
+
+        public UnsupportedImageException(Path original, String dimensions) {
+            super("픽셀 수가 너무 큰 이미지: " + original + " (" + dimensions + ")");
+        }
+    }
+}
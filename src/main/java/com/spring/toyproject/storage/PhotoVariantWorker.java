@@ -0,0 +1,189 @@
+package com.spring.toyproject.storage;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import com.spring.toyproject.domain.entity.PhotoVariantStatus;
+import com.spring.toyproject.domain.entity.TravelPhoto;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 사진 리사이즈 이미지 생성 작업자
+ *
+ * - 사진이 저장되면(커밋 후) 크기 제한이 있는 작업 큐에 등록해 백그라운드에서 생성
+ * - 큐가 가득 차서 밀려난 작업이나 재시작 전에 끝나지 못한 작업은
+ *   DB의 대기(PENDING) 상태를 기준으로 주기적으로 다시 등록된다.
+ */
+@Component
+@Slf4j
+public class PhotoVariantWorker {
+
+    // 주기 점검 시 한 번에 조회할 대기 사진 수
+    private static final int SWEEP_BATCH_SIZE = 200;
+
+    private final TravelPhotoRepository travelPhotoRepository;
+    private final PhotoVariantGenerator generator;
+    private final FileUploadConfig fileUploadConfig;
+    private final ThreadPoolExecutor executor;
+    private final List<Integer> widths;
+    private final Duration missingOriginalTimeout;
+
+    // 큐에 등록되었거나 처리 중인 사진 ID (중복 등록 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Timer generationTimer;
+    private final Counter readyCounter;
+    private final Counter failedCounter;
+    private final Counter deferredCounter;
+
+    public PhotoVariantWorker(TravelPhotoRepository travelPhotoRepository,
+                              PhotoVariantGenerator generator,
+                              FileUploadConfig fileUploadConfig,
+                              @Qualifier("photoVariantExecutor") ThreadPoolExecutor executor,
+                              @Value("${file.upload.variant.widths:160,480,1280}") List<Integer> widths,
+                              @Value("${file.upload.variant.missing-original-timeout:10m}") Duration missingOriginalTimeout,
+                              MeterRegistry meterRegistry) {
+        this.travelPhotoRepository = travelPhotoRepository;
+        this.generator = generator;
+        this.fileUploadConfig = fileUploadConfig;
+        this.executor = executor;
+        this.widths = List.copyOf(widths);
+        this.missingOriginalTimeout = missingOriginalTimeout;
+
+        // 처리량/소요시간은 /actuator/metrics/photo.variant.generation 으로 확인
+        this.generationTimer = Timer.builder("photo.variant.generation").register(meterRegistry);
+        this.readyCounter = meterRegistry.counter("photo.variant.result", "result", "ready");
+        this.failedCounter = meterRegistry.counter("photo.variant.result", "result", "failed");
+        this.deferredCounter = meterRegistry.counter("photo.variant.result", "result", "deferred");
+        Gauge.builder("photo.variant.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    /**
+     * 사진 저장 트랜잭션이 커밋되면 생성 작업 등록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPhotosStored(TravelPhotosStoredEvent event) {
+        event.getPhotoIds().forEach(this::submit);
+    }
+
+    /**
+     * 앱 시작 시 재시작 전에 끝나지 못한 작업 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sweep();
+    }
+
+    /**
+     * 대기 상태 사진을 ID 순으로 훑어 큐에 다시 등록
+     * 큐에 여유가 없으면 다음 주기로 미룬다.
+     */
+    @Scheduled(fixedDelayString = "${file.upload.variant.sweep-interval:60s}",
+            initialDelayString = "${file.upload.variant.sweep-interval:60s}")
+    public void sweep() {
+        long afterId = 0L;
+        while (executor.getQueue().remainingCapacity() > 0) {
+            List<Long> pendingIds = travelPhotoRepository.findVariantPendingIds(afterId, Limit.of(SWEEP_BATCH_SIZE));
+            if (pendingIds.isEmpty()) {
+                return;
+            }
+            for (Long photoId : pendingIds) {
+                if (!submit(photoId)) {
+                    return;
+                }
+            }
+            afterId = pendingIds.get(pendingIds.size() - 1);
+        }
+    }
+
+    /**
+     * 생성 작업 등록 (이미 등록된 사진은 무시)
+     *
+     * @return 큐가 가득 차서 등록하지 못했으면 false
+     */
+    public boolean submit(Long photoId) {
+        if (!inFlight.add(photoId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(photoId);
+                } finally {
+                    inFlight.remove(photoId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 대기 상태로 남아 있으므로 다음 점검 때 다시 등록됨
+            inFlight.remove(photoId);
+            deferredCounter.increment();
+            return false;
+        }
+    }
+
+    private void process(Long photoId) {
+        TravelPhoto photo = travelPhotoRepository.findById(photoId).orElse(null);
+        if (photo == null || photo.getVariantStatus() == PhotoVariantStatus.READY) {
+            return;
+        }
+
+        Path original = fileUploadConfig.toStoragePath(photo.getFilePath());
+        if (!Files.exists(original)) {
+            // 커밋 직후 파일 이동 전일 수 있으므로 일정 시간 동안은 다음 점검으로 미룸
+            if (photo.getCreatedAt() != null
+                    && photo.getCreatedAt().isBefore(LocalDateTime.now().minus(missingOriginalTimeout))) {
+                log.warn("리사이즈 실패 - 원본 파일 없음: photoId={}, 경로={}", photoId, original);
+                markFailed(photoId);
+            } else {
+                deferredCounter.increment();
+            }
+            return;
+        }
+
+        try {
+            List<Integer> generated = generationTimer.recordCallable(() -> generator.generate(original, widths));
+            travelPhotoRepository.updateVariants(photoId, PhotoVariantStatus.READY, PhotoVariants.joinWidths(generated));
+            readyCounter.increment();
+            log.debug("리사이즈 이미지 생성 완료: photoId={}, 가로폭={}", photoId, generated);
+        } catch (PhotoVariantGenerator.UnsupportedImageException e) {
+            log.warn("리사이즈 실패 - {}", e.getMessage());
+            markFailed(photoId);
+        } catch (IOException e) {
+            // 일시적인 I/O 오류는 대기 상태로 두고 다음 점검 때 재시도
+            log.error("리사이즈 이미지 생성 중 오류: photoId={}, 원인={}", photoId, e.getMessage());
+            deferredCounter.increment();
+        } catch (Exception e) {
+            log.error("리사이즈 이미지 생성 중 오류: photoId={}", photoId, e);
+            markFailed(photoId);
+        }
+    }
+
+    private void markFailed(Long photoId) {
+        travelPhotoRepository.updateVariants(photoId, PhotoVariantStatus.FAILED, null);
+        failedCounter.increment();
+    }
+}
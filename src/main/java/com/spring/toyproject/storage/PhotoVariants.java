@@ -0,0 +1,62 @@
+package com.spring.toyproject.storage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사진 리사이즈 이미지의 파일명/URL 규칙
+ * 원본 옆에 {원본파일명(확장자 제외)}_w{가로폭}.jpg 로 저장된다.
+ * ex) /uploads/kuromi/uuid.png -> /uploads/kuromi/uuid_w480.jpg
+ */
+public final class PhotoVariants {
+
+    private PhotoVariants() {
+    }
+
+    /**
+     * 원본 파일명(또는 URL 경로)으로부터 리사이즈 이미지 파일명(경로) 생성
+     */
+    public static String variantName(String original, int width) {
+        int slash = original.lastIndexOf('/');
+        int dot = original.lastIndexOf('.');
+        String base = dot > slash ? original.substring(0, dot) : original;
+        return base + "_w" + width + ".jpg";
+    }
+
+    /**
+     * 가로폭 목록 문자열 파싱 ("160,480,1280" -> [160, 480, 1280])
+     */
+    public static List<Integer> parseWidths(String widths) {
+        if (widths == null || widths.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(widths.split(","))
+                .map(String::trim)
+                .filter(w -> !w.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    public static String joinWidths(List<Integer> widths) {
+        return widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 생성이 끝난 리사이즈 이미지 URL 목록 (key: 가로폭)
+     * 아직 생성되지 않았다면 빈 맵 -> 클라이언트는 원본 URL을 사용
+     */
+    public static Map<Integer, String> urls(String filePath, String variantWidths) {
+        if (filePath == null) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (Integer width : parseWidths(variantWidths)) {
+            urls.put(width, variantName(filePath, width));
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,29 @@
+package com.spring.toyproject.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 임시 영역에 저장된 업로드 사진
+ * DB 트랜잭션이 커밋되면 내용 주소 저장소로 옮겨지고(이미 같은 내용이 있으면 삭제), 롤백되면 삭제된다.
+ */
+@Getter
+@AllArgsConstructor
+public class StagedPhoto {
+
+    // 첨부 순서 (1부터)
+    private final int displayOrder;
+
+    private final String originalFilename;
+    // 파일 내용으로 판별한 이미지 형식의 확장자 (.jpg 등)
+    private final String ext;
+
+    // 임시 파일 경로
+    private final Path stagingPath;
+
+    // 저장하면서 계산한 파일 내용의 SHA-256 (16진수)
+    private final String contentHash;
+    private final long size;
+}
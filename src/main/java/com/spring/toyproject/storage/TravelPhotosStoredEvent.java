@@ -0,0 +1,17 @@
+package com.spring.toyproject.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여행 사진 메타데이터가 저장되었을 때 발행되는 이벤트
+ * 커밋 후 리사이즈 이미지 생성 작업을 예약하는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class TravelPhotosStoredEvent {
+
+    private final List<Long> photoIds;
+}
@@ -0,0 +1,98 @@
+package com.spring.toyproject.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.toyproject.exception.ErrorCode;
+import com.spring.toyproject.exception.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 멀티파트 업로드 동시 처리 수 제한 필터
+ *
+ * 요청 본문을 읽기(멀티파트 파싱) 전에 허용 수를 확보하고, 여유가 없으면 바로 429 + Retry-After로 응답한다.
+ * 업로드가 몰려도 디스크 스풀 사용량이 (동시 처리 수 x 요청 최대 크기)를 넘지 않는다.
+ */
+@Component
+@Slf4j
+public class UploadConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+
+    private final Counter rejectedCounter;
+
+    public UploadConcurrencyLimitFilter(@Value("${file.upload.max-concurrent-uploads:8}") int maxConcurrentUploads,
+                                        @Value("${file.upload.retry-after:5s}") Duration retryAfter,
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentUploads);
+        this.retryAfter = retryAfter;
+        this.objectMapper = objectMapper;
+
+        this.rejectedCounter = meterRegistry.counter("photo.upload.rejected");
+        Gauge.builder("photo.upload.active", permits, p -> maxConcurrentUploads - p.availablePermits())
+                .register(meterRegistry);
+    }
+
+    // 멀티파트 POST 요청에만 적용
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return !HttpMethod.POST.matches(request.getMethod())
+                || contentType == null
+                || !contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!permits.tryAcquire()) {
+            rejectedCounter.increment();
+            log.warn("동시 업로드 제한 초과 - 요청 거절: {}", request.getRequestURI());
+            reject(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.TOO_MANY_UPLOADS;
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .detail(errorCode.getMessage())
+                .path(request.getRequestURI())
+                .status(errorCode.getStatus())
+                .error(errorCode.getCode())
+                .build();
+
+        response.setStatus(errorCode.getStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
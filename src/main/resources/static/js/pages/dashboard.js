@@ -1,10 +1,33 @@
+import { apiService } from '../utils/api.js';
+import { UIUtils } from '../utils/common.js';
+
 const DashboardPage = () => {
 
+  // 여행 통계 로드 (집계 테이블 한 행 조회)
+  const loadStatistics = async () => {
+    try {
+      const response = await apiService.get('/api/dashboard/stats');
+      const stats = response.data;
+
+      document.getElementById('totalTrips').textContent =
+        UIUtils.formatNumber(stats.totalTrips);
+      document.getElementById('totalTravelLogs').textContent =
+        UIUtils.formatNumber(stats.totalTravelLogs);
+      document.getElementById('averageRating').textContent =
+        stats.averageRating != null ? stats.averageRating.toFixed(1) : '0.0';
+      document.getElementById('totalExpenses').textContent =
+        UIUtils.formatNumber(stats.totalExpenses);
+    } catch (error) {
+      console.error('여행 통계 로딩 실패:', error);
+    }
+  };
+
   // 초기화 함수
   const init = () => {
     console.log('대시보드 모듈이 로딩되었습니다.');
+    loadStatistics();
   };
   return { init };
 };
 
-export default DashboardPage;
\ No newline at end of file
+export default DashboardPage;
@@ -164,7 +164,7 @@ const TravelLogDetailPage = () => {
         const item = document.createElement('div');
         item.className = `carousel-item${idx === 0 ? ' active' : ''}`;
         item.innerHTML = `
-          <img src="${p.url}" class="d-block w-100" style="max-height:480px;object-fit:contain" alt="photo">
+          <img src="${p.variants?.[1280] || p.url}" class="d-block w-100" style="max-height:480px;object-fit:contain" alt="photo">
         `;
         $.$carouselInner?.appendChild(item);
       });
@@ -295,14 +295,14 @@ const TravelLogFormPage = () => {
 
     const searchTags = async (keyword) => {
       if (!keyword) return [];
+      const selectedCategory = $.$tagCategorySelect?.value || '';
+      const categoryParam = selectedCategory
+        ? `&category=${encodeURIComponent(selectedCategory)}`
+        : '';
       const res = await apiService.get(
-        `/api/tags/search?keyword=${encodeURIComponent(keyword)}`
+        `/api/tags/search?keyword=${encodeURIComponent(keyword)}${categoryParam}`
       );
-      const list = res.data || [];
-      const selectedCategory = $.$tagCategorySelect?.value || '';
-      return selectedCategory
-        ? list.filter((t) => t.category === selectedCategory)
-        : list;
+      return res.data || [];
     };
 
     const showSuggestions = (tags) => {
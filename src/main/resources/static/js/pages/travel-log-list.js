@@ -254,7 +254,8 @@ const TravelLogListPage = () => {
     const date = DateUtils.formatDate(travelLog.createdAt);
     const location = travelLog.location || '위치 정보 없음';
     const mood = travelLog.mood || '기분 정보 없음';
-    const cover = travelLog.coverImageUrl || '';
+    // 카드에는 리사이즈 이미지(480px) 우선 사용, 아직 생성 전이면 원본
+    const cover = travelLog.coverImageVariants?.[480] || travelLog.coverImageUrl || '';
 
     return `
       <div class="col-md-6 col-lg-4 mb-3">
@@ -38,6 +38,9 @@ const TripDetail = () => {
     $tripDuration: null,
     $tripStatus: null,
     $tripBudget: null,
+    $tripLogCount: null,
+    $tripExpenses: null,
+    $tripAverageRating: null,
     $tripCreatedAt: null,
     $tripUpdatedAt: null,
     $tripDescription: null,
@@ -76,6 +79,9 @@ const TripDetail = () => {
     $elements.$tripDuration = document.getElementById('tripDuration');
     $elements.$tripStatus = document.getElementById('tripStatus');
     $elements.$tripBudget = document.getElementById('tripBudget');
+    $elements.$tripLogCount = document.getElementById('tripLogCount');
+    $elements.$tripExpenses = document.getElementById('tripExpenses');
+    $elements.$tripAverageRating = document.getElementById('tripAverageRating');
     $elements.$tripCreatedAt = document.getElementById('tripCreatedAt');
     $elements.$tripUpdatedAt = document.getElementById('tripUpdatedAt');
     $elements.$tripDescription = document.getElementById('tripDescription');
@@ -198,6 +204,18 @@ const TripDetail = () => {
         : '-';
     }
 
+    // 여행일지 요약
+    if ($elements.$tripLogCount) {
+      $elements.$tripLogCount.textContent = `${trip.travelLogCount ?? 0}개`;
+    }
+    if ($elements.$tripExpenses) {
+      $elements.$tripExpenses.textContent = `${(trip.totalExpenses ?? 0).toLocaleString()}원`;
+    }
+    if ($elements.$tripAverageRating) {
+      $elements.$tripAverageRating.textContent =
+        trip.averageRating != null ? `${trip.averageRating.toFixed(1)} / 5` : '-';
+    }
+
     // 날짜 정보
     if ($elements.$tripCreatedAt) {
       $elements.$tripCreatedAt.textContent = DateUtils.formatDateTime(
@@ -102,6 +102,11 @@ const TripListPage = () => {
         (trip) => `
       <div class="col-md-6 col-lg-4 mb-3">
         <div class="card h-100">
+          ${
+          trip.coverImageUrl
+            ? `<img src="${trip.coverImageVariants?.[480] || trip.coverImageUrl}" class="card-img-top" alt="${trip.title}" loading="lazy" style="height:180px;object-fit:cover;">`
+            : ''
+        }
           <div class="card-body">
             <h5 class="card-title">${trip.title}</h5>
             <p class="card-text text-muted">${
@@ -161,6 +166,15 @@ const TripListPage = () => {
                   </small>
                 `
             : ''
+        }
+            </div>
+            <div class="mt-2 text-muted small">
+              <i class="bi bi-journal-text"></i> 일지 ${trip.travelLogCount ?? 0}개
+              <span class="ms-2"><i class="bi bi-wallet2"></i> ${UIUtils.formatCurrency(trip.totalExpenses ?? 0)}</span>
+              ${
+          trip.averageRating != null
+            ? `<span class="ms-2 text-warning"><i class="bi bi-star-fill"></i> ${trip.averageRating.toFixed(1)}</span>`
+            : ''
         }
             </div>
           </div>
@@ -0,0 +1,265 @@
+package com.spring.toyproject.domain.entity.id;
+
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ID 전략별 INSERT 처리량 벤치마크 (기본 비활성)
+ * 실행: gradle test --tests '*IdStrategyInsertBenchmark' -Dbenchmark=true
+ * MariaDB로 측정: -Dbenchmark.url=jdbc:mariadb://localhost:3306/toy_bench -Dbenchmark.username=root -Dbenchmark.password=...
+ * (기본은 H2 인메모리 - 네트워크 왕복이 없어서 실제 DB보다 차이가 작게 나옴)
+ *
+ * 여행일지 1건당 사진 3장, 태그 2개를 붙여 저장하면서
+ * IDENTITY 전략과 시퀀스 + pooled 옵티마이저(@PooledSequenceId) 전략의 초당 저장 행 수와 실행된 SQL 수를 비교한다.
+ * 두 전략 모두 같은 배치 설정(batch_size 50, order_inserts)에서 실제 엔티티와 같은 모양의 테이블에 저장한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdStrategyInsertBenchmark {
+
+    private static final int LOGS = 2_000;
+    private static final int PHOTOS_PER_LOG = 3;
+    private static final int TAGS_PER_LOG = 2;
+    private static final int TAG_COUNT = 20;
+    // 여행일지 가져오기와 같은 단위로 flush/clear
+    private static final int FLUSH_SIZE = 500;
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Test
+    @DisplayName("IDENTITY 전략과 pooled 시퀀스 전략의 INSERT 처리량 비교")
+    void compareInsertThroughput() {
+        // 워밍업 후 측정
+        run("identity", IdentityLog.class, IdentityPhoto.class, IdentityLogTag.class, false);
+        run("pooled  ", PooledLog.class, PooledPhoto.class, PooledLogTag.class, false);
+        run("identity", IdentityLog.class, IdentityPhoto.class, IdentityLogTag.class, true);
+        run("pooled  ", PooledLog.class, PooledPhoto.class, PooledLogTag.class, true);
+    }
+
+    private void run(String label, Class<? extends BenchLog> logType, Class<? extends BenchPhoto> photoType,
+                     Class<? extends BenchLogTag> logTagType, boolean report) {
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactory(logType, photoType, logTagType);
+        EntityManagerFactory emf = factoryBean.getObject();
+        try {
+            EntityManager em = emf.createEntityManager();
+            em.getTransaction().begin();
+            List<BenchTag> tags = new ArrayList<>();
+            for (int i = 0; i < TAG_COUNT; i++) {
+                BenchTag tag = new BenchTag("태그" + i);
+                em.persist(tag);
+                tags.add(tag);
+            }
+            em.getTransaction().commit();
+            em.clear();
+
+            Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            long start = System.nanoTime();
+            em.getTransaction().begin();
+            for (int i = 0; i < LOGS; i++) {
+                BenchLog log = newInstance(logType);
+                log.title = "여행일지 " + i;
+                log.content = "오늘은 바다를 보러 갔다. ".repeat(20);
+                em.persist(log);
+                for (int p = 0; p < PHOTOS_PER_LOG; p++) {
+                    BenchPhoto photo = newInstance(photoType);
+                    photo.setTravelLog(log);
+                    photo.filePath = "/uploads/blobs/ab/cd/" + i + "-" + p + ".jpg";
+                    photo.displayOrder = p + 1;
+                    em.persist(photo);
+                }
+                for (int t = 0; t < TAGS_PER_LOG; t++) {
+                    BenchLogTag logTag = newInstance(logTagType);
+                    logTag.setTravelLog(log);
+                    logTag.tag = em.getReference(BenchTag.class, tags.get((i + t) % TAG_COUNT).id);
+                    em.persist(logTag);
+                }
+                if ((i + 1) % FLUSH_SIZE == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            em.getTransaction().commit();
+            long elapsed = System.nanoTime() - start;
+            em.close();
+
+            if (report) {
+                long rows = (long) LOGS * (1 + PHOTOS_PER_LOG + TAGS_PER_LOG);
+                System.out.printf("%s %6d rows  %8.0f rows/s  %6d entity inserts  %6d statements prepared%n",
+                        label, rows, rows / (elapsed / 1e9),
+                        statistics.getEntityInsertCount(), statistics.getPrepareStatementCount());
+            }
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory(Class<?>... entities) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("benchmark.url", "jdbc:h2:mem:id-benchmark-" + System.nanoTime() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.username", "sa"),
+                System.getProperty("benchmark.password", ""));
+
+        List<String> managed = new ArrayList<>(List.of(BenchTag.class.getName()));
+        for (Class<?> entity : entities) {
+            managed.add(entity.getName());
+        }
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setManagedTypes(PersistenceManagedTypes.of(managed, List.of()));
+        factoryBean.setPersistenceUnitName("id-benchmark-" + entities[0].getSimpleName());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "hibernate.generate_statistics", "true",
+                PooledSequenceIdGenerator.ALLOCATION_SIZE_SETTING, String.valueOf(ALLOCATION_SIZE)
+        ));
+        factoryBean.afterPropertiesSet();
+        return factoryBean;
+    }
+
+    private static <T> T newInstance(Class<T> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ===== 실제 엔티티(TravelLog, TravelPhoto, TravelLogTag, Tag)와 같은 모양의 벤치마크 전용 엔티티 =====
+
+    @Entity(name = "BenchTag")
+    @Table(name = "bench_tags")
+    public static class BenchTag {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        String name;
+
+        protected BenchTag() {
+        }
+
+        BenchTag(String name) {
+            this.name = name;
+        }
+    }
+
+    @MappedSuperclass
+    public abstract static class BenchLog {
+        @Column(nullable = false, length = 200)
+        String title;
+        @Column(columnDefinition = "TEXT")
+        String content;
+    }
+
+    @MappedSuperclass
+    public abstract static class BenchPhoto {
+        String filePath;
+        Integer displayOrder;
+
+        abstract void setTravelLog(BenchLog log);
+    }
+
+    @MappedSuperclass
+    public abstract static class BenchLogTag {
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "tag_id")
+        BenchTag tag;
+
+        abstract void setTravelLog(BenchLog log);
+    }
+
+    @Entity(name = "IdentityLog")
+    @Table(name = "bench_identity_logs")
+    public static class IdentityLog extends BenchLog {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+    }
+
+    @Entity(name = "IdentityPhoto")
+    @Table(name = "bench_identity_photos")
+    public static class IdentityPhoto extends BenchPhoto {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "travel_log_id")
+        IdentityLog travelLog;
+
+        @Override
+        void setTravelLog(BenchLog log) {
+            this.travelLog = (IdentityLog) log;
+        }
+    }
+
+    @Entity(name = "IdentityLogTag")
+    @Table(name = "bench_identity_log_tags")
+    public static class IdentityLogTag extends BenchLogTag {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "travel_log_id")
+        IdentityLog travelLog;
+
+        @Override
+        void setTravelLog(BenchLog log) {
+            this.travelLog = (IdentityLog) log;
+        }
+    }
+
+    @Entity(name = "PooledLog")
+    @Table(name = "bench_pooled_logs")
+    public static class PooledLog extends BenchLog {
+        @Id
+        @PooledSequenceId(sequenceName = "bench_pooled_logs_seq")
+        Long id;
+    }
+
+    @Entity(name = "PooledPhoto")
+    @Table(name = "bench_pooled_photos")
+    public static class PooledPhoto extends BenchPhoto {
+        @Id
+        @PooledSequenceId(sequenceName = "bench_pooled_photos_seq")
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "travel_log_id")
+        PooledLog travelLog;
+
+        @Override
+        void setTravelLog(BenchLog log) {
+            this.travelLog = (PooledLog) log;
+        }
+    }
+
+    @Entity(name = "PooledLogTag")
+    @Table(name = "bench_pooled_log_tags")
+    public static class PooledLogTag extends BenchLogTag {
+        @Id
+        @PooledSequenceId(sequenceName = "bench_pooled_log_tags_seq")
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "travel_log_id")
+        PooledLog travelLog;
+
+        @Override
+        void setTravelLog(BenchLog log) {
+            this.travelLog = (PooledLog) log;
+        }
+    }
+}
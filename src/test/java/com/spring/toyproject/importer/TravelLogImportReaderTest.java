@@ -0,0 +1,113 @@
+package com.spring.toyproject.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TravelLogImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private List<TravelLogImportRow> readAll(String body, ImportFormat format, int maxRecordLength) throws IOException {
+        List<TravelLogImportRow> rows = new ArrayList<>();
+        try (TravelLogImportReader reader = new TravelLogImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper, maxRecordLength)) {
+            TravelLogImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("CSV 따옴표 안의 쉼표/줄바꿈/큰따옴표와 빈 줄 처리 테스트")
+    void csvQuotingAndBlankLineTest() throws IOException {
+        //given
+        String csv = "title,content,logDate,expenses,tagIds\r\n"
+                + "\"도쿄, 1일차\",\"첫 줄\n둘째 줄 \"\"인용\"\"\",2025-06-01,12000,1;2\r\n"
+                + "\r\n"
+                + "오사카,,2025-06-02,,\n";
+
+        //when
+        List<TravelLogImportRow> rows = readAll(csv, ImportFormat.CSV, TravelLogImportReader.DEFAULT_MAX_RECORD_LENGTH);
+
+        //then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getRequest().getTitle()).isEqualTo("도쿄, 1일차");
+        assertThat(rows.get(0).getRequest().getContent()).isEqualTo("첫 줄\n둘째 줄 \"인용\"");
+        assertThat(rows.get(0).getRequest().getLogDate()).isEqualTo(LocalDate.of(2025, 6, 1));
+        assertThat(rows.get(0).getRequest().getExpenses()).isEqualTo(12000L);
+        assertThat(rows.get(0).getRequest().getTagIds()).containsExactly(1L, 2L);
+        assertThat(rows.get(1).getRowNumber()).isEqualTo(2);
+        assertThat(rows.get(1).getRequest().getContent()).isNull();
+        assertThat(rows.get(1).getRequest().getTagIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 행은 실패 행으로 돌려주고 다음 행을 계속 읽는지 테스트")
+    void csvErrorRowTest() throws IOException {
+        //given
+        String csv = "title,logDate,rating\n"
+                + "잘못된 날짜,2025-13-40,3\n"
+                + "잘못된 평점,2025-06-01,다섯\n"
+                + "정상,2025-06-01,5\n";
+
+        //when
+        List<TravelLogImportRow> rows = readAll(csv, ImportFormat.CSV, TravelLogImportReader.DEFAULT_MAX_RECORD_LENGTH);
+
+        //then
+        assertThat(rows).extracting(TravelLogImportRow::isFailed).containsExactly(true, true, false);
+        assertThat(rows).extracting(TravelLogImportRow::getErrorField).containsExactly("logDate", "rating", null);
+        assertThat(rows.get(2).getRequest().getRating()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("UTF-8 BOM이 있어도 첫 헤더명이 깨지지 않는지 테스트")
+    void csvByteOrderMarkTest() throws IOException {
+        //given
+        String csv = "\uFEFFtitle,logDate\n제주,2025-06-01\n";
+
+        //when
+        List<TravelLogImportRow> rows = readAll(csv, ImportFormat.CSV, TravelLogImportReader.DEFAULT_MAX_RECORD_LENGTH);
+
+        //then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getRequest().getTitle()).isEqualTo("제주");
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 행(닫히지 않은 따옴표 포함)은 버퍼링하지 않고 실패 행이 되는지 테스트")
+    void oversizedRecordTest() throws IOException {
+        //given
+        String longValue = "가".repeat(100);
+        String csv = "title,content\n"
+                + "길다," + longValue + "\n"
+                + "정상,내용\n"
+                + "\"닫히지 않은 따옴표," + longValue + "\n정상처럼 보이는 줄,내용\n";
+        String ndjson = "{\"title\":\"" + longValue + "\"}\n"
+                + "\n"
+                + "{\"title\":\"정상\"}\n"
+                + "{잘못된 JSON\n";
+
+        //when
+        List<TravelLogImportRow> csvRows = readAll(csv, ImportFormat.CSV, 50);
+        List<TravelLogImportRow> jsonRows = readAll(ndjson, ImportFormat.NDJSON, 50);
+
+        //then
+        assertThat(csvRows).extracting(TravelLogImportRow::isFailed).containsExactly(true, false, true);
+        assertThat(csvRows.get(1).getRequest().getTitle()).isEqualTo("정상");
+        assertThat(jsonRows).extracting(TravelLogImportRow::isFailed).containsExactly(true, false, true);
+        assertThat(jsonRows).extracting(TravelLogImportRow::getRowNumber).containsExactly(1L, 2L, 3L);
+        assertThat(jsonRows.get(1).getRequest().getTitle()).isEqualTo("정상");
+    }
+}
@@ -0,0 +1,85 @@
+package com.spring.toyproject.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청당 JWT 인증 비용 벤치마크 (기본 비활성)
+ * 실행: gradle test --tests '*JwtAuthenticationBenchmark' -Dbenchmark=true
+ *
+ * - legacy: 요청마다 서명 키를 만들고 파서를 새로 만들어 두 번 파싱 (validateToken + getUsernameFromToken)
+ * - cached parser: 시작 시 만든 키/파서로 한 번만 파싱 (검증된 토큰 캐시를 놓친 경우)
+ * - filter: JwtAuthenticationFilter 전체 (검증된 토큰 캐시 적중)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    @DisplayName("이전 방식과 현재 방식의 요청당 토큰 검증 비용 비교")
+    void compareAuthenticationCost() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(3_600_000L);
+        JwtProvider jwtProvider = new JwtProvider(properties);
+        jwtProvider.init();
+        String token = jwtProvider.generateToken(1L, "kuromi");
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtProvider,
+                new VerifiedTokenCache(10_000, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trips");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        measure("legacy double parse", () -> legacyAuthenticate(token));
+        measure("cached parser      ", () -> jwtProvider.toPrincipal(jwtProvider.parseVerifiedClaims(token)).getUsername());
+        measure("filter (cache hit) ", () -> {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            String username = ((JwtPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUsername();
+            SecurityContextHolder.clearContext();
+            return username;
+        });
+    }
+
+    // 이전 JwtProvider + 필터가 요청마다 하던 작업
+    private static String legacyAuthenticate(String token) {
+        legacyParse(token); // validateToken
+        return legacyParse(token).getSubject(); // getUsernameFromToken
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static void measure(String label, Callable<String> authenticate) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            authenticate.call();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(authenticate.call()).isEqualTo("kuromi");
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s %8.2f us/request%n", label, elapsed / 1e3 / ITERATIONS);
+    }
+}
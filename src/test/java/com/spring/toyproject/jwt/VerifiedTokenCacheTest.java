@@ -0,0 +1,55 @@
+package com.spring.toyproject.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final JwtPrincipal PRINCIPAL = new JwtPrincipal(1L, "kuromi");
+
+    private static Date expiresIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 조회되지 않는지 테스트")
+    void expiredEntryNotServedTest() throws Exception {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, new SimpleMeterRegistry());
+        cache.put("short-lived", PRINCIPAL, expiresIn(50));
+        cache.put("long-lived", PRINCIPAL, expiresIn(60_000));
+        assertThat(cache.get("short-lived")).isSameAs(PRINCIPAL);
+
+        //when
+        Thread.sleep(100);
+
+        //then
+        assertThat(cache.get("short-lived")).isNull();
+        assertThat(cache.get("long-lived")).isSameAs(PRINCIPAL);
+    }
+
+    @Test
+    @DisplayName("만료되지 않은 토큰으로 가득 차도 새 토큰은 캐시되고, 가장 먼저 만료될 항목이 비워지는지 테스트")
+    void fullCacheAdmitsNewTokenTest() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(3, new SimpleMeterRegistry());
+        cache.put("token-1", PRINCIPAL, expiresIn(10_000));
+        cache.put("token-2", PRINCIPAL, expiresIn(60_000));
+        cache.put("token-3", PRINCIPAL, expiresIn(60_000));
+
+        //when
+        cache.put("token-4", PRINCIPAL, expiresIn(60_000));
+
+        //then
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("token-4")).isSameAs(PRINCIPAL);
+        assertThat(cache.get("token-1")).isNull();
+        assertThat(cache.get("token-2")).isSameAs(PRINCIPAL);
+        assertThat(cache.get("token-3")).isSameAs(PRINCIPAL);
+    }
+}
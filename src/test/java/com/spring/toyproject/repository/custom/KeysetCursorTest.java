@@ -0,0 +1,55 @@
+package com.spring.toyproject.repository.custom;
+
+import com.spring.toyproject.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("커서 토큰 인코딩/디코딩 테스트")
+    void encodeDecodeTest() {
+        //given
+        String sortKey = KeysetCursor.sortKeyOf("logDate", true);
+        String token = KeysetCursor.encode(sortKey, 42L, LocalDate.of(2025, 6, 1));
+
+        //when
+        KeysetCursor cursor = KeysetCursor.decode(token, sortKey);
+
+        //then
+        assertThat(cursor.getId()).isEqualTo(42L);
+        assertThat(cursor.getSortValue()).isEqualTo("2025-06-01");
+    }
+
+    @Test
+    @DisplayName("정렬값이 NULL이거나 ':'을 포함해도 복원되는지 테스트")
+    void nullAndColonValueTest() {
+        //given
+        String sortKey = KeysetCursor.sortKeyOf("title", false);
+
+        //when
+        KeysetCursor nullCursor = KeysetCursor.decode(KeysetCursor.encode(sortKey, 7L, null), sortKey);
+        KeysetCursor colonCursor = KeysetCursor.decode(KeysetCursor.encode(sortKey, 8L, "도쿄: 1일차"), sortKey);
+
+        //then
+        assertThat(nullCursor.getSortValue()).isNull();
+        assertThat(colonCursor.getSortValue()).isEqualTo("도쿄: 1일차");
+    }
+
+    @Test
+    @DisplayName("첫 페이지 요청과 잘못된 커서 처리 테스트")
+    void emptyAndInvalidTokenTest() {
+        String sortKey = KeysetCursor.sortKeyOf("createdAt", true);
+        String otherSortToken = KeysetCursor.encode(KeysetCursor.sortKeyOf("rating", true), 1L, 5);
+
+        assertThat(KeysetCursor.decode("", sortKey)).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor!!", sortKey))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(otherSortToken, sortKey))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package com.spring.toyproject.routes;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 업로드 사진 제공 처리량 벤치마크 (기본 비활성)
+ * 실행: gradle test --tests '*UploadFileControllerBenchmark' -Dbenchmark=true
+ *
+ * 이전 방식(file: 리소스 핸들러, /legacy/uploads/**)과 UploadFileController(/uploads/**)를
+ * 같은 MVC 설정 위에서 비교한다.
+ * - 처음 조회: 300KB 사진 전체 응답
+ * - 재방문: 브라우저가 가진 검증값(ETag 또는 Last-Modified)으로 다시 요청 -> 304면 본문 없음
+ *
+ * MockMvc는 소켓을 거치지 않으므로 sendfile(커널 전송) 효과와 시큐리티 필터 생략 효과는 포함되지 않는다.
+ * 실제 서버 기준 수치는 서버를 띄운 뒤 wrk 같은 HTTP 부하 도구로 측정한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UploadFileControllerBenchmark {
+
+    private static final String BLOB = "blobs/3f/a2/3fa2c9e1.jpg";
+    // 본문이 있는 응답은 MockMvc가 메모리로 복사하므로 반복 횟수를 줄임
+    private static final int BODY_ITERATIONS = 200;
+    private static final int NOT_MODIFIED_ITERATIONS = 10_000;
+
+    @TempDir
+    Path root;
+
+    private AnnotationConfigWebApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Configuration
+    @EnableWebMvc
+    static class BenchmarkConfig implements WebMvcConfigurer {
+
+        private final FileUploadConfig fileUploadConfig;
+
+        BenchmarkConfig(FileUploadConfig fileUploadConfig) {
+            this.fileUploadConfig = fileUploadConfig;
+        }
+
+        // 이전 WebResourceConfig와 같은 매핑 (경로만 /legacy로 구분)
+        @Override
+        public void addResourceHandlers(ResourceHandlerRegistry registry) {
+            registry.addResourceHandler("/legacy/uploads/**")
+                    .addResourceLocations("file:" + fileUploadConfig.getLocation() + "/");
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path uploads = Files.createDirectories(root.resolve("uploads"));
+        Path blob = uploads.resolve(BLOB);
+        Files.createDirectories(blob.getParent());
+        byte[] content = new byte[300 * 1024];
+        new Random(42).nextBytes(content);
+        Files.write(blob, content);
+
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("benchmark", Map.of("file.upload.location", uploads.toString())));
+        context.register(FileUploadConfig.class, UploadFileController.class, BenchmarkConfig.class);
+        context.refresh();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("이전 리소스 핸들러와 업로드 파일 컨트롤러의 전체 응답/재검증 처리량 비교")
+    void compareThroughput() throws Exception {
+        MvcResult legacy = mockMvc.perform(get("/legacy/uploads/" + BLOB)).andReturn();
+        MvcResult current = mockMvc.perform(get("/uploads/" + BLOB)).andReturn();
+        assertThat(legacy.getResponse().getStatus()).isEqualTo(200);
+        assertThat(current.getResponse().getStatus()).isEqualTo(200);
+
+        String legacyLastModified = legacy.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        String etag = current.getResponse().getHeader(HttpHeaders.ETAG);
+        System.out.printf("legacy  Cache-Control=%s  ETag=%s%n",
+                legacy.getResponse().getHeader(HttpHeaders.CACHE_CONTROL), legacy.getResponse().getHeader(HttpHeaders.ETAG));
+        System.out.printf("current Cache-Control=%s  ETag=%s%n",
+                current.getResponse().getHeader(HttpHeaders.CACHE_CONTROL), etag);
+
+        measure("legacy  full GET   ", get("/legacy/uploads/" + BLOB), 200, BODY_ITERATIONS);
+        measure("current full GET   ", get("/uploads/" + BLOB), 200, BODY_ITERATIONS);
+        measure("legacy  revalidate ", get("/legacy/uploads/" + BLOB)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, legacyLastModified), 304, NOT_MODIFIED_ITERATIONS);
+        measure("current revalidate ", get("/uploads/" + BLOB)
+                .header(HttpHeaders.IF_NONE_MATCH, etag), 304, NOT_MODIFIED_ITERATIONS);
+        measure("current range 64KB ", get("/uploads/" + BLOB)
+                .header(HttpHeaders.RANGE, "bytes=0-65535"), 206, BODY_ITERATIONS);
+    }
+
+    // 반복 횟수의 1/5만큼 워밍업 후 측정
+    private void measure(String label, RequestBuilder request, int expectedStatus, int iterations) throws Exception {
+        for (int i = 0; i < iterations / 5; i++) {
+            mockMvc.perform(request);
+        }
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            MvcResult result = mockMvc.perform(request).andReturn();
+            assertThat(result.getResponse().getStatus()).isEqualTo(expectedStatus);
+            bytes += result.getResponse().getContentLength();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s %8.0f req/s  %6.1f us/req  %7d bytes/req%n",
+                label, iterations / (elapsed / 1e9), elapsed / 1e3 / iterations, bytes / iterations);
+    }
+}
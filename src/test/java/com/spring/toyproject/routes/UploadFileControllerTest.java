@@ -0,0 +1,75 @@
+package com.spring.toyproject.routes;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class UploadFileControllerTest {
+
+    @TempDir
+    Path root;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path uploads = Files.createDirectories(root.resolve("uploads"));
+        Files.createDirectories(uploads.resolve("blobs/3f/a2"));
+        Files.write(uploads.resolve("blobs/3f/a2/3fa2c9.jpg"), "0123456789".getBytes());
+        Files.createDirectories(uploads.resolve(".staging"));
+        Files.write(uploads.resolve(".staging/pending.jpg"), "staged".getBytes());
+        Files.write(root.resolve("secret.txt"), "secret".getBytes());
+
+        FileUploadConfig config = new FileUploadConfig();
+        config.setLocation(uploads.toString());
+        mockMvc = MockMvcBuilders.standaloneSetup(new UploadFileController(config)).build();
+    }
+
+    @Test
+    @DisplayName("저장소 파일은 불변 캐시 헤더와 파일명 기반 ETag로 응답하고, 같은 ETag로 재검증하면 304인지 테스트")
+    void immutableCacheAndEtagTest() throws Exception {
+        mockMvc.perform(get("/uploads/blobs/3f/a2/3fa2c9.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3fa2c9\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(content().string("0123456789"));
+
+        mockMvc.perform(get("/uploads/blobs/3f/a2/3fa2c9.jpg").header(HttpHeaders.IF_NONE_MATCH, "\"3fa2c9\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Range 요청은 요청한 구간만 206으로 응답하는지 테스트")
+    void rangeTest() throws Exception {
+        mockMvc.perform(get("/uploads/blobs/3f/a2/3fa2c9.jpg").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("업로드 루트 밖을 가리키는 경로와 숨김 폴더(.staging)는 404인지 테스트")
+    void traversalAndHiddenDirectoryTest() throws Exception {
+        mockMvc.perform(get("/uploads/../secret.txt"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/blobs/../../secret.txt"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/blobs/%2e%2e/%2e%2e/secret.txt"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/.staging/pending.jpg"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/blobs/3f/a2/missing.jpg"))
+                .andExpect(status().isNotFound());
+    }
+}
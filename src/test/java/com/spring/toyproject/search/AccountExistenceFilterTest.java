@@ -0,0 +1,80 @@
+package com.spring.toyproject.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountExistenceFilterTest {
+
+    private static final int ACCOUNTS = 5_000;
+
+    private AccountExistenceFilter filterWithAccounts() {
+        AccountExistenceFilter filter = new AccountExistenceFilter(ACCOUNTS, 0.01, new SimpleMeterRegistry());
+        for (int i = 0; i < ACCOUNTS; i++) {
+            filter.add("user" + i, "user" + i + "@gmail.com");
+        }
+        filter.markReady();
+        return filter;
+    }
+
+    @Test
+    @DisplayName("적재가 끝나기 전에는 항상 있을 수도 있다고 답해서 DB로 확인하게 하는지 테스트")
+    void notReadyTest() {
+        //given
+        AccountExistenceFilter filter = new AccountExistenceFilter(ACCOUNTS, 0.01, new SimpleMeterRegistry());
+
+        //when //then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContainUsername("nobody")).isTrue();
+        assertThat(filter.mightContainEmail("nobody@gmail.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가한 사용자명/이메일은 항상 있을 수도 있다고 답하는지(거짓 음성이 없는지) 테스트")
+    void noFalseNegativeTest() {
+        //given
+        AccountExistenceFilter filter = filterWithAccounts();
+
+        //when //then
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertThat(filter.mightContainUsername("user" + i)).isTrue();
+            assertThat(filter.mightContainEmail("user" + i + "@gmail.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("DB 콜레이션처럼 대소문자와 뒤쪽 공백이 달라도 같은 값으로 취급하는지 테스트")
+    void normalizationTest() {
+        //given
+        AccountExistenceFilter filter = filterWithAccounts();
+        filter.add("Kuromi", "Kuromi@Gmail.com ");
+
+        //when //then
+        assertThat(filter.mightContainUsername("kuromi")).isTrue();
+        assertThat(filter.mightContainUsername("KUROMI   ")).isTrue();
+        assertThat(filter.mightContainEmail("kuromi@gmail.com")).isTrue();
+        assertThat(filter.mightContainUsername("USER42 ")).isTrue();
+        assertThat(filter.mightContainEmail("User42@GMAIL.COM")).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값은 대부분 없다고 답하는지(거짓 양성 비율이 목표 근처인지) 테스트")
+    void falsePositiveRateTest() {
+        //given
+        AccountExistenceFilter filter = filterWithAccounts();
+
+        //when
+        int falsePositives = 0;
+        int trials = 10_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContainUsername("guest" + i)) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        assertThat((double) falsePositives / trials).isLessThan(0.03);
+    }
+}
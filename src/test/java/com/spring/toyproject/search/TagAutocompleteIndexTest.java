@@ -0,0 +1,56 @@
+package com.spring.toyproject.search;
+
+import com.spring.toyproject.domain.dto.response.TagResponseDto;
+import com.spring.toyproject.domain.entity.TagCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TagAutocompleteIndexTest {
+
+    private TagResponseDto tag(Long id, String name, TagCategory category) {
+        return TagResponseDto.builder().id(id).name(name).category(category).color("#000000").build();
+    }
+
+    @Test
+    @DisplayName("검색어를 포함하는 태그를 사용 횟수순으로 상위 K개만 조회하는지 테스트")
+    void infixTopKTest() {
+        //given
+        TagAutocompleteIndex index = new TagAutocompleteIndex();
+        index.replaceAll(List.of(
+                tag(1L, "제주도", TagCategory.LOCATION),
+                tag(2L, "제주맛집", TagCategory.FOOD),
+                tag(3L, "서귀포제주", TagCategory.LOCATION),
+                tag(4L, "부산", TagCategory.LOCATION)
+        ), Map.of(1L, 5L, 3L, 9L));
+
+        //when
+        List<TagResponseDto> top2 = index.search("제주", null, 2);
+        List<TagResponseDto> foodOnly = index.search("제주", TagCategory.FOOD, 10);
+
+        //then
+        assertThat(top2).extracting(TagResponseDto::getId).containsExactly(3L, 1L);
+        assertThat(foodOnly).extracting(TagResponseDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("태그 추가와 사용 횟수 변경이 랭킹에 반영되는지 테스트")
+    void addAndUsageTest() {
+        //given
+        TagAutocompleteIndex index = new TagAutocompleteIndex();
+        index.replaceAll(List.of(tag(1L, "Tokyo", TagCategory.LOCATION)), Map.of());
+
+        //when
+        index.add(tag(2L, "도쿄tokyo", TagCategory.LOCATION));
+        index.addUsage(Map.of(2L, 1L));
+        List<TagResponseDto> result = index.search("TOK", null, 10);
+
+        //then
+        assertThat(result).extracting(TagResponseDto::getId).containsExactly(2L, 1L);
+        assertThat(index.search("없는태그", null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package com.spring.toyproject.search;
+
+import com.spring.toyproject.domain.dto.response.TagResponseDto;
+import com.spring.toyproject.domain.entity.Tag;
+import com.spring.toyproject.domain.entity.TagCategory;
+import com.spring.toyproject.repository.base.TagRepository;
+import com.spring.toyproject.repository.base.TravelLogTagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TagAutocompleteIndexerTest {
+
+    @Test
+    @DisplayName("색인 구성 중 사용 횟수 집계 이후 커밋된 증감만 구성 완료 후 다시 반영되는지 테스트")
+    void usageChangedDuringRebuildTest() {
+        //given
+        TagAutocompleteIndex index = new TagAutocompleteIndex();
+        TagRepository tagRepository = mock(TagRepository.class);
+        TravelLogTagRepository travelLogTagRepository = mock(TravelLogTagRepository.class);
+        TagAutocompleteIndexer indexer = new TagAutocompleteIndexer(index, tagRepository, travelLogTagRepository);
+
+        when(tagRepository.findAll()).thenAnswer(invocation -> {
+            // 집계 전에 커밋됨 -> 집계 결과(6)에 이미 포함
+            indexer.onTagUsageChanged(new TagUsageChangedEvent(Map.of(2L, 10L)));
+            return List.of(tag(1L, "제주도"), tag(2L, "제주맛집"));
+        });
+        when(travelLogTagRepository.countUsageByTagId()).thenAnswer(invocation -> {
+            // 집계 도중 커밋됨 -> 집계 결과(5)에 없음
+            indexer.onTagUsageChanged(new TagUsageChangedEvent(Map.of(1L, 2L)));
+            return Map.of(1L, 5L, 2L, 6L);
+        });
+
+        //when
+        indexer.rebuild();
+        indexer.onTagUsageChanged(new TagUsageChangedEvent(Map.of(2L, 2L)));
+
+        //then
+        assertThat(indexer.isReady()).isTrue();
+        // 제주도 5 + 2 = 7, 제주맛집 6 + 2 = 8 (집계 전 증감 10까지 더해졌다면 18)
+        assertThat(index.search("제주", null, 10)).extracting(TagResponseDto::getId).containsExactly(2L, 1L);
+        index.addUsage(Map.of(1L, 2L));
+        assertThat(index.search("제주", null, 10)).extracting(TagResponseDto::getId).containsExactly(1L, 2L);
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = Tag.builder().name(name).category(TagCategory.LOCATION).color("#000000").build();
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+}
@@ -0,0 +1,86 @@
+package com.spring.toyproject.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TravelLogSearchIndexTest {
+
+    private TravelLogSearchDocument document(Long id, Long userId, String title, String content, List<String> tags) {
+        return TravelLogSearchDocument.builder()
+                .id(id)
+                .userId(userId)
+                .title(title)
+                .content(content)
+                .location("서울")
+                .logDate(LocalDate.of(2025, 1, id.intValue()))
+                .tagNames(tags)
+                .build();
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 여행일지가 내용에만 있는 여행일지보다 먼저 나오는지 테스트")
+    void rankingTest() {
+        //given
+        TravelLogSearchIndex index = new TravelLogSearchIndex();
+        index.upsert(document(1L, 1L, "맛집 탐방", "제주도 흑돼지", List.of()));
+        index.upsert(document(2L, 1L, "제주도 여행", "성산 일출봉", List.of()));
+        index.upsert(document(3L, 1L, "부산 여행", "해운대", List.of("바다")));
+
+        //when
+        TravelLogSearchIndex.SearchResult result = index.search(1L, "제주도", 0, 10);
+
+        //then
+        assertThat(result.getTravelLogIds()).containsExactly(2L, 1L);
+        assertThat(result.getTotalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 여행일지는 검색되지 않고 삭제/수정이 색인에 반영되는지 테스트")
+    void userIsolationAndUpdateTest() {
+        //given
+        TravelLogSearchIndex index = new TravelLogSearchIndex();
+        index.upsert(document(1L, 1L, "도쿄 여행", "", List.of()));
+        index.upsert(document(2L, 2L, "도쿄 출장", "", List.of()));
+
+        //when
+        index.upsert(document(1L, 1L, "오사카 여행", "", List.of("도쿄")));
+        TravelLogSearchIndex.SearchResult byTag = index.search(1L, "도쿄", 0, 10);
+        index.remove(1L, 1L);
+        TravelLogSearchIndex.SearchResult afterRemove = index.search(1L, "오사카", 0, 10);
+
+        //then
+        assertThat(byTag.getTravelLogIds()).containsExactly(1L);
+        assertThat(afterRemove.getTotalHits()).isZero();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 단위 재구축은 끝날 때까지 기존 색인으로 검색되고, 끝나면 새 색인으로 한 번에 교체되는지 테스트")
+    void streamingReplaceAllTest() {
+        //given
+        TravelLogSearchIndex index = new TravelLogSearchIndex();
+        index.upsert(document(9L, 1L, "삭제된 여행", "", List.of()));
+
+        //when
+        long count = index.replaceAll(batchConsumer -> {
+            batchConsumer.accept(List.of(document(1L, 1L, "제주도 여행", "", List.of())));
+            // 교체 전에는 기존 색인
+            assertThat(index.search(1L, "제주도", 0, 10).getTotalHits()).isZero();
+            assertThat(index.search(1L, "삭제된", 0, 10).getTravelLogIds()).containsExactly(9L);
+            batchConsumer.accept(List.of(
+                    document(2L, 1L, "제주도 맛집", "", List.of()),
+                    document(3L, 2L, "제주도 출장", "", List.of())));
+        });
+
+        //then
+        assertThat(count).isEqualTo(3);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search(1L, "제주도", 0, 10).getTravelLogIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search(1L, "삭제된", 0, 10).getTotalHits()).isZero();
+    }
+}
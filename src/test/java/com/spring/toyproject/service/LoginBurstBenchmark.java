@@ -0,0 +1,118 @@
+package com.spring.toyproject.service;
+
+import com.spring.toyproject.config.PasswordEncoderConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 폭주 중 일반 API 지연 부하 테스트 (기본 비활성)
+ * 실행: gradle test --tests '*LoginBurstBenchmark' -Dbenchmark=true
+ *
+ * Tomcat 요청 스레드 풀을 고정 크기 스레드 풀로 흉내 내고, 로그인 요청을 한꺼번에 보내는 동안
+ * 일정 간격으로 일반 API 요청(2ms DB 대기)을 보내서 일반 API의 p50/p99 응답 시간을 비교한다.
+ * - inline: 요청 스레드에서 BCrypt를 직접 계산 (이전 방식)
+ * - offloaded: PasswordHashService로 넘기고 요청 스레드는 바로 반환 (대기열이 가득 차면 503)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoginBurstBenchmark {
+
+    private static final int REQUEST_THREADS = 8;
+    private static final int LOGIN_BURST = 100;
+    private static final int API_REQUESTS = 300;
+    private static final long API_INTERVAL_MILLIS = 10;
+
+    private final PasswordEncoderConfig config = new PasswordEncoderConfig();
+    private final PasswordEncoder passwordEncoder = config.passwordEncoder();
+    private final String storedPassword = passwordEncoder.encode("password123!");
+
+    @Test
+    @DisplayName("로그인 폭주 중 일반 API 응답 시간을 요청 스레드 해시와 전용 스레드풀 해시로 비교")
+    void compareApiLatencyDuringLoginBurst() throws Exception {
+        run("inline   ", null);
+
+        ThreadPoolExecutor hashExecutor = config.passwordHashExecutor(0, 64);
+        try {
+            run("offloaded", new PasswordHashService(passwordEncoder, hashExecutor, new SimpleMeterRegistry()));
+        } finally {
+            hashExecutor.shutdown();
+        }
+    }
+
+    private void run(String label, PasswordHashService passwordHashService) throws Exception {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        ConcurrentLinkedQueue<Long> apiLatencies = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> logins = new ArrayList<>();
+        AtomicInteger rejected = new AtomicInteger();
+
+        try {
+            // 로그인 요청을 한꺼번에 등록
+            for (int i = 0; i < LOGIN_BURST; i++) {
+                CompletableFuture<Boolean> login = new CompletableFuture<>();
+                logins.add(login);
+                requestThreads.execute(() -> {
+                    if (passwordHashService == null) {
+                        login.complete(passwordEncoder.matches("password123!", storedPassword));
+                        return;
+                    }
+                    passwordHashService.matches("password123!", storedPassword).whenComplete((matched, e) -> {
+                        if (e != null) {
+                            rejected.incrementAndGet();
+                        }
+                        login.complete(matched);
+                    });
+                });
+            }
+
+            // 같은 시간 동안 일반 API 요청을 일정 간격으로 등록
+            List<Future<?>> apis = new ArrayList<>();
+            for (int i = 0; i < API_REQUESTS; i++) {
+                long submittedAt = System.nanoTime();
+                apis.add(requestThreads.submit(() -> {
+                    sleep(2);
+                    apiLatencies.add(System.nanoTime() - submittedAt);
+                }));
+                sleep(API_INTERVAL_MILLIS);
+            }
+            for (Future<?> api : apis) {
+                api.get();
+            }
+            CompletableFuture.allOf(logins.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+        } finally {
+            requestThreads.shutdown();
+        }
+
+        List<Long> sorted = new ArrayList<>(apiLatencies);
+        Collections.sort(sorted);
+        System.out.printf("%s API p50=%6.1f ms  p99=%7.1f ms  max=%7.1f ms  (login 503: %d)%n",
+                label, percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.get(sorted.size() - 1) / 1e6,
+                rejected.get());
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.spring.toyproject.service;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import com.spring.toyproject.domain.dto.response.UploadSessionResponseDto;
+import com.spring.toyproject.domain.entity.PhotoBlob;
+import com.spring.toyproject.domain.entity.TravelLog;
+import com.spring.toyproject.domain.entity.TravelPhoto;
+import com.spring.toyproject.domain.entity.Trip;
+import com.spring.toyproject.domain.entity.UploadSession;
+import com.spring.toyproject.domain.entity.User;
+import com.spring.toyproject.exception.BusinessException;
+import com.spring.toyproject.exception.ErrorCode;
+import com.spring.toyproject.repository.base.PhotoBlobRepository;
+import com.spring.toyproject.repository.base.TravelLogRepository;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
+import com.spring.toyproject.repository.base.UploadSessionRepository;
+import com.spring.toyproject.storage.PhotoStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumableUploadServiceTest {
+
+    private static final String USERNAME = "kuromi";
+    private static final String UPLOAD_ID = "upload-1";
+
+    @TempDir
+    Path root;
+
+    private UploadSessionRepository uploadSessionRepository;
+    private TravelLogRepository travelLogRepository;
+    private TravelPhotoRepository travelPhotoRepository;
+    private PhotoBlobRepository photoBlobRepository;
+    private ResumableUploadService service;
+    private Path part;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FileUploadConfig config = new FileUploadConfig();
+        config.setLocation(root.toString());
+
+        uploadSessionRepository = mock(UploadSessionRepository.class);
+        travelLogRepository = mock(TravelLogRepository.class);
+        travelPhotoRepository = mock(TravelPhotoRepository.class);
+        photoBlobRepository = mock(PhotoBlobRepository.class);
+        // 저장소 파일 행은 upsert 이후 조회되는 값을 흉내 냄
+        when(photoBlobRepository.findById(anyString())).thenAnswer(invocation -> {
+            String hash = invocation.getArgument(0);
+            return Optional.of(PhotoBlob.builder()
+                    .contentHash(hash)
+                    .filePath(PhotoStorage.blobUrlPath(hash, ".png"))
+                    .size(1L)
+                    .build());
+        });
+
+        PhotoStorage photoStorage = new PhotoStorage(config, photoBlobRepository, mock(ExecutorService.class));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        service = new ResumableUploadService(uploadSessionRepository, travelLogRepository, travelPhotoRepository,
+                photoStorage, config, transactionTemplate, mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(service, "maxFileSize", DataSize.ofMegabytes(10));
+        ReflectionTestUtils.setField(service, "sessionTtl", Duration.ofHours(24));
+
+        part = Files.createDirectories(root.resolve(".staging/uploads")).resolve(UPLOAD_ID + ".part");
+        Files.createFile(part);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("청크 오프셋이 음수이거나 전체 크기 이상이면, 또는 본문이 남은 크기를 넘으면 거부되는지 테스트")
+    void writeChunkOffsetBoundsTest() {
+        //given
+        UploadSession session = givenSession(10, "");
+
+        //when //then
+        assertThatThrownBy(() -> service.writeChunk(USERNAME, UPLOAD_ID, -1, body(1)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_UPLOAD_RANGE);
+        assertThatThrownBy(() -> service.writeChunk(USERNAME, UPLOAD_ID, 10, body(1)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_UPLOAD_RANGE);
+        assertThatThrownBy(() -> service.writeChunk(USERNAME, UPLOAD_ID, 8, body(3)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_UPLOAD_RANGE);
+        assertThat(session.getReceivedRanges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순서와 상관없이 받은 청크가 구간으로 합쳐지고 해당 오프셋에 기록되는지 테스트")
+    void writeChunkMergesRangesTest() throws Exception {
+        //given
+        UploadSession session = givenSession(10, "");
+
+        //when
+        service.writeChunk(USERNAME, UPLOAD_ID, 6, new ByteArrayInputStream("6789".getBytes()));
+        UploadSessionResponseDto response = service.writeChunk(USERNAME, UPLOAD_ID, 0, new ByteArrayInputStream("012345".getBytes()));
+
+        //then
+        assertThat(session.getReceivedRanges()).isEqualTo("0-9");
+        assertThat(session.getReceivedBytes()).isEqualTo(10);
+        assertThat(response).isNotNull();
+        assertThat(Files.readString(part)).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("모든 구간을 받기 전에 완료를 요청하면 거부되는지 테스트")
+    void completeIncompleteTest() {
+        //given
+        givenSession(10, "0-4,6-9");
+
+        //when //then
+        assertThatThrownBy(() -> service.complete(USERNAME, UPLOAD_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_INCOMPLETE);
+        verify(travelPhotoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("여행일지 행을 잠근 뒤 사진 수를 확인해서 최대 사진 수를 넘으면 거부되는지 테스트")
+    void completePhotoLimitTest() throws Exception {
+        //given
+        byte[] image = png();
+        Files.write(part, image);
+        givenSession(image.length, "0-" + (image.length - 1));
+        givenTravelLog();
+        when(travelPhotoRepository.countByTravelLogId(any())).thenReturn(5L);
+
+        //when //then
+        assertThatThrownBy(() -> service.complete(USERNAME, UPLOAD_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PHOTO_LIMIT_EXCEEDED);
+        verify(travelLogRepository).findWithLockById(1L);
+        verify(travelLogRepository, never()).findById(any());
+        assertThat(part).exists();
+    }
+
+    @Test
+    @DisplayName("완료 트랜잭션이 롤백되면 받은 파일이 남아 다시 완료할 수 있고, 커밋되면 그때 지워지는지 테스트")
+    void completeRollbackKeepsPartTest() throws Exception {
+        //given
+        byte[] image = png();
+        Files.write(part, image);
+        givenSession(image.length, "0-" + (image.length - 1));
+        givenTravelLog();
+        when(travelPhotoRepository.save(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenAnswer(invocation -> {
+                    TravelPhoto photo = invocation.getArgument(0);
+                    ReflectionTestUtils.setField(photo, "id", 1L);
+                    return photo;
+                });
+
+        //when - 첫 번째 완료는 저장 중 실패해서 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        assertThatThrownBy(() -> service.complete(USERNAME, UPLOAD_ID))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        finish(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //then
+        assertThat(part).exists().hasBinaryContent(image);
+        assertThat(stagedFiles()).isEmpty();
+
+        //when - 다시 완료하면 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        service.complete(USERNAME, UPLOAD_ID);
+        finish(TransactionSynchronization.STATUS_COMMITTED);
+
+        //then
+        assertThat(part).doesNotExist();
+        assertThat(stagedFiles()).isEmpty();
+        try (Stream<Path> blobs = Files.walk(root.resolve(PhotoStorage.BLOB_DIRECTORY))) {
+            assertThat(blobs.filter(Files::isRegularFile)).singleElement()
+                    .satisfies(blob -> assertThat(blob).hasBinaryContent(image));
+        }
+    }
+
+    private UploadSession givenSession(long totalSize, String receivedRanges) {
+        UploadSession session = UploadSession.builder()
+                .id(UPLOAD_ID)
+                .username(USERNAME)
+                .travelLogId(1L)
+                .originalFilename("photo.png")
+                .totalSize(totalSize)
+                .build();
+        if (!receivedRanges.isEmpty()) {
+            session.updateReceived(receivedRanges, totalSize);
+        }
+        when(uploadSessionRepository.findByIdAndUsername(UPLOAD_ID, USERNAME)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.findWithLockByIdAndUsername(UPLOAD_ID, USERNAME)).thenReturn(Optional.of(session));
+        return session;
+    }
+
+    private void givenTravelLog() {
+        User user = User.builder().username(USERNAME).email("kuromi@gmail.com").password("password").build();
+        Trip trip = Trip.builder().title("도쿄 여행").user(user).build();
+        TravelLog travelLog = TravelLog.builder().trip(trip).title("첫째 날").build();
+        ReflectionTestUtils.setField(travelLog, "id", 1L);
+        when(travelLogRepository.findWithLockById(1L)).thenReturn(Optional.of(travelLog));
+    }
+
+    // 트랜잭션 매니저가 하는 커밋/롤백 후 콜백 호출을 흉내 냄
+    private void finish(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    // 업로드 임시 폴더를 제외한 스테이징 파일
+    private List<Path> stagedFiles() throws Exception {
+        try (Stream<Path> files = Files.list(root.resolve(PhotoStorage.STAGING_DIRECTORY))) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private static ByteArrayInputStream body(int size) {
+        return new ByteArrayInputStream(new byte[size]);
+    }
+
+    private static byte[] png() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
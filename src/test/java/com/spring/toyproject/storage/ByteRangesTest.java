@@ -0,0 +1,63 @@
+package com.spring.toyproject.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ByteRangesTest {
+
+    @Test
+    @DisplayName("겹치거나 붙은 구간은 합쳐지고 떨어진 구간은 정렬되어 유지되는지 테스트")
+    void mergeTest() {
+        //given
+        ByteRanges ranges = new ByteRanges();
+
+        //when
+        ranges.add(200, 299);
+        ranges.add(0, 99);
+        ranges.add(500, 599);
+        ranges.add(100, 149);   // 0-99에 붙음
+        ranges.add(250, 520);   // 200-299, 500-599와 겹침
+
+        //then
+        assertThat(ranges.toString()).isEqualTo("0-149,200-599");
+        assertThat(ranges.totalBytes()).isEqualTo(550);
+    }
+
+    @Test
+    @DisplayName("문자열로 저장한 구간을 다시 읽어도 같은지, 중복 수신이 총 바이트에 두 번 세지지 않는지 테스트")
+    void parseRoundTripTest() {
+        //given
+        ByteRanges ranges = ByteRanges.parse("0-1048575,2097152-3145727");
+
+        //when
+        ranges.add(0, 1048575);
+
+        //then
+        assertThat(ByteRanges.parse(ranges.toString()).toString()).isEqualTo("0-1048575,2097152-3145727");
+        assertThat(ranges.totalBytes()).isEqualTo(2 * 1048576);
+        assertThat(ByteRanges.parse("").totalBytes()).isZero();
+        assertThat(ByteRanges.parse(null).toList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("0부터 마지막 바이트까지 빈틈없이 받았을 때만 covers가 참인지 테스트")
+    void coversTest() {
+        //given
+        ByteRanges gap = ByteRanges.parse("0-99,101-199");
+        ByteRanges shortOfEnd = ByteRanges.parse("0-198");
+        ByteRanges notFromZero = ByteRanges.parse("1-199");
+
+        //when
+        ByteRanges filled = ByteRanges.parse(gap.toString());
+        filled.add(100, 100);
+
+        //then
+        assertThat(gap.covers(200)).isFalse();
+        assertThat(shortOfEnd.covers(200)).isFalse();
+        assertThat(notFromZero.covers(200)).isFalse();
+        assertThat(filled.covers(200)).isTrue();
+        assertThat(new ByteRanges().covers(200)).isFalse();
+    }
+}
@@ -0,0 +1,248 @@
+package com.spring.toyproject.storage;
+
+import com.spring.toyproject.config.FileUploadConfig;
+import com.spring.toyproject.repository.base.PhotoBlobRepository;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
+import com.spring.toyproject.repository.base.UploadSessionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrphanFileReconcilerTest {
+
+    private static final Duration GRACE_PERIOD = Duration.ofHours(24);
+    private static final String LIVE_HASH = "aabb" + "1".repeat(60);
+    private static final String DEAD_HASH = "aabb" + "2".repeat(60);
+
+    @TempDir
+    Path root;
+
+    private TravelPhotoRepository travelPhotoRepository;
+    private PhotoBlobRepository photoBlobRepository;
+    private UploadSessionRepository uploadSessionRepository;
+
+    // DB에 있는 값 (저장 파일명, 저장소 해시, 업로드 세션 ID)
+    private final Set<String> storedFilenames = new HashSet<>();
+    private final Set<String> blobHashes = new HashSet<>();
+    private final Set<String> uploadIds = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        travelPhotoRepository = mock(TravelPhotoRepository.class);
+        photoBlobRepository = mock(PhotoBlobRepository.class);
+        uploadSessionRepository = mock(UploadSessionRepository.class);
+        when(travelPhotoRepository.findExistingStoredFilenames(anyCollection()))
+                .thenAnswer(invocation -> existing(invocation.getArgument(0), storedFilenames));
+        when(photoBlobRepository.findExistingHashes(anyCollection()))
+                .thenAnswer(invocation -> existing(invocation.getArgument(0), blobHashes));
+        when(uploadSessionRepository.findExistingIds(anyCollection()))
+                .thenAnswer(invocation -> existing(invocation.getArgument(0), uploadIds));
+    }
+
+    @Test
+    @DisplayName("batch-size개씩 확인하고 체크포인트로 재시작 후에도 이어서 확인하며, 끝까지 확인하면 처음부터 다시 시작하는지 테스트")
+    void checkpointResumeTest() throws Exception {
+        //given
+        for (String name : List.of("a.jpg", "b.jpg", "c.jpg", "d.jpg", "e.jpg")) {
+            givenFile("kuromi/" + name, GRACE_PERIOD.plusHours(1));
+        }
+
+        //when //then
+        assertThat(reconciler(2, true).reconcile()).containsExactly(path("kuromi/a.jpg"), path("kuromi/b.jpg"));
+        assertThat(root.resolve(".reconcile-checkpoint")).hasContent(path("kuromi/b.jpg").toString());
+
+        // 재시작 (새 인스턴스) -> 체크포인트 다음 파일부터
+        OrphanFileReconciler restarted = reconciler(2, true);
+        assertThat(restarted.reconcile()).containsExactly(path("kuromi/c.jpg"), path("kuromi/d.jpg"));
+        assertThat(restarted.reconcile()).containsExactly(path("kuromi/e.jpg"));
+
+        // 끝까지 확인 -> 체크포인트 삭제 후 다음 실행은 처음부터
+        assertThat(restarted.reconcile()).isEmpty();
+        assertThat(root.resolve(".reconcile-checkpoint")).doesNotExist();
+        assertThat(restarted.reconcile()).containsExactly(path("kuromi/a.jpg"), path("kuromi/b.jpg"));
+    }
+
+    @Test
+    @DisplayName("체크포인트보다 앞선 폴더는 건너뛰고 뒤 폴더의 파일부터 이어서 확인하는지 테스트")
+    void checkpointSkipsEarlierDirectoriesTest() throws Exception {
+        //given
+        givenFile("kuromi/a.jpg", GRACE_PERIOD.plusHours(1));
+        givenFile("kuromi/b.jpg", GRACE_PERIOD.plusHours(1));
+        givenFile("mymelody/a.jpg", GRACE_PERIOD.plusHours(1));
+        Files.writeString(root.resolve(".reconcile-checkpoint"), "kuromi/a.jpg");
+
+        //when
+        List<Path> orphans = reconciler(10, true).reconcile();
+
+        //then
+        assertThat(orphans).containsExactly(path("kuromi/b.jpg"), path("mymelody/a.jpg"));
+    }
+
+    @Test
+    @DisplayName("수정 시각이 유예시간 이내인 파일은 고아여도 건너뛰는지 테스트")
+    void gracePeriodTest() throws Exception {
+        //given
+        Path old = givenFile("kuromi/old.jpg", GRACE_PERIOD.plusHours(1));
+        Path recent = givenFile("kuromi/recent.jpg", GRACE_PERIOD.minusHours(1));
+        Path recentPart = givenFile(".staging/uploads/recent.part", Duration.ofMinutes(1));
+
+        //when
+        List<Path> orphans = reconciler(10, false).reconcile();
+
+        //then
+        assertThat(orphans).containsExactly(path("kuromi/old.jpg"));
+        assertThat(old).doesNotExist();
+        assertThat(root.resolve(".quarantine/kuromi/old.jpg")).exists();
+        assertThat(recent).exists();
+        assertThat(recentPart).exists();
+    }
+
+    @Test
+    @DisplayName("격리 폴더와 체크포인트 파일은 확인 대상에서 빠지는지 테스트")
+    void skipsReservedEntriesTest() throws Exception {
+        //given
+        givenFile(".quarantine/kuromi/old.jpg", GRACE_PERIOD.plusHours(1));
+        // 체크포인트 쓰기 도중 남은 임시 파일
+        givenFile(".reconcile-checkpoint.tmp", GRACE_PERIOD.plusHours(1));
+        givenFile("kuromi/old.jpg", GRACE_PERIOD.plusHours(1));
+        // 하위 폴더의 같은 이름은 예약 항목이 아님
+        givenFile("kuromi/.quarantine", GRACE_PERIOD.plusHours(1));
+
+        //when
+        OrphanFileReconciler reconciler = reconciler(10, false);
+        List<Path> first = reconciler.reconcile();
+        assertThat(root.resolve(".reconcile-checkpoint")).exists();
+        List<Path> second = reconciler.reconcile();
+
+        //then
+        assertThat(first).containsExactly(path("kuromi/.quarantine"), path("kuromi/old.jpg"));
+        // 체크포인트 파일이 생긴 뒤에도 자기 자신을 고아로 보지 않음
+        assertThat(second).isEmpty();
+        assertThat(root.resolve(".quarantine/kuromi/old.jpg")).exists();
+        assertThat(root.resolve(".quarantine/.reconcile-checkpoint.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("이어받기 파트 파일은 업로드 세션이 없을 때만, 나머지 임시 파일은 무조건 고아로 처리되는지 테스트")
+    void partFilesTest() throws Exception {
+        //given
+        uploadIds.add("live");
+        Path live = givenFile(".staging/uploads/live.part", GRACE_PERIOD.plusHours(1));
+        givenFile(".staging/uploads/dead.part", GRACE_PERIOD.plusHours(1));
+        givenFile(".staging/3fa2.jpg", GRACE_PERIOD.plusHours(1));
+
+        //when
+        List<Path> orphans = reconciler(10, false).reconcile();
+
+        //then
+        assertThat(orphans).containsExactly(path(".staging/3fa2.jpg"), path(".staging/uploads/dead.part"));
+        assertThat(live).exists();
+        verify(uploadSessionRepository).findExistingIds(argThat(ids -> Set.copyOf(ids).equals(Set.of("live", "dead"))));
+        verifyNoInteractions(photoBlobRepository);
+    }
+
+    @Test
+    @DisplayName("blobs 아래 파일은 photo_blobs 해시로, 리사이즈 이미지는 같은 폴더의 원본으로 판단하는지 테스트")
+    void blobFilesTest() throws Exception {
+        //given
+        blobHashes.add(LIVE_HASH);
+        storedFilenames.add("photo.jpg");
+        Path liveBlob = givenFile("blobs/aa/bb/" + LIVE_HASH + ".jpg", GRACE_PERIOD.plusHours(1));
+        Path liveVariant = givenFile("blobs/aa/bb/" + LIVE_HASH + "_w640.jpg", GRACE_PERIOD.plusHours(1));
+        givenFile("blobs/aa/bb/" + DEAD_HASH + ".jpg", GRACE_PERIOD.plusHours(1));
+        givenFile("blobs/aa/bb/" + DEAD_HASH + "_w640.jpg", GRACE_PERIOD.plusHours(1));
+        Path photo = givenFile("kuromi/photo.jpg", GRACE_PERIOD.plusHours(1));
+        // 이전 방식 사진은 파일명이 같아도 photo_blobs로 살리지 않음
+        givenFile("kuromi/" + LIVE_HASH + ".jpg", GRACE_PERIOD.plusHours(1));
+
+        //when
+        List<Path> orphans = reconciler(10, false).reconcile();
+
+        //then
+        assertThat(orphans).containsExactly(
+                path("blobs/aa/bb/" + DEAD_HASH + ".jpg"),
+                path("blobs/aa/bb/" + DEAD_HASH + "_w640.jpg"),
+                path("kuromi/" + LIVE_HASH + ".jpg"));
+        assertThat(liveBlob).exists();
+        assertThat(liveVariant).exists();
+        assertThat(photo).exists();
+        verify(photoBlobRepository).findExistingHashes(argThat(hashes -> Set.copyOf(hashes).equals(Set.of(LIVE_HASH, DEAD_HASH))));
+    }
+
+    @Test
+    @DisplayName("dry-run이면 고아 파일을 찾기만 하고 옮기거나 삭제하지 않는지 테스트")
+    void dryRunTest() throws Exception {
+        //given
+        Path orphan = givenFile("kuromi/old.jpg", GRACE_PERIOD.plusHours(1));
+        Path part = givenFile(".staging/uploads/dead.part", GRACE_PERIOD.plusHours(1));
+
+        //when
+        List<Path> orphans = reconciler(10, true, OrphanFileReconciler.Action.DELETE).reconcile();
+
+        //then
+        assertThat(orphans).containsExactly(path(".staging/uploads/dead.part"), path("kuromi/old.jpg"));
+        assertThat(orphan).exists();
+        assertThat(part).exists();
+        assertThat(root.resolve(".quarantine")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("삭제 모드면 격리 없이 고아 파일을 삭제하는지 테스트")
+    void deleteActionTest() throws Exception {
+        //given
+        Path orphan = givenFile("kuromi/old.jpg", GRACE_PERIOD.plusHours(1));
+
+        //when
+        List<Path> orphans = reconciler(10, false, OrphanFileReconciler.Action.DELETE).reconcile();
+
+        //then
+        assertThat(orphans).containsExactly(path("kuromi/old.jpg"));
+        assertThat(orphan).doesNotExist();
+        assertThat(root.resolve(".quarantine")).doesNotExist();
+    }
+
+    private OrphanFileReconciler reconciler(int batchSize, boolean dryRun) {
+        return reconciler(batchSize, dryRun, OrphanFileReconciler.Action.QUARANTINE);
+    }
+
+    private OrphanFileReconciler reconciler(int batchSize, boolean dryRun, OrphanFileReconciler.Action action) {
+        FileUploadConfig config = new FileUploadConfig();
+        config.setLocation(root.toString());
+        return new OrphanFileReconciler(travelPhotoRepository, photoBlobRepository, uploadSessionRepository,
+                config, batchSize, GRACE_PERIOD, action, dryRun, new SimpleMeterRegistry());
+    }
+
+    // 수정 시각이 age만큼 지난 파일 생성
+    private Path givenFile(String relative, Duration age) throws IOException {
+        Path file = root.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[]{1});
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+        return file;
+    }
+
+    private static Path path(String relative) {
+        return Path.of(relative);
+    }
+
+    private static List<String> existing(Collection<String> keys, Set<String> stored) {
+        return keys.stream().filter(stored::contains).toList();
+    }
+}
@@ -0,0 +1,381 @@
+package com.spring.toyproject.storage;
+
+import com.spring.toyproject.domain.entity.PhotoBlob;
+import com.spring.toyproject.domain.entity.TravelLog;
+import com.spring.toyproject.domain.entity.TravelPhoto;
+import com.spring.toyproject.domain.entity.Trip;
+import com.spring.toyproject.domain.entity.User;
+import com.spring.toyproject.repository.base.PhotoBlobRepository;
+import com.spring.toyproject.repository.base.TravelLogRepository;
+import com.spring.toyproject.repository.base.TravelPhotoRepository;
+import com.spring.toyproject.repository.base.TripRepository;
+import com.spring.toyproject.repository.base.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 내용 주소 저장소 참조 수 / GC 테스트
+ *
+ * acquire(ON DUPLICATE KEY UPDATE)와 release(CASE UPDATE)는 실제 SQL로 동작을 확인해야 하므로
+ * MariaDB 호환 모드의 H2와 임시 업로드 폴더로 스프링 컨텍스트를 띄워서 실제 트랜잭션으로 실행한다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:photo-blob-test;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class PhotoBlobReferenceTest {
+
+    private static final String HASH_A = "aa" + "0".repeat(62);
+    private static final String HASH_B = "bb" + "0".repeat(62);
+    private static final String HASH_C = "cc" + "0".repeat(62);
+    private static final Duration GRACE_PERIOD = Duration.ofHours(24);
+
+    private static final Path ROOT = createTempDirectory();
+
+    @DynamicPropertySource
+    static void uploadLocation(DynamicPropertyRegistry registry) {
+        registry.add("file.upload.location", ROOT::toString);
+        registry.add("file.upload.blob.gc-grace-period", () -> "24h");
+    }
+
+    @Autowired
+    private PhotoStorage photoStorage;
+    @Autowired
+    private PhotoBlobCollector photoBlobCollector;
+    @Autowired
+    private PhotoBlobRepository photoBlobRepository;
+    @Autowired
+    private TravelPhotoRepository travelPhotoRepository;
+    @Autowired
+    private TravelLogRepository travelLogRepository;
+    @Autowired
+    private TripRepository tripRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        travelPhotoRepository.deleteAllInBatch();
+        travelLogRepository.deleteAllInBatch();
+        tripRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        photoBlobRepository.deleteAllInBatch();
+        FileSystemUtils.deleteRecursively(ROOT.resolve("blobs"));
+    }
+
+    @AfterAll
+    static void cleanUp() throws IOException {
+        FileSystemUtils.deleteRecursively(ROOT);
+    }
+
+    @Test
+    @DisplayName("처음 등록하면 참조 수 1로 추가되고, 같은 해시를 다시 등록하면 참조 수만 늘어나는지 테스트")
+    void acquireInsertsThenIncrementsTest() {
+        //when
+        acquire(HASH_A);
+        acquire(HASH_A);
+
+        //then
+        PhotoBlob blob = findBlob(HASH_A);
+        assertThat(blob.getRefCount()).isEqualTo(2);
+        assertThat(blob.getReleasedAt()).isNull();
+        assertThat(blob.getFilePath()).isEqualTo(PhotoStorage.blobUrlPath(HASH_A, ".png"));
+    }
+
+    @Test
+    @DisplayName("참조 수가 0이 될 때만 released_at이 기록되고, 0 아래로는 내려가지 않는지 테스트")
+    void releaseToZeroSetsReleasedAtTest() {
+        //given
+        acquire(HASH_A);
+        acquire(HASH_A);
+
+        //when //then
+        release(HASH_A);
+        assertThat(findBlob(HASH_A).getRefCount()).isEqualTo(1);
+        assertThat(findBlob(HASH_A).getReleasedAt()).isNull();
+
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        release(HASH_A);
+        PhotoBlob released = findBlob(HASH_A);
+        assertThat(released.getRefCount()).isZero();
+        assertThat(released.getReleasedAt()).isAfter(before);
+
+        // 이미 0이면 음수가 되지 않음
+        release(HASH_A, HASH_A);
+        assertThat(findBlob(HASH_A).getRefCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 해시가 여러 번 삭제되면 그만큼 한 번에 내려가는지 테스트")
+    void releaseDuplicateHashesTest() {
+        //given
+        acquire(HASH_A);
+        acquire(HASH_A);
+        acquire(HASH_A);
+        acquire(HASH_B);
+
+        //when
+        release(HASH_A, HASH_A, HASH_B);
+
+        //then
+        assertThat(findBlob(HASH_A).getRefCount()).isEqualTo(1);
+        assertThat(findBlob(HASH_A).getReleasedAt()).isNull();
+        assertThat(findBlob(HASH_B).getRefCount()).isZero();
+        assertThat(findBlob(HASH_B).getReleasedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("참조가 없어진 파일을 다시 등록하면 released_at이 지워지고 GC 대상에서 빠지는지 테스트")
+    void reacquireClearsReleasedAtTest() {
+        //given
+        acquire(HASH_A);
+        release(HASH_A);
+        releasedAgo(HASH_A, GRACE_PERIOD.plusHours(1));
+
+        //when
+        acquire(HASH_A);
+
+        //then
+        PhotoBlob blob = findBlob(HASH_A);
+        assertThat(blob.getRefCount()).isEqualTo(1);
+        assertThat(blob.getReleasedAt()).isNull();
+        assertThat(photoBlobRepository.findCollectableHashes(LocalDateTime.now(), Limit.of(10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 번의 store 호출에 같은 내용의 사진이 두 장이면 참조 수 2, 파일 하나로 저장되고 임시 파일이 남지 않는지 테스트")
+    void storeDuplicateHashInOneCallTest() throws Exception {
+        //given
+        Path source = Files.write(ROOT.resolve("source.png"), png());
+        StagedPhoto first = photoStorage.stageReceivedFile(source, "first.png", 1);
+        StagedPhoto second = photoStorage.stageReceivedFile(source, "second.png", 2);
+        assertThat(first.getContentHash()).isEqualTo(second.getContentHash());
+
+        //when
+        List<PhotoBlob> blobs = transactionTemplate.execute(status -> photoStorage.store(List.of(first, second)));
+
+        //then
+        assertThat(blobs).hasSize(2);
+        assertThat(blobs.get(0).getContentHash()).isEqualTo(blobs.get(1).getContentHash());
+
+        PhotoBlob blob = findBlob(first.getContentHash());
+        assertThat(blob.getRefCount()).isEqualTo(2);
+        assertThat(blob.getSize()).isEqualTo(Files.size(source));
+        assertThat(blobFiles()).containsExactly(storagePath(blob));
+        assertThat(first.getStagingPath()).doesNotExist();
+        assertThat(second.getStagingPath()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("롤백되면 참조 수가 늘지 않고 저장소 파일 없이 임시 파일만 정리되는지 테스트")
+    void storeRollbackTest() throws Exception {
+        //given
+        Path source = Files.write(ROOT.resolve("source.png"), png());
+        StagedPhoto staged = photoStorage.stageReceivedFile(source, "photo.png", 1);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            photoStorage.store(List.of(staged));
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(photoBlobRepository.findById(staged.getContentHash())).isEmpty();
+        assertThat(blobFiles()).isEmpty();
+        assertThat(staged.getStagingPath()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("유예시간이 지난 미참조 파일만 행과 리사이즈 이미지까지 삭제되는지 테스트")
+    void collectExpiredBlobTest() throws Exception {
+        //given
+        acquire(HASH_A); // 유예시간 지남
+        acquire(HASH_B); // 유예시간 안
+        acquire(HASH_C); // 참조 중
+        release(HASH_A, HASH_B);
+        releasedAgo(HASH_A, GRACE_PERIOD.plusHours(1));
+        releasedAgo(HASH_B, GRACE_PERIOD.minusHours(1));
+        Path blobA = givenBlobFile(HASH_A);
+        Path variantA = Files.write(blobA.resolveSibling(HASH_A + "_w640.jpg"), new byte[]{1});
+        Path blobB = givenBlobFile(HASH_B);
+        Path blobC = givenBlobFile(HASH_C);
+
+        //when
+        photoBlobCollector.collect();
+
+        //then
+        assertThat(photoBlobRepository.findById(HASH_A)).isEmpty();
+        assertThat(blobA).doesNotExist();
+        assertThat(variantA).doesNotExist();
+        assertThat(photoBlobRepository.findById(HASH_B)).isPresent();
+        assertThat(blobB).exists();
+        assertThat(photoBlobRepository.findById(HASH_C)).isPresent();
+        assertThat(blobC).exists();
+    }
+
+    @Test
+    @DisplayName("GC 대상 조회 이후 다시 참조된 파일은 잠금 후 재확인에서 걸러져 삭제되지 않는지 테스트")
+    void collectSkipsReacquiredBlobTest() throws Exception {
+        //given
+        acquire(HASH_A);
+        release(HASH_A);
+        releasedAgo(HASH_A, GRACE_PERIOD.plusHours(1));
+        Path blobA = givenBlobFile(HASH_A);
+
+        // 대상 조회 직후 다른 요청이 같은 내용을 업로드해서 커밋한 상황
+        PhotoBlobRepository racingRepository = mock(PhotoBlobRepository.class, delegatesTo(photoBlobRepository));
+        doAnswer(invocation -> {
+            List<String> hashes = photoBlobRepository.findCollectableHashes(
+                    invocation.getArgument(0), invocation.getArgument(1));
+            acquire(HASH_A);
+            return hashes;
+        }).when(racingRepository).findCollectableHashes(any(), any());
+
+        PhotoBlobCollector collector = new PhotoBlobCollector(racingRepository, travelPhotoRepository,
+                photoStorage, transactionTemplate, GRACE_PERIOD, new SimpleMeterRegistry());
+
+        //when
+        collector.collect();
+
+        //then
+        verify(racingRepository).findWithLockByContentHash(HASH_A);
+        PhotoBlob blob = findBlob(HASH_A);
+        assertThat(blob.getRefCount()).isEqualTo(1);
+        assertThat(blob.getReleasedAt()).isNull();
+        assertThat(blobA).exists();
+    }
+
+    @Test
+    @DisplayName("참조 수 점검 시 실제 사진 수와 다른 행만 보정되고, 0으로 보정되면 released_at이 기록되는지 테스트")
+    void repairReferencesTest() {
+        //given
+        acquire(HASH_A);
+        acquire(HASH_A);
+        acquire(HASH_A); // 기록 3, 실제 1
+        acquire(HASH_B); // 기록 1, 실제 0
+        acquire(HASH_C); // 기록 0, 실제 1
+        release(HASH_C);
+        TravelLog travelLog = givenTravelLog();
+        givenPhoto(travelLog, HASH_A, 1);
+        givenPhoto(travelLog, HASH_C, 2);
+
+        //when
+        photoBlobCollector.repairReferences();
+
+        //then
+        PhotoBlob blobA = findBlob(HASH_A);
+        assertThat(blobA.getRefCount()).isEqualTo(1);
+        assertThat(blobA.getReleasedAt()).isNull();
+
+        PhotoBlob blobB = findBlob(HASH_B);
+        assertThat(blobB.getRefCount()).isZero();
+        assertThat(blobB.getReleasedAt()).isNotNull();
+
+        PhotoBlob blobC = findBlob(HASH_C);
+        assertThat(blobC.getRefCount()).isEqualTo(1);
+        assertThat(blobC.getReleasedAt()).isNull();
+    }
+
+    private void acquire(String hash) {
+        transactionTemplate.executeWithoutResult(status ->
+                photoBlobRepository.acquire(hash, PhotoStorage.blobUrlPath(hash, ".png"), 1L));
+    }
+
+    private void release(String... hashes) {
+        transactionTemplate.executeWithoutResult(status -> photoStorage.release(List.of(hashes)));
+    }
+
+    // 참조가 없어진 시각을 과거로 옮김
+    private void releasedAgo(String hash, Duration ago) {
+        jdbcTemplate.update("UPDATE photo_blobs SET released_at = ? WHERE content_hash = ?",
+                LocalDateTime.now().minus(ago), hash);
+    }
+
+    private PhotoBlob findBlob(String hash) {
+        return photoBlobRepository.findById(hash).orElseThrow();
+    }
+
+    private Path givenBlobFile(String hash) throws IOException {
+        Path blobPath = storagePath(findBlob(hash));
+        Files.createDirectories(blobPath.getParent());
+        return Files.write(blobPath, new byte[]{1});
+    }
+
+    private Path storagePath(PhotoBlob blob) {
+        return ROOT.resolve(blob.getFilePath().substring("/uploads/".length())).normalize();
+    }
+
+    private List<Path> blobFiles() throws IOException {
+        Path blobs = ROOT.resolve("blobs");
+        if (!Files.exists(blobs)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(blobs)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private TravelLog givenTravelLog() {
+        User user = userRepository.save(User.builder()
+                .username("kuromi").email("kuromi@gmail.com").password("password").build());
+        Trip trip = tripRepository.save(Trip.builder().title("제주 여행").user(user).build());
+        return travelLogRepository.save(TravelLog.builder()
+                .trip(trip).title("바다").logDate(LocalDate.of(2024, 1, 1)).build());
+    }
+
+    private void givenPhoto(TravelLog travelLog, String hash, int displayOrder) {
+        travelPhotoRepository.save(TravelPhoto.builder()
+                .travelLog(travelLog)
+                .storedFilename(hash + ".png")
+                .originalFilename("photo.png")
+                .filePath(PhotoStorage.blobUrlPath(hash, ".png"))
+                .contentHash(hash)
+                .displayOrder(displayOrder)
+                .build());
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("photo-blob-test");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] png() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
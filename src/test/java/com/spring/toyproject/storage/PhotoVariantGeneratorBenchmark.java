@@ -0,0 +1,98 @@
+package com.spring.toyproject.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 리사이즈 이미지 생성 처리량 벤치마크 (기본 비활성)
+ * 실행: gradle test --tests '*PhotoVariantGeneratorBenchmark' -Dbenchmark=true
+ *
+ * 휴대폰 사진 크기(4000x3000) JPEG 원본에서 160/480/1280 리사이즈 이미지를 만들 때
+ * 작업 스레드 수(file.upload.variant.threads)별 초당 처리 사진 수를 출력한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PhotoVariantGeneratorBenchmark {
+
+    private static final List<Integer> WIDTHS = List.of(160, 480, 1280);
+    private static final int PHOTOS_PER_ROUND = 24;
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("작업 스레드 수별 리사이즈 이미지 생성 처리량 측정")
+    void throughputByThreads() throws Exception {
+        Path source = root.resolve("source.jpg");
+        ImageIO.write(photoLikeImage(4000, 3000), "jpg", source.toFile());
+        PhotoVariantGenerator generator = new PhotoVariantGenerator();
+
+        int round = 0;
+        for (int threads : new int[]{1, 2, 4}) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                    runRound(generator, executor, source, round++);
+                }
+                long elapsed = 0;
+                for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                    elapsed += runRound(generator, executor, source, round++);
+                }
+                double photosPerSecond = (double) PHOTOS_PER_ROUND * MEASURED_ROUNDS / (elapsed / 1e9);
+                System.out.printf("threads=%d  %.1f photos/s  (%.0f ms/photo)%n",
+                        threads, photosPerSecond, 1000 / photosPerSecond);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    // 매 라운드 새 폴더에 원본을 복사해서 이미 만들어진 리사이즈 이미지를 재사용하지 않도록 함
+    private long runRound(PhotoVariantGenerator generator, ExecutorService executor, Path source, int round) throws Exception {
+        Path dir = Files.createDirectories(root.resolve("round-" + round));
+        List<Path> originals = new ArrayList<>();
+        for (int i = 0; i < PHOTOS_PER_ROUND; i++) {
+            originals.add(Files.copy(source, dir.resolve(i + ".jpg")));
+        }
+
+        long start = System.nanoTime();
+        List<Future<List<Integer>>> results = new ArrayList<>();
+        for (Path original : originals) {
+            results.add(executor.submit(() -> generator.generate(original, WIDTHS)));
+        }
+        for (Future<List<Integer>> result : results) {
+            assertThat(result.get()).containsExactlyElementsOf(WIDTHS);
+        }
+        return System.nanoTime() - start;
+    }
+
+    // 단색 이미지는 JPEG 디코딩/인코딩이 비정상적으로 빠르므로 그라데이션과 도형으로 채움
+    private static BufferedImage photoLikeImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        g.fillRect(0, 0, width, height);
+        for (int i = 0; i < 400; i++) {
+            g.setColor(new Color((i * 37) % 256, (i * 91) % 256, (i * 53) % 256));
+            g.fillOval((i * 97) % width, (i * 61) % height, 40 + i % 200, 40 + i % 150);
+        }
+        g.dispose();
+        return image;
+    }
+}